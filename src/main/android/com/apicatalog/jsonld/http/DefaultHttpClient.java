@@ -1,17 +1,23 @@
 package com.apicatalog.jsonld.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -37,20 +43,70 @@ public class DefaultHttpClient implements HttpClient {
 
     @Override
     public HttpResponse send(URI targetUri, String requestProfile) throws JsonLdError {
+        return send(targetUri, requestProfile, Collections.emptyMap());
+    }
 
-        try {
-            final Request request = new Request.Builder()
-                    .header("Accept", requestProfile)
-                    .url(targetUri.toURL())
-                    .build();
+    @Override
+    public HttpResponse send(URI targetUri, String requestProfile, Map<String, String> headers) throws JsonLdError {
 
-            return new HttpResponseImpl(okHttpClient.newCall(request).execute());
+        try {
+            return new HttpResponseImpl(okHttpClient.newCall(request(targetUri, requestProfile, headers)).execute());
 
         } catch (IOException e) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
         }
     }
 
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(URI targetUri, String requestProfile) {
+        return sendAsync(targetUri, requestProfile, Collections.emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(URI targetUri, String requestProfile, Map<String, String> headers) {
+
+        final CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+
+        try {
+            okHttpClient.newCall(request(targetUri, requestProfile, headers)).enqueue(new Callback() {
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    result.completeExceptionally(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e));
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    // the body is received by the client thread, reading it does not block
+                    try (Response received = response) {
+                        result.complete(new HttpResponseImpl(received, new ByteArrayInputStream(received.body().bytes())));
+
+                    } catch (IOException e) {
+                        result.completeExceptionally(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e));
+                    }
+                }
+            });
+
+        } catch (IOException e) {
+            result.completeExceptionally(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e));
+        }
+
+        return result;
+    }
+
+    private static Request request(URI targetUri, String requestProfile, Map<String, String> headers) throws IOException {
+
+        final Request.Builder request = new Request.Builder()
+                .header("Accept", requestProfile)
+                .url(targetUri.toURL());
+
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            request.header(header.getKey(), header.getValue());
+        }
+
+        return request.build();
+    }
+
     public static final HttpClient defaultInstance() {
         return INSTANCE;
     }
@@ -71,8 +127,15 @@ public class DefaultHttpClient implements HttpClient {
 
         private Response response;
 
+        private InputStream body;
+
         public HttpResponseImpl(Response response) {
+            this(response, null);
+        }
+
+        HttpResponseImpl(Response response, InputStream body) {
             this.response = response;
+            this.body = body;
         }
 
         public int statusCode() {
@@ -81,7 +144,7 @@ public class DefaultHttpClient implements HttpClient {
 
         @Override
         public InputStream body() {
-            return response.body().byteStream();
+            return body != null ? body : response.body().byteStream();
         }
 
         @Override
@@ -104,6 +167,11 @@ public class DefaultHttpClient implements HttpClient {
             return firstValue(response.headers("location"));
         }
 
+        @Override
+        public Optional<String> header(String name) {
+            return Optional.ofNullable(response.header(name));
+        }
+
         private static <T> Optional<T> firstValue(List<T> l) {
             if (l == null || l.isEmpty()) {
                 return Optional.empty();
@@ -1,6 +1,7 @@
 package com.apicatalog.jsonld.loader;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -31,8 +32,21 @@ class DocumentResolver {
      * @throws JsonLdError
      */
     public DocumentReader<InputStream> getReader(MediaType contentType) throws JsonLdError {
+        return getReader(contentType, null, null);
+    }
 
-        DocumentReader<InputStream> reader = findReader(contentType);
+    /**
+     * Return a reader or throw {@link JsonLdError} if there is no reader nor fallbackContentType.
+     *
+     * @param contentType content type of the requested reader
+     * @param documentUrl URL of the document to read, an HTML reader extracts a script element identified by a fragment
+     * @param options options a document is requested with, an HTML reader selects script elements by
+     * @return a reader allowing to transform an input into {@link Document}
+     * @throws JsonLdError
+     */
+    public DocumentReader<InputStream> getReader(MediaType contentType, URI documentUrl, DocumentLoaderOptions options) throws JsonLdError {
+
+        DocumentReader<InputStream> reader = findReader(contentType, documentUrl, options);
 
         if (reader != null) {
             return reader;
@@ -40,7 +54,7 @@ class DocumentResolver {
 
         if (fallbackContentType != null) {
             LOGGER.log(Level.WARNING, "Content type [{0}] is not acceptable, trying again with [{1}].", new Object[] { contentType, fallbackContentType});
-            reader = findReader(fallbackContentType);
+            reader = findReader(fallbackContentType, documentUrl, options);
 
             if (reader != null) {
                 return reader;
@@ -51,6 +65,8 @@ class DocumentResolver {
                     + "'. Supported content types are ["
                     + MediaType.JSON_LD + ", "
                     + MediaType.JSON  + ", +json, "
+                    + MediaType.HTML + ", "
+                    + MediaType.XHTML + ", "
                     + (Rdf.canRead().stream().map(MediaType::toString).collect(Collectors.joining(", ")))
                     + "]"
                     );
@@ -60,7 +76,7 @@ class DocumentResolver {
         this.fallbackContentType = fallbackContentType;
     }
 
-    private static final DocumentReader<InputStream> findReader(final MediaType type) {
+    private static final DocumentReader<InputStream> findReader(final MediaType type, final URI documentUrl, final DocumentLoaderOptions options) {
 
         if (JsonDocument.accepts(type)) {
             return is ->  JsonDocument.of(type, is);
@@ -70,6 +86,10 @@ class DocumentResolver {
             return is -> RdfDocument.of(type, is);
         }
 
+        if (HtmlDocumentReader.accepts(type)) {
+            return new HtmlDocumentReader(documentUrl, options);
+        }
+
         return null;
     }
 }
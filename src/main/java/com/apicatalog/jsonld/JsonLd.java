@@ -24,6 +24,7 @@ import com.apicatalog.jsonld.api.FramingApi;
 import com.apicatalog.jsonld.api.FromRdfApi;
 import com.apicatalog.jsonld.api.ToRdfApi;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.RdfDocument;
 import com.apicatalog.jsonld.uri.UriUtils;
 import com.apicatalog.rdf.RdfDataset;
 
@@ -497,7 +498,8 @@ public final class JsonLd {
 
         assertNotNull(document, param);
 
-        if (!document.getRdfContent().isPresent()) {
+        // a lazily read document is not read until processed
+        if (!(document instanceof RdfDocument) && !document.getRdfContent().isPresent()) {
             throw new IllegalArgumentException("'" + param + "' is not not RDF document but [" + document.getContentType() + "].");
         }
     }
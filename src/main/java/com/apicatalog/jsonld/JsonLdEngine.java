@@ -0,0 +1,334 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld;
+
+import java.net.URI;
+import java.util.function.Consumer;
+
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.LRUDocumentCache;
+import com.apicatalog.jsonld.processor.CompactionProcessor;
+import com.apicatalog.jsonld.processor.ExpansionProcessor;
+import com.apicatalog.jsonld.processor.FlatteningProcessor;
+import com.apicatalog.jsonld.processor.FramingProcessor;
+import com.apicatalog.jsonld.processor.FromRdfProcessor;
+import com.apicatalog.jsonld.processor.ToRdfProcessor;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+
+/**
+ * A reusable JSON-LD processor configured once by an immutable snapshot of
+ * {@link JsonLdOptions}.
+ * <p>
+ * An engine owns thread-safe caches of remote contexts, processed contexts and
+ * inverse contexts, and optionally of loaded documents. The caches are shared
+ * by all the calls, so a context referenced by many documents is loaded,
+ * processed and inverted just once.
+ * </p>
+ * <p>
+ * All the methods are thread-safe. An engine is intended to be created once
+ * and shared, e.g. by a whole application.
+ * </p>
+ *
+ * <pre>
+ * JsonLdEngine engine = JsonLdEngine.with(options).documentCache(100).build();
+ *
+ * JsonArray expanded = engine.expand(document);
+ * </pre>
+ *
+ * @since 1.4.1
+ */
+public final class JsonLdEngine {
+
+    public static final int DEFAULT_CONTEXT_CACHE_SIZE = 256;
+
+    private final JsonLdOptions options;
+
+    private JsonLdEngine(final JsonLdOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Creates a new engine with default options.
+     *
+     * @return a new engine
+     */
+    public static final JsonLdEngine create() {
+        return with(new JsonLdOptions()).build();
+    }
+
+    /**
+     * Creates a new engine builder. The given options are copied when the
+     * engine is built, later changes of the options do not affect the engine.
+     *
+     * @param options to configure the engine with
+     * @return a new builder
+     */
+    public static final Builder with(final JsonLdOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options must not be null.");
+        }
+        return new Builder(options);
+    }
+
+    /**
+     * Expands the given document.
+     *
+     * @param document to expand
+     * @return the expanded document
+     * @throws JsonLdError if the expansion has failed
+     */
+    public JsonArray expand(final Document document) throws JsonLdError {
+        return ExpansionProcessor.expand(document, options, false);
+    }
+
+    /**
+     * Expands the referenced document.
+     *
+     * @param documentUri referencing a document to expand
+     * @return the expanded document
+     * @throws JsonLdError if the expansion has failed
+     */
+    public JsonArray expand(final URI documentUri) throws JsonLdError {
+        return ExpansionProcessor.expand(documentUri, options);
+    }
+
+    /**
+     * Compacts the given document using the context.
+     *
+     * @param document to compact
+     * @param context  to use when compacting
+     * @return the compacted document
+     * @throws JsonLdError if the compaction has failed
+     */
+    public JsonObject compact(final Document document, final Document context) throws JsonLdError {
+        return CompactionProcessor.compact(document, context, options);
+    }
+
+    /**
+     * Compacts the referenced document using the referenced context.
+     *
+     * @param documentUri referencing a document to compact
+     * @param contextUri  referencing a context to use when compacting
+     * @return the compacted document
+     * @throws JsonLdError if the compaction has failed
+     */
+    public JsonObject compact(final URI documentUri, final URI contextUri) throws JsonLdError {
+        return CompactionProcessor.compact(documentUri, contextUri, options);
+    }
+
+    /**
+     * Flattens the given document.
+     *
+     * @param document to flatten
+     * @return the flattened document
+     * @throws JsonLdError if the flattening has failed
+     */
+    public JsonStructure flatten(final Document document) throws JsonLdError {
+        return FlatteningProcessor.flatten(document, (Document) null, options);
+    }
+
+    /**
+     * Flattens the given document and compacts the result using the context.
+     *
+     * @param document to flatten
+     * @param context  to use when compacting the result
+     * @return the flattened document
+     * @throws JsonLdError if the flattening has failed
+     */
+    public JsonStructure flatten(final Document document, final Document context) throws JsonLdError {
+        return FlatteningProcessor.flatten(document, context, options);
+    }
+
+    /**
+     * Flattens the referenced document.
+     *
+     * @param documentUri referencing a document to flatten
+     * @return the flattened document
+     * @throws JsonLdError if the flattening has failed
+     */
+    public JsonStructure flatten(final URI documentUri) throws JsonLdError {
+        return FlatteningProcessor.flatten(documentUri, (Document) null, options);
+    }
+
+    /**
+     * Frames the given document using the frame.
+     *
+     * @param document to frame
+     * @param frame    to use
+     * @return the framed document
+     * @throws JsonLdError if the framing has failed
+     */
+    public JsonObject frame(final Document document, final Document frame) throws JsonLdError {
+        return FramingProcessor.frame(document, frame, options);
+    }
+
+    /**
+     * Frames the referenced document using the referenced frame.
+     *
+     * @param documentUri referencing a document to frame
+     * @param frameUri    referencing a frame to use
+     * @return the framed document
+     * @throws JsonLdError if the framing has failed
+     */
+    public JsonObject frame(final URI documentUri, final URI frameUri) throws JsonLdError {
+        return FramingProcessor.frame(documentUri, frameUri, options);
+    }
+
+    /**
+     * Transforms the given document into an RDF dataset.
+     *
+     * @param document to transform
+     * @return the RDF dataset
+     * @throws JsonLdError if the transformation has failed
+     */
+    public RdfDataset toRdf(final Document document) throws JsonLdError {
+        return ToRdfProcessor.toRdf(document, options);
+    }
+
+    /**
+     * Transforms the referenced document into an RDF dataset.
+     *
+     * @param documentUri referencing a document to transform
+     * @return the RDF dataset
+     * @throws JsonLdError if the transformation has failed
+     */
+    public RdfDataset toRdf(final URI documentUri) throws JsonLdError {
+        return ToRdfProcessor.toRdf(documentUri, options);
+    }
+
+    /**
+     * Transforms the given document and passes the N-Quads to the consumer as
+     * they are emitted, without collecting them into a dataset.
+     *
+     * @param document to transform
+     * @param consumer accepting the N-Quads
+     * @throws JsonLdError if the transformation has failed
+     */
+    public void toRdf(final Document document, final Consumer<RdfNQuad> consumer) throws JsonLdError {
+        ToRdfProcessor.toRdf(document, options, consumer, false);
+    }
+
+    /**
+     * Transforms the given RDF dataset into an expanded JSON-LD document.
+     *
+     * @param document an RDF dataset to transform
+     * @return the expanded document
+     * @throws JsonLdError if the transformation has failed
+     */
+    public JsonArray fromRdf(final Document document) throws JsonLdError {
+        return FromRdfProcessor.fromRdf(document, options);
+    }
+
+    /**
+     * Transforms the referenced RDF dataset into an expanded JSON-LD document.
+     *
+     * @param documentUri referencing an RDF dataset to transform
+     * @return the expanded document
+     * @throws JsonLdError if the transformation has failed
+     */
+    public JsonArray fromRdf(final URI documentUri) throws JsonLdError {
+        return FromRdfProcessor.fromRdf(documentUri, options);
+    }
+
+    /**
+     * Returns a copy of the options the engine has been configured with,
+     * including the engine caches and the document loader.
+     *
+     * @return a copy of the engine options
+     */
+    public JsonLdOptions getOptions() {
+        return new JsonLdOptions(options);
+    }
+
+    public static final class Builder {
+
+        private final JsonLdOptions options;
+
+        private int contextCacheSize;
+        private int documentCacheSize;
+
+        private Builder(final JsonLdOptions options) {
+            this.options = new JsonLdOptions(options);
+            this.contextCacheSize = DEFAULT_CONTEXT_CACHE_SIZE;
+            this.documentCacheSize = 0;
+        }
+
+        /**
+         * Set the maximum number of remote contexts, processed contexts and
+         * inverse contexts kept by the engine. Set <code>0</code> to disable the
+         * caching. The default size is {@value #DEFAULT_CONTEXT_CACHE_SIZE}.
+         *
+         * @param size the maximum number of entries per cache
+         * @return builder instance
+         */
+        public Builder contextCache(final int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("A cache size must be a non-negative number but was [" + size + "].");
+            }
+            this.contextCacheSize = size;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of documents loaded by the document loader kept
+         * by the engine. Set <code>0</code> to disable the caching, the default.
+         *
+         * @param size the maximum number of documents
+         * @return builder instance
+         */
+        public Builder documentCache(final int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("A cache size must be a non-negative number but was [" + size + "].");
+            }
+            this.documentCacheSize = size;
+            return this;
+        }
+
+        public JsonLdEngine build() {
+
+            final JsonLdOptions snapshot = new JsonLdOptions(options);
+
+            if (contextCacheSize > 0) {
+                snapshot.setContextCache(new ConcurrentCache<>(contextCacheSize));
+                snapshot.setActiveContextCache(new ConcurrentCache<>(contextCacheSize));
+                snapshot.setInverseContextCache(new ConcurrentCache<>(contextCacheSize));
+
+            } else {
+                snapshot.setContextCache(null);
+                snapshot.setActiveContextCache(null);
+                snapshot.setInverseContextCache(null);
+            }
+
+            // remote context documents are cached as processed contexts
+            snapshot.setDocumentCache(null);
+
+            final DocumentLoader loader = snapshot.getDocumentLoader();
+
+            if (loader != null && documentCacheSize > 0) {
+                snapshot.setDocumentLoader(new LRUDocumentCache(loader, documentCacheSize));
+            }
+
+            return new JsonLdEngine(snapshot);
+        }
+    }
+}
@@ -291,6 +291,14 @@ public enum JsonLdErrorCode {
     // Custom
     
     PROCESSING_TIMEOUT_EXCEEDED,
+
+    /**
+     * A document transformed as a stream is not stream-safe, <code>N-Quads</code>
+     * provided before the error are not valid.
+     *
+     * @since 1.4.1
+     */
+    NOT_STREAM_SAFE_DOCUMENT,
     
     UNSPECIFIED;
 
@@ -354,6 +362,7 @@ public enum JsonLdErrorCode {
         messages.put(INVALID_EMBEDDED_NODE, "An invalid embedded node has been detected.");
         messages.put(INVALID_ANNOTATION, "An invalid annotation has been detected");
         messages.put(PROCESSING_TIMEOUT_EXCEEDED, "A processing has exceeded a defined timeount");
+        messages.put(NOT_STREAM_SAFE_DOCUMENT, "A document is not stream-safe, already provided N-Quads are not valid");
 
         CODE_TO_MESSAGE = Collections.unmodifiableMap(messages);
     }
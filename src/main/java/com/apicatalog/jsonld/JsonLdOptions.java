@@ -17,9 +17,12 @@ package com.apicatalog.jsonld;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.context.InverseContext;
 import com.apicatalog.jsonld.context.cache.Cache;
-import com.apicatalog.jsonld.context.cache.LruCache;
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.json.JsonProvider;
@@ -83,7 +86,8 @@ public final class JsonLdOptions {
      */
     private Document expandContext;
 
-    private boolean extractAllScripts;
+    // null if not set, a default depends on an operation
+    private Boolean extractAllScripts;
 
     private boolean ordered;
 
@@ -120,6 +124,12 @@ public final class JsonLdOptions {
     // context cache
     private Cache<String, JsonValue> contextCache;
 
+    // processed context cache
+    private Cache<String, ActiveContext> activeContextCache;
+
+    // inverse context cache
+    private Cache<String, InverseContext> inverseContextCache;
+
     // document cache
     private Cache<String, Document> documentCache;
 
@@ -127,6 +137,12 @@ public final class JsonLdOptions {
     
     private Duration timeout;
 
+    private boolean contextPrefetch;
+
+    private int parallelThreshold;
+
+    private ForkJoinPool parallelPool;
+
     public JsonLdOptions() {
         this(SchemeRouter.defaultInstance());
     }
@@ -139,7 +155,7 @@ public final class JsonLdOptions {
         this.compactToRelative = true;
         this.documentLoader = loader;
         this.expandContext = null;
-        this.extractAllScripts = false;
+        this.extractAllScripts = null;
         this.ordered = false;
         this.processingMode = JsonLdVersion.V1_1;
         this.produceGeneralizedRdf = true;
@@ -159,10 +175,15 @@ public final class JsonLdOptions {
 
         // custom
         this.numericId = DEFAULT_NUMERIC_ID;
-        this.contextCache = new LruCache<>(256);
+        this.contextCache = new ConcurrentCache<>(256);
+        this.activeContextCache = new ConcurrentCache<>(256);
+        this.inverseContextCache = null;
         this.documentCache = null;
         this.uriValidation = DEFAULT_URI_VALIDATION;
         this.timeout = null;
+        this.contextPrefetch = false;
+        this.parallelThreshold = 0;
+        this.parallelPool = null;
     }
 
     public JsonLdOptions(JsonLdOptions options) {
@@ -192,9 +213,14 @@ public final class JsonLdOptions {
         // custom
         this.numericId = options.numericId;
         this.contextCache = options.contextCache;
+        this.activeContextCache = options.activeContextCache;
+        this.inverseContextCache = options.inverseContextCache;
         this.documentCache = options.documentCache;
         this.uriValidation = options.uriValidation;
         this.timeout = options.timeout;
+        this.contextPrefetch = options.contextPrefetch;
+        this.parallelThreshold = options.parallelThreshold;
+        this.parallelPool = options.parallelPool;
     }
 
     /**
@@ -256,7 +282,22 @@ public final class JsonLdOptions {
      * @return <code>true</code> if script extraction is enabled
      */
     public boolean isExtractAllScripts() {
-        return extractAllScripts;
+        return isExtractAllScripts(false);
+    }
+
+    /**
+     * Returns the extract all scripts flag if set, otherwise the given default.
+     * The flag defaults to <code>true</code> when flattening and converting to
+     * RDF, to <code>false</code> otherwise.
+     *
+     * @param defaultValue a value returned if the flag is not set
+     * @return <code>true</code> if script extraction is enabled
+     * @since 1.4.1
+     */
+    public boolean isExtractAllScripts(boolean defaultValue) {
+        return extractAllScripts != null
+                ? extractAllScripts
+                : defaultValue;
     }
 
     /**
@@ -440,6 +481,49 @@ public final class JsonLdOptions {
         this.contextCache = contextCache;
     }
 
+    /**
+     * A cache of fully processed remote contexts. A repeatedly referenced remote
+     * context is then resolved by a single lookup instead of being processed
+     * again.
+     *
+     * @return the cache or <code>null</code> if caching is disabled
+     */
+    public Cache<String, ActiveContext> getActiveContextCache() {
+        return activeContextCache;
+    }
+
+    /**
+     * Set a cache of fully processed remote contexts. Set <code>null</code> to
+     * disable the caching.
+     *
+     * @param activeContextCache a cache or <code>null</code>
+     */
+    public void setActiveContextCache(Cache<String, ActiveContext> activeContextCache) {
+        this.activeContextCache = activeContextCache;
+    }
+
+    /**
+     * A cache of inverse contexts created for cached processed contexts. A
+     * context used repeatedly for compaction is then inverted only once.
+     *
+     * @return the cache or <code>null</code> if caching is disabled
+     * @since 1.4.1
+     */
+    public Cache<String, InverseContext> getInverseContextCache() {
+        return inverseContextCache;
+    }
+
+    /**
+     * Set a cache of inverse contexts. Set <code>null</code> to disable the
+     * caching. Disabled by default.
+     *
+     * @param inverseContextCache a cache or <code>null</code>
+     * @since 1.4.1
+     */
+    public void setInverseContextCache(Cache<String, InverseContext> inverseContextCache) {
+        this.inverseContextCache = inverseContextCache;
+    }
+
     public Cache<String, Document> getDocumentCache() {
         return documentCache;
     }
@@ -523,4 +607,93 @@ public final class JsonLdOptions {
     public void setTimeout(Duration timeout) {
         this.timeout = timeout;
     }
-}
\ No newline at end of file
+
+    /**
+     * If enabled, all the remote contexts referenced by processed documents,
+     * including contexts imported or referenced by remote contexts, are
+     * requested concurrently before the processing reaches them.
+     * <p>
+     * Disabled by default.
+     * </p>
+     *
+     * @return <code>true</code> if remote contexts are prefetched
+     * @since 1.4.1
+     */
+    public boolean isContextPrefetch() {
+        return contextPrefetch;
+    }
+
+    /**
+     * Enable prefetching of remote contexts. When enabled, a processor collects
+     * <code>@context</code> and <code>@import</code> references and requests
+     * them concurrently, so the latency of loading many remote contexts is the
+     * longest chain of nested references instead of the sum of all requests.
+     * <p>
+     * Disabled by default.
+     * </p>
+     *
+     * @param enabled set <code>true</code> to prefetch remote contexts
+     * @since 1.4.1
+     */
+    public void setContextPrefetch(boolean enabled) {
+        this.contextPrefetch = enabled;
+    }
+
+    /**
+     * A minimal number of array items expanded in parallel. Items of a smaller
+     * array are expanded sequentially.
+     * <p>
+     * <code>0</code>, i.e. disabled, by default.
+     * </p>
+     *
+     * @return a number of array items, <code>0</code> if disabled
+     * @since 1.4.1
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Enable parallel expansion of large arrays, e.g. a top-level array or
+     * <code>@graph</code> members. Array items are expanded independently on
+     * {@link #getParallelPool()} and the expanded items keep the input order, so
+     * the result is the same as if expanded sequentially. A node map used by
+     * <code>toRdf</code> and <code>flatten</code> is built in parallel as well.
+     * <p>
+     * Caches set by the options must be thread-safe when enabled.
+     * </p>
+     *
+     * @param threshold a minimal number of array items to expand in parallel,
+     *                  <code>0</code> to disable
+     * @since 1.4.1
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("A parallel threshold must be a non-negative number but was " + threshold + ".");
+        }
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * A pool used to expand large arrays in parallel, <code>null</code> to use
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @return a pool or <code>null</code>
+     * @since 1.4.1
+     */
+    public ForkJoinPool getParallelPool() {
+        return parallelPool;
+    }
+
+    /**
+     * Set a pool used to expand large arrays in parallel.
+     *
+     * @param pool a pool or <code>null</code> to use
+     *             {@link ForkJoinPool#commonPool()}
+     * @see #setParallelThreshold(int)
+     * @since 1.4.1
+     */
+    public void setParallelPool(ForkJoinPool pool) {
+        this.parallelPool = pool;
+    }
+}
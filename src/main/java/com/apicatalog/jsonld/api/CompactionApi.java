@@ -16,12 +16,17 @@
 package com.apicatalog.jsonld.api;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
 import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.processor.AsyncProcessor;
 import com.apicatalog.jsonld.processor.CompactionProcessor;
 
 import jakarta.json.JsonObject;
@@ -187,4 +192,48 @@ public final class CompactionApi implements CommonApi<CompactionApi>, LoaderApi<
 
         throw new IllegalStateException();
     }
+
+    /**
+     * Get the result of compaction asynchronously. The processing runs on
+     * {@link ForkJoinPool#commonPool()}. With context prefetching enabled
+     * the input document, the context and
+     * remote contexts referenced by them are loaded by an
+     * {@link AsyncDocumentLoader} before the processing starts, otherwise
+     * remote contexts are loaded by the processing. A blocking document loader
+     * is called as {@link ForkJoinPool.ManagedBlocker}.
+     *
+     * @return a future completed by {@link JsonObject} representing compaction result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonObject> getAsync() {
+        return getAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get the result of compaction asynchronously.
+     *
+     * @param executor to process documents and to call a blocking document loader
+     * @return a future completed by {@link JsonObject} representing compaction result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonObject> getAsync(final Executor executor) {
+
+        if ((document == null && documentUri == null) || (context == null && contextUri == null)) {
+            throw new IllegalStateException();
+        }
+
+        final JsonLdOptions snapshot = new JsonLdOptions(options);
+
+        final CompletableFuture<Document> input = AsyncProcessor.loadDocument(document, documentUri, snapshot, executor);
+        final CompletableFuture<Document> remoteContext = AsyncProcessor.loadContext(context, contextUri, snapshot, executor);
+
+        final CompletableFuture<JsonLdOptions> prefetched = AsyncProcessor.prefetch(input, remoteContext, snapshot, executor);
+
+        return AsyncProcessor.process(
+                    prefetched,
+                    () -> CompactionProcessor.compact(input.join(), remoteContext.join(), prefetched.join()),
+                    executor);
+    }
 }
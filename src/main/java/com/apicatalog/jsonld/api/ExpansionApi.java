@@ -16,13 +16,18 @@
 package com.apicatalog.jsonld.api;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
 import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.processor.AsyncProcessor;
 import com.apicatalog.jsonld.processor.ExpansionProcessor;
 import com.apicatalog.jsonld.uri.UriUtils;
 
@@ -136,6 +141,46 @@ public final class ExpansionApi implements CommonApi<ExpansionApi>, LoaderApi<Ex
         throw new IllegalStateException();
     }
 
+    /**
+     * Get the result of the document expansion asynchronously. The processing runs on
+     * {@link ForkJoinPool#commonPool()}. With context prefetching enabled
+     * the input document and remote contexts
+     * referenced by it are loaded by an
+     * {@link AsyncDocumentLoader} before the processing starts, otherwise
+     * remote contexts are loaded by the processing. A blocking document loader
+     * is called as {@link ForkJoinPool.ManagedBlocker}.
+     *
+     * @return a future completed by {@link JsonArray} representing document expansion result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonArray> getAsync() {
+        return getAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get the result of the document expansion asynchronously.
+     *
+     * @param executor to process documents and to call a blocking document loader
+     * @return a future completed by {@link JsonArray} representing document expansion result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonArray> getAsync(final Executor executor) {
+
+        if (document == null && documentUri == null) {
+            throw new IllegalStateException();
+        }
+
+        final JsonLdOptions snapshot = new JsonLdOptions(options);
+
+        final CompletableFuture<Document> input = AsyncProcessor.loadDocument(document, documentUri, snapshot, executor);
+
+        final CompletableFuture<JsonLdOptions> prefetched = AsyncProcessor.prefetch(input, snapshot, executor);
+
+        return AsyncProcessor.process(prefetched, () -> ExpansionProcessor.expand(input.join(), prefetched.join(), false), executor);
+    }
+
     /**
      * Experimental: Accept numeric @id. Disabled by default.
      *
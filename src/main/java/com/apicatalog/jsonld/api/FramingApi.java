@@ -16,6 +16,9 @@
 package com.apicatalog.jsonld.api;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.apicatalog.jsonld.JsonLdEmbed;
 import com.apicatalog.jsonld.JsonLdError;
@@ -23,7 +26,9 @@ import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
 import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.processor.AsyncProcessor;
 import com.apicatalog.jsonld.processor.FramingProcessor;
 import com.apicatalog.jsonld.uri.UriUtils;
 
@@ -211,4 +216,48 @@ public final class FramingApi implements CommonApi<FramingApi>, LoaderApi<Framin
 
         throw new IllegalStateException();
     }
+
+    /**
+     * Get the result of framing asynchronously. The processing runs on
+     * {@link ForkJoinPool#commonPool()}. With context prefetching enabled
+     * the input document, the frame and
+     * remote contexts referenced by them are loaded by an
+     * {@link AsyncDocumentLoader} before the processing starts, otherwise
+     * remote contexts are loaded by the processing. A blocking document loader
+     * is called as {@link ForkJoinPool.ManagedBlocker}.
+     *
+     * @return a future completed by {@link JsonObject} representing framing result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonObject> getAsync() {
+        return getAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get the result of framing asynchronously.
+     *
+     * @param executor to process documents and to call a blocking document loader
+     * @return a future completed by {@link JsonObject} representing framing result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonObject> getAsync(final Executor executor) {
+
+        if ((document == null && documentUri == null) || (frame == null && frameUri == null)) {
+            throw new IllegalStateException();
+        }
+
+        final JsonLdOptions snapshot = new JsonLdOptions(options);
+
+        final CompletableFuture<Document> input = AsyncProcessor.loadDocument(document, documentUri, snapshot, executor);
+        final CompletableFuture<Document> remoteFrame = AsyncProcessor.loadContext(frame, frameUri, snapshot, executor);
+
+        final CompletableFuture<JsonLdOptions> prefetched = AsyncProcessor.prefetch(input, remoteFrame, snapshot, executor);
+
+        return AsyncProcessor.process(
+                    prefetched,
+                    () -> FramingProcessor.frame(input.join(), remoteFrame.join(), prefetched.join()),
+                    executor);
+    }
 }
\ No newline at end of file
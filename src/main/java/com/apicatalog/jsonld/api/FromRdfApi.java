@@ -16,12 +16,17 @@
 package com.apicatalog.jsonld.api;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
 import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.processor.AsyncProcessor;
 import com.apicatalog.jsonld.processor.FromRdfProcessor;
 import com.apicatalog.rdf.RdfDataset;
 
@@ -110,4 +115,39 @@ public final class FromRdfApi implements CommonApi<FromRdfApi>, LoaderApi<FromRd
 
         throw new IllegalStateException();
     }
+
+    /**
+     * Get the result of the RDF dataset transformation asynchronously. The processing runs on
+     * {@link ForkJoinPool#commonPool()}, the input document is loaded by an
+     * {@link AsyncDocumentLoader} before the processing starts. A blocking
+     * document loader is called as {@link ForkJoinPool.ManagedBlocker}.
+     *
+     * @return a future completed by {@link JsonArray} representing RDF dataset transformation result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonArray> getAsync() {
+        return getAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get the result of the RDF dataset transformation asynchronously.
+     *
+     * @param executor to process documents and to call a blocking document loader
+     * @return a future completed by {@link JsonArray} representing RDF dataset transformation result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<JsonArray> getAsync(final Executor executor) {
+
+        if (document == null && documentUri == null) {
+            throw new IllegalStateException();
+        }
+
+        final JsonLdOptions snapshot = new JsonLdOptions(options);
+
+        final CompletableFuture<Document> input = AsyncProcessor.loadRdf(document, documentUri, snapshot, executor);
+
+        return AsyncProcessor.process(input, () -> FromRdfProcessor.fromRdf(input.join(), snapshot), executor);
+    }
 }
@@ -16,6 +16,10 @@
 package com.apicatalog.jsonld.api;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
@@ -23,10 +27,13 @@ import com.apicatalog.jsonld.JsonLdOptions.RdfDirection;
 import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
 import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.processor.AsyncProcessor;
 import com.apicatalog.jsonld.processor.ToRdfProcessor;
 import com.apicatalog.jsonld.uri.UriUtils;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
 
 import jakarta.json.JsonStructure;
 
@@ -169,6 +176,89 @@ public final class ToRdfApi implements CommonApi<ToRdfApi>, LoaderApi<ToRdfApi>,
         throw new IllegalArgumentException();
     }
 
+    /**
+     * Get the result of the transformation into RDF dataset asynchronously. The processing runs on
+     * {@link ForkJoinPool#commonPool()}. With context prefetching enabled
+     * the input document and remote contexts
+     * referenced by it are loaded by an
+     * {@link AsyncDocumentLoader} before the processing starts, otherwise
+     * remote contexts are loaded by the processing. A blocking document loader
+     * is called as {@link ForkJoinPool.ManagedBlocker}.
+     *
+     * @return a future completed by {@link RdfDataset} representing transformation into RDF dataset result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<RdfDataset> getAsync() {
+        return getAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get the result of the transformation into RDF dataset asynchronously.
+     *
+     * @param executor to process documents and to call a blocking document loader
+     * @return a future completed by {@link RdfDataset} representing transformation into RDF dataset result
+     *
+     * @since 1.4.1
+     */
+    public CompletableFuture<RdfDataset> getAsync(final Executor executor) {
+
+        if (document == null && documentUri == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final JsonLdOptions snapshot = new JsonLdOptions(options);
+
+        // all scripts are extracted by default
+        snapshot.setExtractAllScripts(snapshot.isExtractAllScripts(true));
+
+        final CompletableFuture<Document> input = AsyncProcessor.loadDocument(document, documentUri, snapshot, executor);
+
+        final CompletableFuture<JsonLdOptions> prefetched = AsyncProcessor.prefetch(input, snapshot, executor);
+
+        return AsyncProcessor.process(prefetched, () -> ToRdfProcessor.toRdf(input.join(), prefetched.join()), executor);
+    }
+
+    /**
+     * Transform provided <code>JSON-LD</code> document and pass the resulting
+     * <code>N-Quads</code> to the given consumer as they are produced. Unlike
+     * {@link #get()}, no {@link RdfDataset} is materialized and duplicate
+     * <code>N-Quads</code> are not removed.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError
+     */
+    public void provide(Consumer<RdfNQuad> consumer) throws JsonLdError {
+        provide(consumer, false);
+    }
+
+    /**
+     * Transform provided <code>JSON-LD</code> document and pass the resulting
+     * <code>N-Quads</code> to the given consumer as they are produced.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @param deduplicate if <code>true</code> then each <code>N-Quad</code> is passed at most once
+     * @throws JsonLdError
+     */
+    public void provide(Consumer<RdfNQuad> consumer, boolean deduplicate) throws JsonLdError {
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("Parameter 'consumer' is null.");
+        }
+
+        if (documentUri != null) {
+            ToRdfProcessor.toRdf(documentUri, options, consumer, deduplicate);
+            return;
+        }
+
+        if (document != null) {
+            ToRdfProcessor.toRdf(document, options, consumer, deduplicate);
+            return;
+        }
+
+        throw new IllegalArgumentException();
+    }
+
     /**
      * Experimental: Accept numeric @id. Disabled by default.
      *
@@ -161,7 +161,7 @@ public final class Compaction {
             activeContext = activeContext
                     .newContext()
                     .overrideProtected(true)
-                    .create(activePropertyDefinition.get().getLocalContext(),
+                    .createScoped(activePropertyDefinition.get().getLocalContext(),
                             activePropertyDefinition.get().getBaseUrl());
         }
 
@@ -221,7 +221,7 @@ public final class Compaction {
                     activeContext = activeContext
                             .newContext()
                             .propagate(false)
-                            .create(termDefinition.get().getLocalContext(), termDefinition.get().getBaseUrl());
+                            .createScoped(termDefinition.get().getLocalContext(), termDefinition.get().getBaseUrl());
                 }
             }
         }
@@ -18,7 +18,6 @@ package com.apicatalog.jsonld.compaction;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -484,25 +483,10 @@ public final class UriCompaction {
         String compactUri = null;
 
         // 7.
-        for (Entry<String, TermDefinition> termEntry : activeContext.getTermsMapping().entrySet()) {
-
-            TermDefinition termDefinition = termEntry.getValue();
-
-            // 7.1.
-            if (termDefinition.getUriMapping() == null
-                    || variable.equals(termDefinition.getUriMapping())
-                    || !variable.startsWith(termDefinition.getUriMapping())
-                    || termDefinition.isNotPrefix()) {
-                continue;
-            }
-
-            // 7.2.
-            String compactUriCandidate = termEntry.getKey()
-                    .concat(":")
-                    .concat(variable.substring(termDefinition.getUriMapping().length()));
+        for (final String compactUriCandidate : activeContext.getPrefixIndex().find(variable)) {
 
             // 7.3.
-            if (((compactUri == null || (compactUriCandidate.compareTo(compactUri) < 0))
+            if (((compactUri == null || isLess(compactUriCandidate, compactUri))
                     && !activeContext.containsTerm(compactUriCandidate))
                     || (activeContext
                             .getTerm(compactUriCandidate)
@@ -543,4 +527,10 @@ public final class UriCompaction {
         // 11.
         return variable;
     }
+
+    // shorter or the same length but lexicographically less
+    private static final boolean isLess(final String candidate, final String compactUri) {
+        return candidate.length() < compactUri.length()
+                || (candidate.length() == compactUri.length() && candidate.compareTo(compactUri) < 0);
+    }
 }
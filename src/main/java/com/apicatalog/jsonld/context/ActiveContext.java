@@ -17,12 +17,13 @@ package com.apicatalog.jsonld.context;
 
 import java.net.URI;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.apicatalog.jsonld.compaction.UriCompaction;
 import com.apicatalog.jsonld.compaction.ValueCompaction;
+import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.expansion.UriExpansion;
 import com.apicatalog.jsonld.expansion.ValueExpansion;
 import com.apicatalog.jsonld.lang.DirectionType;
@@ -38,8 +39,11 @@ import jakarta.json.JsonObject;
 public final class ActiveContext {
 
     // the active term definitions which specify how keys and values have to be
-    // interpreted
-    private final Map<String, TermDefinition> terms;
+    // interpreted, shared with contexts derived from this context
+    private PersistentMap<String, TermDefinition> terms;
+
+    // the number of protected term definitions
+    private int protectedTerms;
 
     // the current base IRI
     private URI baseUri;
@@ -47,7 +51,12 @@ public final class ActiveContext {
     // the original base URL
     private URI baseUrl;
 
-    private InverseContext inverseContext;
+    // lazily derived state is volatile, a context is shared by threads
+    // expanding in parallel
+    private volatile InverseContext inverseContext;
+
+    // an index of prefix terms, derived on demand
+    private volatile PrefixIndex prefixIndex;
 
     // an optional previous context, used when a non-propagated context is defined.
     private ActiveContext previousContext;
@@ -61,6 +70,20 @@ public final class ActiveContext {
     // an optional default base direction ("ltr" or "rtl")
     private DirectionType defaultBaseDirection;
     
+    // a key identifying how the context has been derived, null if the context
+    // cannot be cached
+    private String cacheKey;
+
+    // true if the context has been derived using the base IRI or has set it
+    private boolean baseDependent;
+
+    // a key identifying the terms, the default language and base direction, i.e.
+    // the inverse context, null if the inverse context cannot be cached
+    private String inverseContextKey;
+
+    // contexts derived from this context by applying a scoped context
+    private volatile Map<Object, ActiveContext> scopedContexts;
+
     private final ProcessingRuntime runtime;
 
     public ActiveContext(final ProcessingRuntime runtime) {
@@ -75,13 +98,20 @@ public final class ActiveContext {
         this.baseUri = baseUri;
         this.baseUrl = baseUrl;
         this.previousContext = previousContext;
-        this.terms = new LinkedHashMap<>();
+        this.terms = PersistentMap.empty();
+        this.protectedTerms = 0;
         this.runtime = runtime;
     }
 
     // copy constructor
     public ActiveContext(final ActiveContext origin) {
-        this.terms = new LinkedHashMap<>(origin.terms);
+        this(origin, origin.runtime);
+    }
+
+    // copy constructor, binds a copy to the given runtime
+    public ActiveContext(final ActiveContext origin, final ProcessingRuntime runtime) {
+        this.terms = origin.terms;
+        this.protectedTerms = origin.protectedTerms;
         this.baseUri = origin.baseUri;
         this.baseUrl = origin.baseUrl;
         this.inverseContext = origin.inverseContext;
@@ -89,26 +119,68 @@ public final class ActiveContext {
         this.vocabularyMapping = origin.vocabularyMapping;
         this.defaultLanguage = origin.defaultLanguage;
         this.defaultBaseDirection = origin.defaultBaseDirection;
-        this.runtime = origin.runtime;
+        this.cacheKey = origin.cacheKey;
+        this.inverseContextKey = origin.inverseContextKey;
+        this.baseDependent = origin.baseDependent;
+        this.runtime = runtime;
     }
 
     public void createInverseContext() {
-        this.inverseContext = InverseContextBuilder.with(this).build();
-   }
+
+        final Cache<String, InverseContext> cache = runtime.getInverseContextCache();
+
+        // a cached context is shared, and so is its inverse context
+        if (inverseContextKey == null || cache == null) {
+            this.inverseContext = InverseContextBuilder.with(this).build();
+            return;
+        }
+
+        this.inverseContext = cache.get(inverseContextKey);
+
+        if (inverseContext == null) {
+            this.inverseContext = InverseContextBuilder.with(this).build();
+            cache.put(inverseContextKey, inverseContext);
+        }
+    }
 
     public boolean containsTerm(final String term) {
         return terms.containsKey(term);
     }
 
+    /**
+     * Returns <code>true</code> if the context does not define any term nor
+     * vocabulary mapping, default language and default base direction, i.e. the
+     * context is newly initialized.
+     *
+     * @return <code>true</code> if the context is empty
+     */
+    public boolean isEmpty() {
+        return terms.isEmpty()
+                && vocabularyMapping == null
+                && defaultLanguage == null
+                && defaultBaseDirection == null;
+    }
+
     public boolean containsProtectedTerm() {
-        return terms.values().stream().anyMatch(TermDefinition::isProtected);
+        return protectedTerms > 0;
     }
 
     protected Optional<TermDefinition> removeTerm(final String term) {
-        if (terms.containsKey(term)) {
-            return Optional.of(terms.remove(term));
+
+        final TermDefinition definition = terms.get(term);
+
+        if (definition == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+
+        terms = terms.minus(term);
+        prefixIndex = null;
+
+        if (definition.isProtected()) {
+            protectedTerms--;
+        }
+
+        return Optional.of(definition);
     }
 
     public Optional<TermDefinition> getTerm(final String value) {
@@ -141,12 +213,30 @@ public final class ActiveContext {
 
     public void setBaseUri(final URI baseUri) {
         this.baseUri = baseUri;
+        // derived contexts depend on the base IRI
+        this.cacheKey = null;
+        this.scopedContexts = null;
     }
 
     public InverseContext getInverseContext() {
         return inverseContext;
     }
 
+    /**
+     * An index of terms that can be used as a prefix when creating compact IRIs.
+     * The index is built once, on the first call.
+     *
+     * @return the prefix index
+     */
+    public PrefixIndex getPrefixIndex() {
+        PrefixIndex index = prefixIndex;
+        if (index == null) {
+            index = PrefixIndex.of(terms);
+            prefixIndex = index;
+        }
+        return index;
+    }
+
     public Map<String, TermDefinition> getTermsMapping() {
         return terms;
     }
@@ -207,8 +297,65 @@ public final class ActiveContext {
         this.inverseContext = inverseContext;
     }
 
+    protected String getCacheKey() {
+        return cacheKey;
+    }
+
+    protected void setCacheKey(final String cacheKey) {
+        this.cacheKey = cacheKey;
+        this.inverseContextKey = cacheKey;
+    }
+
+    protected boolean isBaseDependent() {
+        return baseDependent;
+    }
+
+    protected void setBaseDependent() {
+        this.baseDependent = true;
+    }
+
+    /**
+     * Binds a context derived independently of the base IRI to the given base
+     * IRI and original base URL, the cache key is kept.
+     */
+    protected void bindBase(final URI baseUri, final URI baseUrl) {
+        this.baseUri = baseUri;
+        this.baseUrl = baseUrl;
+    }
+
+    protected ActiveContext getScopedContext(final Object key) {
+        final Map<Object, ActiveContext> contexts = scopedContexts;
+        return contexts != null ? contexts.get(key) : null;
+    }
+
+    protected void setScopedContext(final Object key, final ActiveContext context) {
+
+        Map<Object, ActiveContext> contexts = scopedContexts;
+
+        if (contexts == null) {
+            synchronized (this) {
+                if (scopedContexts == null) {
+                    scopedContexts = new ConcurrentHashMap<>();
+                }
+                contexts = scopedContexts;
+            }
+        }
+        contexts.put(key, context);
+    }
+
     protected void setTerm(final String term, final TermDefinition definition) {
-        terms.put(term, definition);
+
+        final TermDefinition previous = terms.get(term);
+
+        terms = terms.plus(term, definition);
+        prefixIndex = null;
+
+        if (previous != null && previous.isProtected()) {
+            protectedTerms--;
+        }
+        if (definition.isProtected()) {
+            protectedTerms++;
+        }
     }
 
     @Override
@@ -20,11 +20,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.StringUtils;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.http.ProfileConstants;
@@ -108,6 +110,37 @@ public final class ActiveContextBuilder {
         return this;
     }
 
+    /**
+     * Creates a new context by applying a scoped context, i.e. a context
+     * associated with a term definition. A result is memoized by the active
+     * context, so the same scoped context is processed only once.
+     *
+     * @param localContext a scoped context
+     * @param baseUrl      a base URL associated with the term definition
+     * @return a new active context
+     * @throws JsonLdError if the scoped context is not valid
+     */
+    public ActiveContext createScoped(final JsonValue localContext, final URI baseUrl) throws JsonLdError {
+
+        if (!remoteContexts.isEmpty() || !validateScopedContext) {
+            return create(localContext, baseUrl);
+        }
+
+        final ScopedContextKey key = new ScopedContextKey(localContext, baseUrl, propagate, overrideProtected);
+
+        final ActiveContext scopedContext = activeContext.getScopedContext(key);
+
+        if (scopedContext != null) {
+            return scopedContext;
+        }
+
+        final ActiveContext context = create(localContext, baseUrl);
+
+        activeContext.setScopedContext(key, context);
+
+        return context;
+    }
+
     public ActiveContext create(final JsonValue localContext, final URI baseUrl) throws JsonLdError {
 
         // 1. Initialize result to the result of cloning active context, with inverse
@@ -162,6 +195,9 @@ public final class ActiveContextBuilder {
                         ? new ActiveContext(activeContext.getBaseUrl(), activeContext.getBaseUrl(), activeContext.runtime())
                         : new ActiveContext(activeContext.getBaseUrl(), activeContext.getBaseUrl(), result.getPreviousContext(), activeContext.runtime());
 
+                // the base IRI is reset to the original base URL
+                result.setBaseDependent();
+
                 // 5.1.3. Continue with the next context
                 continue;
             }
@@ -184,6 +220,9 @@ public final class ActiveContextBuilder {
             // 5.4. Otherwise, context is a context definition
             JsonObject contextDefinition = itemContext.asJsonObject();
 
+            // an inline context definition, the result cannot be cached
+            result.setCacheKey(null);
+
             final JsonValue version = contextDefinition.get(Keywords.VERSION);
 
             // 5.5. If context has an @version
@@ -285,6 +324,8 @@ public final class ActiveContextBuilder {
                 // 5.7.1
                 JsonValue value = contextDefinition.get(Keywords.BASE);
 
+                result.setBaseDependent();
+
                 // 5.7.2.
                 if (JsonUtils.isNull(value)) {
                     result.setBaseUri(null);
@@ -343,6 +384,11 @@ public final class ActiveContextBuilder {
 
                     if (StringUtils.isBlank(valueString) || BlankNode.hasPrefix(valueString) || UriUtils.isURI(valueString)) {
 
+                        // a relative vocabulary mapping is resolved against the base IRI
+                        if (!BlankNode.hasPrefix(valueString) && UriUtils.isNotAbsoluteUri(valueString, false)) {
+                            result.setBaseDependent();
+                        }
+
                         final String vocabularyMapping = result
                                 .uriExpansion()
                                 .vocab(true)
@@ -492,6 +538,35 @@ public final class ActiveContextBuilder {
 
         remoteContexts.add(contextKey);
 
+        // a fully processed context derived from the same origin
+        final String activeContextKey = activeContextKey(result, contextKey, true);
+
+        if (activeContextKey != null) {
+
+            ActiveContext cachedContext = activeContext.runtime().getActiveContextCache().get(activeContextKey(result, contextKey, false));
+
+            final boolean bindBase = cachedContext != null;
+
+            if (cachedContext == null) {
+                cachedContext = activeContext.runtime().getActiveContextCache().get(activeContextKey);
+            }
+
+            if (cachedContext != null) {
+                final ActiveContext origin = result;
+
+                result = new ActiveContext(cachedContext, activeContext.runtime());
+                result.setPreviousContext(origin.getPreviousContext());
+
+                // a context derived independently of the base IRI is reused by any document
+                if (bindBase) {
+                    result.bindBase(origin.getBaseUri(), origin.getBaseUrl());
+                }
+                return;
+            }
+        }
+
+        final ActiveContext origin = result;
+
         // 5.2.4
         if (activeContext.runtime().getContextCache() != null
                 && activeContext.runtime().getContextCache().containsKey(contextKey) && !validateScopedContext) {
@@ -502,6 +577,8 @@ public final class ActiveContextBuilder {
                     .remoteContexts(new ArrayList<>(remoteContexts))
                     .validateScopedContext(validateScopedContext)
                     .create(cachedContext, contextUri);
+
+            cacheActiveContext(origin, contextKey);
             return;
         }
 
@@ -576,8 +653,103 @@ public final class ActiveContextBuilder {
                 result.runtime().getContextCache().put(contextKey, importedContext);
             }
 
+            cacheActiveContext(origin, contextKey);
+
         } catch (JsonLdError e) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, e);
         }
     }
+
+    /**
+     * Computes a key under which a result of applying a remote context to the
+     * given context is cached. A context is cacheable if it is a newly
+     * initialized context or it has been derived only by applying remote contexts
+     * to such a context. A result derived without using the base IRI is cached
+     * under a key not including the base IRI, so it is shared by all documents.
+     *
+     * @param context    a context the remote context is applied to
+     * @param contextKey an absolute remote context URL
+     * @param withBase   <code>true</code> to include the base IRI
+     * @return a key or <code>null</code> if the result cannot be cached
+     */
+    private String activeContextKey(final ActiveContext context, final String contextKey, final boolean withBase) {
+
+        if (activeContext.runtime().getActiveContextCache() == null) {
+            return null;
+        }
+
+        String originKey = context.getCacheKey();
+
+        if (originKey == null) {
+
+            if (!context.isEmpty()) {
+                return null;
+            }
+
+            originKey = (activeContext.runtime().isV10() ? JsonLdVersion.V1_0 : JsonLdVersion.V1_1)
+                    + " " + activeContext.runtime().isUriValidation();
+        }
+
+        if (withBase) {
+            originKey += " " + context.getBaseUri() + " " + context.getBaseUrl();
+        }
+
+        return originKey + " " + validateScopedContext + " " + contextKey;
+    }
+
+    private void cacheActiveContext(final ActiveContext origin, final String contextKey) {
+
+        final String activeContextKey = activeContextKey(origin, contextKey, result.isBaseDependent());
+
+        // do not cache a context that has replaced the previous context
+        if (activeContextKey == null || result.getPreviousContext() != origin.getPreviousContext()) {
+            result.setCacheKey(null);
+            return;
+        }
+
+        result.setCacheKey(activeContextKey);
+        activeContext.runtime().getActiveContextCache().put(activeContextKey, new ActiveContext(result));
+    }
+
+    /**
+     * Identifies a scoped context by the context value instance, a term
+     * definition holds the same value through the whole processing.
+     */
+    private static final class ScopedContextKey {
+
+        private final JsonValue localContext;
+
+        private final URI baseUrl;
+
+        private final boolean propagate;
+
+        private final boolean overrideProtected;
+
+        ScopedContextKey(JsonValue localContext, URI baseUrl, boolean propagate, boolean overrideProtected) {
+            this.localContext = localContext;
+            this.baseUrl = baseUrl;
+            this.propagate = propagate;
+            this.overrideProtected = overrideProtected;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(localContext) + Objects.hash(baseUrl, propagate, overrideProtected);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final ScopedContextKey other = (ScopedContextKey) obj;
+            return localContext == other.localContext
+                    && Objects.equals(baseUrl, other.baseUrl)
+                    && propagate == other.propagate
+                    && overrideProtected == other.overrideProtected;
+        }
+    }
 }
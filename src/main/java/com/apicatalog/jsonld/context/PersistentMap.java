@@ -0,0 +1,462 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable hash array mapped trie. An updated map shares all but the
+ * modified path with the original map, so deriving a map costs
+ * <code>O(log<sub>32</sub> n)</code> per change instead of a full copy.
+ * <p>
+ * Keys must not be <code>null</code>. Iteration order is not defined.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final Node root;
+
+    private final int size;
+
+    private PersistentMap(final Node root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map containing the given mapping in addition to all mappings of
+     * this map. An existing mapping of the key is replaced.
+     *
+     * @param key   a key, must not be <code>null</code>
+     * @param value a value
+     * @return a new map or this map if it already contains the same mapping
+     */
+    PersistentMap<K, V> plus(final K key, final V value) {
+
+        final boolean[] added = new boolean[1];
+
+        final Node node = (root != null ? root : BitmapNode.EMPTY).put(0, hash(key), key, value, added);
+
+        if (node == root) {
+            return this;
+        }
+
+        return new PersistentMap<>(node, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map containing all mappings of this map except the given key.
+     *
+     * @param key a key
+     * @return a new map or this map if the key is not present
+     */
+    PersistentMap<K, V> minus(final Object key) {
+
+        if (root == null) {
+            return this;
+        }
+
+        final Node node = root.remove(0, hash(key), key);
+
+        if (node == root) {
+            return this;
+        }
+
+        return node != null ? new PersistentMap<>(node, size - 1) : empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(final Object key) {
+
+        if (root == null || key == null) {
+            return null;
+        }
+
+        final Object value = root.find(0, hash(key), key);
+
+        return value != NOT_FOUND ? (V) value : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return root != null && key != null && root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static final int hash(final Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static final int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    /**
+     * A node keeps key/value pairs in an array. A <code>null</code> key denotes
+     * a sub-node stored as the value.
+     */
+    private abstract static class Node {
+
+        final Object[] array;
+
+        Node(final Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        abstract Node remove(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(final int bitmap, final Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(final int shift, final int hash, final Object key) {
+
+            final int bit = bit(hash, shift);
+
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+
+            final int index = 2 * index(bit);
+
+            final Object k = array[index];
+            final Object v = array[index + 1];
+
+            if (k == null) {
+                return ((Node) v).find(shift + 5, hash, key);
+            }
+
+            return key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        Node put(final int shift, final int hash, final Object key, final Object value, final boolean[] added) {
+
+            final int bit = bit(hash, shift);
+            final int index = 2 * index(bit);
+
+            if ((bitmap & bit) == 0) {
+
+                final Object[] newArray = new Object[array.length + 2];
+
+                System.arraycopy(array, 0, newArray, 0, index);
+                newArray[index] = key;
+                newArray[index + 1] = value;
+                System.arraycopy(array, index, newArray, index + 2, array.length - index);
+
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            final Object k = array[index];
+            final Object v = array[index + 1];
+
+            if (k == null) {
+                final Node node = ((Node) v).put(shift + 5, hash, key, value, added);
+                return node != v ? set(index + 1, node) : this;
+            }
+
+            if (key.equals(k)) {
+                return value != v ? set(index + 1, value) : this;
+            }
+
+            added[0] = true;
+
+            final Object[] newArray = array.clone();
+            newArray[index] = null;
+            newArray[index + 1] = create(shift + 5, k, v, hash, key, value);
+
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        Node remove(final int shift, final int hash, final Object key) {
+
+            final int bit = bit(hash, shift);
+
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            final int index = 2 * index(bit);
+
+            final Object k = array[index];
+            final Object v = array[index + 1];
+
+            if (k == null) {
+
+                final Node node = ((Node) v).remove(shift + 5, hash, key);
+
+                if (node == v) {
+                    return this;
+                }
+
+                if (node != null) {
+                    return set(index + 1, node);
+                }
+
+            } else if (!key.equals(k)) {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+
+            final Object[] newArray = new Object[array.length - 2];
+
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        private BitmapNode set(final int index, final Object value) {
+            final Object[] newArray = array.clone();
+            newArray[index] = value;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        private static Node create(final int shift, final Object key1, final Object value1, final int hash2, final Object key2, final Object value2) {
+
+            final int hash1 = hash(key1);
+
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+            }
+
+            final boolean[] added = new boolean[1];
+
+            return EMPTY
+                    .put(shift, hash1, key1, value1, added)
+                    .put(shift, hash2, key2, value2, added);
+        }
+    }
+
+    /**
+     * Keeps keys with the same hash.
+     */
+    private static final class CollisionNode extends Node {
+
+        final int hash;
+
+        CollisionNode(final int hash, final Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(final int shift, final int hash, final Object key) {
+
+            if (this.hash != hash) {
+                return NOT_FOUND;
+            }
+
+            final int index = indexOf(key);
+
+            return index != -1 ? array[index + 1] : NOT_FOUND;
+        }
+
+        @Override
+        Node put(final int shift, final int hash, final Object key, final Object value, final boolean[] added) {
+
+            if (this.hash != hash) {
+                return new BitmapNode(bit(this.hash, shift), new Object[] { null, this })
+                        .put(shift, hash, key, value, added);
+            }
+
+            final int index = indexOf(key);
+
+            if (index != -1) {
+
+                if (array[index + 1] == value) {
+                    return this;
+                }
+
+                final Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+
+            final Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node remove(final int shift, final int hash, final Object key) {
+
+            final int index = this.hash == hash ? indexOf(key) : -1;
+
+            if (index == -1) {
+                return this;
+            }
+
+            if (array.length == 2) {
+                return null;
+            }
+
+            final Object[] newArray = new Object[array.length - 2];
+
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+
+            return new CollisionNode(hash, newArray);
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        // 7 trie levels plus a collision node
+        private final Object[][] arrays = new Object[8][];
+        private final int[] indices = new int[8];
+        private int depth;
+
+        private Entry<K, V> next;
+
+        EntryIterator() {
+            this.depth = -1;
+
+            if (root != null) {
+                push(root.array);
+            }
+            advance();
+        }
+
+        private void push(final Object[] array) {
+            depth++;
+            arrays[depth] = array;
+            indices[depth] = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+
+            next = null;
+
+            while (depth >= 0) {
+
+                final Object[] array = arrays[depth];
+                final int index = indices[depth];
+
+                if (index >= array.length) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+
+                indices[depth] += 2;
+
+                if (array[index] == null) {
+                    push(((Node) array[index + 1]).array);
+                    continue;
+                }
+
+                next = new SimpleImmutableEntry<>((K) array[index], (V) array[index + 1]);
+                return;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            final Entry<K, V> entry = next;
+            advance();
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A trie of IRI mappings of terms that can be used as a prefix when creating
+ * compact IRIs. Candidates for an IRI are found in <code>O(IRI length)</code>
+ * regardless of the number of terms in an active context.
+ *
+ * @see <a href="https://www.w3.org/TR/json-ld11-api/#iri-compaction">IRI
+ *      Compaction, step 7.</a>
+ */
+public final class PrefixIndex {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Node root;
+
+    private PrefixIndex(final Node root) {
+        this.root = root;
+    }
+
+    public static final PrefixIndex of(final Map<String, TermDefinition> terms) {
+
+        final Node root = new Node();
+
+        for (final Map.Entry<String, TermDefinition> term : terms.entrySet()) {
+
+            final TermDefinition definition = term.getValue();
+
+            if (definition.getUriMapping() == null || definition.isNotPrefix()) {
+                continue;
+            }
+
+            Node node = root;
+
+            for (int i = 0; i < definition.getUriMapping().length(); i++) {
+                node = node.add(definition.getUriMapping().charAt(i));
+            }
+
+            node.addTerm(term.getKey());
+        }
+
+        root.sort();
+
+        return new PrefixIndex(root);
+    }
+
+    /**
+     * Returns compact IRI candidates for the given IRI, i.e. a prefix term
+     * followed by a colon and the rest of the IRI, for all prefix terms whose IRI
+     * mapping starts, but is not equal to, the given IRI. Candidates are ordered by
+     * IRI mapping length, and then by term.
+     *
+     * @param iri an IRI to compact
+     * @return compact IRI candidates, never <code>null</code>
+     */
+    public Collection<String> find(final String iri) {
+
+        Collection<String> candidates = Collections.emptyList();
+
+        Node node = root;
+
+        for (int index = 0; node != null && index < iri.length(); index++) {
+
+            if (node.terms != null) {
+
+                if (candidates.isEmpty()) {
+                    candidates = new ArrayList<>(node.terms.length);
+                }
+
+                final String suffix = iri.substring(index);
+
+                for (final String term : node.terms) {
+                    candidates.add(term.concat(":").concat(suffix));
+                }
+            }
+
+            node = node.get(iri.charAt(index));
+        }
+
+        return candidates;
+    }
+
+    private static final class Node {
+
+        // sorted children labels
+        char[] chars = NO_CHARS;
+        Node[] children = NO_NODES;
+
+        // terms mapped to a path ending by this node
+        String[] terms = null;
+
+        Node get(final char ch) {
+            final int index = Arrays.binarySearch(chars, ch);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node add(final char ch) {
+
+            int index = Arrays.binarySearch(chars, ch);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            index = -index - 1;
+
+            final char[] newChars = new char[chars.length + 1];
+            final Node[] newChildren = new Node[children.length + 1];
+
+            System.arraycopy(chars, 0, newChars, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+
+            newChars[index] = ch;
+            newChildren[index] = new Node();
+
+            System.arraycopy(chars, index, newChars, index + 1, chars.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            chars = newChars;
+            children = newChildren;
+
+            return newChildren[index];
+        }
+
+        void addTerm(final String term) {
+            if (terms == null) {
+                terms = new String[] { term };
+                return;
+            }
+            terms = Arrays.copyOf(terms, terms.length + 1);
+            terms[terms.length - 1] = term;
+        }
+
+        void sort() {
+            if (terms != null) {
+                Arrays.sort(terms);
+            }
+            for (final Node child : children) {
+                child.sort();
+            }
+        }
+    }
+}
@@ -7,4 +7,15 @@ public interface Cache<K, V> {
     V get(final K key);
 
     void put(final K key, V value);
+
+    /**
+     * Returns a snapshot of the cache statistics. Returns
+     * {@link CacheStats#EMPTY} if the cache does not record statistics.
+     *
+     * @return the cache statistics
+     * @since 1.4.1
+     */
+    default CacheStats stats() {
+        return CacheStats.EMPTY;
+    }
 }
@@ -0,0 +1,265 @@
+package com.apicatalog.jsonld.context.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A thread-safe, size bounded {@link Cache}. Entries are split into
+ * independently locked segments, each evicting the least recently used entries
+ * when its share of the maximum weight is exceeded.
+ * <p>
+ * An entry weight is <code>1</code> unless a weigher is set. Entries can
+ * expire after a fixed duration since they were written.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ *
+ * @since 1.4.1
+ */
+public final class ConcurrentCache<K, V> implements Cache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    // a minimal weight kept by a segment
+    private static final int MIN_SEGMENT_WEIGHT = 16;
+
+    private final Segment<K, V>[] segments;
+
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    private final long expireAfterWrite;
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+
+    /**
+     * Creates a new cache holding up to <code>maxCapacity</code> entries.
+     *
+     * @param maxCapacity the maximum number of entries
+     */
+    public ConcurrentCache(final int maxCapacity) {
+        this(maxCapacity, null, null);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxWeight        the maximum total weight of entries
+     * @param weigher          computes an entry weight, <code>null</code> to
+     *                         weigh all entries as <code>1</code>
+     * @param expireAfterWrite a duration after which an entry expires,
+     *                         <code>null</code> if entries do not expire
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentCache(final long maxWeight, final ToIntBiFunction<? super K, ? super V> weigher, final Duration expireAfterWrite) {
+
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("The maximum weight must be a non-negative number but was [" + maxWeight + "].");
+        }
+
+        int segmentCount = 1;
+
+        while (segmentCount < MAX_SEGMENTS && maxWeight / (segmentCount * 2) >= MIN_SEGMENT_WEIGHT) {
+            segmentCount *= 2;
+        }
+
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+
+        // segments' weights sum up to the maximum weight
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maxWeight / segmentCount + (i < maxWeight % segmentCount ? 1 : 0));
+        }
+
+        this.weigher = weigher;
+        this.expireAfterWrite = expireAfterWrite != null ? expireAfterWrite.toNanos() : -1;
+
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+
+        final Segment<K, V> segment = segment(key);
+
+        segment.lock();
+        try {
+            final Node<V> node = segment.map.get(key);
+
+            return node != null && !isExpired(node, System.nanoTime());
+
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V get(final K key) {
+
+        final Segment<K, V> segment = segment(key);
+
+        segment.lock();
+        try {
+            final Node<V> node = segment.map.get(key);
+
+            if (node == null) {
+                missCount.increment();
+                return null;
+            }
+
+            if (isExpired(node, System.nanoTime())) {
+                segment.map.remove(key);
+                segment.weight -= node.weight;
+
+                evictionCount.increment();
+                missCount.increment();
+                return null;
+            }
+
+            hitCount.increment();
+            return node.value;
+
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public void put(final K key, final V value) {
+
+        final Node<V> node = new Node<>(value, weigher != null ? weigher.applyAsInt(key, value) : 1, System.nanoTime());
+
+        if (node.weight < 0) {
+            throw new IllegalArgumentException("An entry weight must be a non-negative number but was [" + node.weight + "].");
+        }
+
+        final Segment<K, V> segment = segment(key);
+
+        segment.lock();
+        try {
+            final Node<V> previous = segment.map.put(key, node);
+
+            segment.weight += node.weight;
+
+            if (previous != null) {
+                segment.weight -= previous.weight;
+            }
+
+            evict(segment, node.writeTime);
+
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    /**
+     * The number of entries, including expired entries not yet removed.
+     *
+     * @return the number of entries
+     */
+    public long size() {
+
+        long size = 0;
+
+        for (final Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                size += segment.map.size();
+
+            } finally {
+                segment.unlock();
+            }
+        }
+        return size;
+    }
+
+    private void evict(final Segment<K, V> segment, final long now) {
+
+        final Iterator<Node<V>> it = segment.map.values().iterator();
+
+        while (it.hasNext() && segment.weight > segment.maxWeight) {
+
+            final Node<V> eldest = it.next();
+
+            it.remove();
+            segment.weight -= eldest.weight;
+            evictionCount.increment();
+        }
+
+        // expired entries are swept at most once per the expiration duration
+        if (expireAfterWrite < 0 || now - segment.sweepTime < expireAfterWrite) {
+            return;
+        }
+
+        segment.sweepTime = now;
+
+        // the eldest entries by access are not necessarily the eldest by write
+        final Iterator<Node<V>> expired = segment.map.values().iterator();
+
+        while (expired.hasNext()) {
+
+            final Node<V> node = expired.next();
+
+            if (isExpired(node, now)) {
+                expired.remove();
+                segment.weight -= node.weight;
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private boolean isExpired(final Node<V> node, final long now) {
+        return expireAfterWrite >= 0 && now - node.writeTime >= expireAfterWrite;
+    }
+
+    private Segment<K, V> segment(final Object key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static final class Node<V> {
+
+        final V value;
+        final int weight;
+        final long writeTime;
+
+        Node(final V value, final int weight, final long writeTime) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+    }
+
+    private static final class Segment<K, V> extends ReentrantLock {
+
+        private static final long serialVersionUID = -2376347120458451543L;
+
+        final long maxWeight;
+
+        final Map<K, Node<V>> map;
+
+        long weight;
+
+        long sweepTime;
+
+        Segment(final long maxWeight) {
+            this.maxWeight = maxWeight;
+            this.map = new LinkedHashMap<>(16, 0.75f, true);
+            this.weight = 0;
+            this.sweepTime = System.nanoTime();
+        }
+    }
+}
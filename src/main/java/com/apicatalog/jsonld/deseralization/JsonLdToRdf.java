@@ -15,8 +15,9 @@
  */
 package com.apicatalog.jsonld.deseralization;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,8 +32,8 @@ import com.apicatalog.jsonld.lang.Utils;
 import com.apicatalog.jsonld.uri.UriUtils;
 import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
 import com.apicatalog.rdf.RdfResource;
-import com.apicatalog.rdf.RdfTriple;
 import com.apicatalog.rdf.RdfValue;
 import com.apicatalog.rdf.lang.RdfConstants;
 
@@ -51,6 +52,8 @@ public final class JsonLdToRdf {
     private boolean produceGeneralizedRdf;
     private RdfDirection rdfDirection;
     private boolean uriValidation;
+    private boolean ordered;
+    private boolean deduplicate;
 
     private JsonLdToRdf(NodeMap nodeMap, RdfDataset dataset) {
         this.nodeMap = nodeMap;
@@ -59,12 +62,25 @@ public final class JsonLdToRdf {
         this.produceGeneralizedRdf = false;
         this.rdfDirection = null;
         this.uriValidation = JsonLdOptions.DEFAULT_URI_VALIDATION;
+        this.ordered = true;
+        this.deduplicate = false;
     }
 
     public static final JsonLdToRdf with(NodeMap nodeMap, RdfDataset dataset) {
         return new JsonLdToRdf(nodeMap, dataset);
     }
 
+    /**
+     * Creates a new instance that does not materialize a dataset. Use
+     * {@link #provide(Consumer)} to receive <code>N-Quads</code>.
+     *
+     * @param nodeMap a node map to convert
+     * @return builder instance
+     */
+    public static final JsonLdToRdf with(NodeMap nodeMap) {
+        return new JsonLdToRdf(nodeMap, null);
+    }
+
     public JsonLdToRdf produceGeneralizedRdf(boolean enable) {
         this.produceGeneralizedRdf = enable;
         return this;
@@ -75,10 +91,68 @@ public final class JsonLdToRdf {
         return this;
     }
 
+    /**
+     * If set to <code>true</code>, graphs, subjects and properties are processed
+     * in lexicographical order, otherwise in the order of the node map. Enabled by
+     * default.
+     *
+     * @param ordered <code>true</code> to sort graphs, subjects and properties
+     * @return builder instance
+     */
+    public JsonLdToRdf ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * If set to <code>true</code>, an <code>N-Quad</code> is provided at most
+     * once. Disabled by default.
+     * <p>
+     * Only quads sharing a subject and a graph name can be equal, so just quads
+     * of the subject being converted are kept in memory.
+     * </p>
+     *
+     * @param deduplicate <code>true</code> to skip duplicate quads
+     * @return builder instance
+     */
+    public JsonLdToRdf deduplicate(boolean deduplicate) {
+        this.deduplicate = deduplicate;
+        return this;
+    }
+
     public RdfDataset build() throws JsonLdError {
 
+        if (dataset == null) {
+            throw new IllegalStateException("A dataset is not set, use provide(Consumer) instead.");
+        }
+
+        provide(dataset::add);
+
+        return dataset;
+    }
+
+    /**
+     * Converts the node map and passes <code>N-Quads</code> to the given consumer
+     * as they are produced, without materializing a dataset.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError
+     */
+    public void provide(final Consumer<RdfNQuad> consumer) throws JsonLdError {
+
+        // quads of the current subject, used to skip duplicates
+        final Set<RdfNQuad> subjectQuads = deduplicate ? new HashSet<>() : null;
+
+        final Consumer<RdfNQuad> subjectConsumer = deduplicate
+                                                    ? nquad -> {
+                                                        if (subjectQuads.add(nquad)) {
+                                                            consumer.accept(nquad);
+                                                        }
+                                                    }
+                                                    : consumer;
+
         // 1.
-        for (final String graphName : Utils.index(nodeMap.graphs(), true)) {
+        for (final String graphName : Utils.index(nodeMap.graphs(), ordered)) {
 
             // 1.2.
             final RdfResource rdfGraphName;
@@ -103,7 +177,7 @@ public final class JsonLdToRdf {
             }
 
             // 1.3.
-            for (final String subject : Utils.index(nodeMap.subjects(graphName), true)) {
+            for (final String subject : Utils.index(nodeMap.subjects(graphName), ordered)) {
 
                 final RdfResource rdfSubject;
 
@@ -119,8 +193,12 @@ public final class JsonLdToRdf {
                     continue;
                 }
 
+                if (subjectQuads != null) {
+                    subjectQuads.clear();
+                }
+
                 // 1.3.2.
-                for (final String property : Utils.index(nodeMap.properties(graphName, subject), true)) {
+                for (final String property : Utils.index(nodeMap.properties(graphName, subject), ordered)) {
 
                     // 1.3.2.1.
                     if (Keywords.TYPE.equals(property)) {
@@ -145,7 +223,7 @@ public final class JsonLdToRdf {
                                 continue;
                             }
 
-                            dataset.add(Rdf.createNQuad(
+                            subjectConsumer.accept(Rdf.createNQuad(
                                                 rdfSubject,
                                                 Rdf.createIRI(RdfConstants.TYPE),
                                                 rdfObject,
@@ -173,33 +251,26 @@ public final class JsonLdToRdf {
                             // 1.3.2.5.
                             for (JsonValue item : nodeMap.get(graphName, subject, property).asJsonArray()) {
 
-                                // 1.3.2.5.1.
-                                final List<RdfTriple> listTriples = new ArrayList<>();
-
-                                // 1.3.2.5.2.
+                                // 1.3.2.5.1. - 1.3.2.5.2. list triples are emitted as they are produced,
+                                // their subjects are newly generated blank nodes
                                 ObjectToRdf
-                                        .with(item.asJsonObject(), listTriples, nodeMap)
+                                        .with(item.asJsonObject(), triple -> consumer.accept(Rdf.createNQuad(triple, rdfGraphName)), nodeMap)
                                         .rdfDirection(rdfDirection)
                                         .uriValidation(uriValidation)
                                         .build()
                                         .ifPresent(rdfObject ->
-                                                            dataset.add(Rdf.createNQuad(
+                                                            subjectConsumer.accept(Rdf.createNQuad(
                                                                         rdfSubject,
                                                                         rdfProperty,
                                                                         rdfObject,
                                                                         rdfGraphName
                                                                         )));
-                                // 1.3.2.5.3.
-                                listTriples.stream()
-                                            .map(triple -> Rdf.createNQuad(triple, rdfGraphName))
-                                            .forEach(dataset::add);
                             }
                         }
                     }
                 }
             }
         }
-        return dataset;
     }
 
     public JsonLdToRdf uriValidation(boolean uriValidation) {
@@ -15,8 +15,7 @@
  */
 package com.apicatalog.jsonld.deseralization;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 import com.apicatalog.jsonld.JsonLdError;
@@ -41,14 +40,14 @@ final class ListToRdf {
 
     // required
     private JsonArray list;
-    private List<RdfTriple> triples;
+    private Consumer<RdfTriple> triples;
     private NodeMap nodeMap;
 
     // optional
     private RdfDirection rdfDirection;
     private boolean uriValidation;
 
-    private ListToRdf(final JsonArray list, final List<RdfTriple> triples, NodeMap nodeMap) {
+    private ListToRdf(final JsonArray list, final Consumer<RdfTriple> triples, NodeMap nodeMap) {
         this.list = list;
         this.triples = triples;
         this.nodeMap = nodeMap;
@@ -58,7 +57,7 @@ final class ListToRdf {
         this.uriValidation = JsonLdOptions.DEFAULT_URI_VALIDATION;
     }
 
-    public static final ListToRdf with(final JsonArray list, final List<RdfTriple> triples, NodeMap nodeMap) {
+    public static final ListToRdf with(final JsonArray list, final Consumer<RdfTriple> triples, NodeMap nodeMap) {
         return new ListToRdf(list, triples, nodeMap);
     }
 
@@ -86,17 +85,14 @@ final class ListToRdf {
             final String subject = bnodes[index];
             index++;
 
-            // 3.1.
-            final List<RdfTriple> embeddedTriples = new ArrayList<>();
-
-            // 3.2.
+            // 3.1. - 3.2. embedded triples are emitted as they are produced
             ObjectToRdf
-                .with(item.asJsonObject(), embeddedTriples, nodeMap)
+                .with(item.asJsonObject(), triples, nodeMap)
                 .rdfDirection(rdfDirection)
                 .uriValidation(uriValidation)
                 .build()
                 .ifPresent(object ->
-                                triples.add(Rdf.createTriple(
+                                triples.accept(Rdf.createTriple(
                                                 Rdf.createBlankNode(subject),
                                                 Rdf.createIRI(RdfConstants.FIRST),
                                                 object)));
@@ -106,14 +102,11 @@ final class ListToRdf {
                                         : Rdf.createIRI(RdfConstants.NIL)
                                         ;
 
-            triples.add(Rdf.createTriple(
+            triples.accept(Rdf.createTriple(
                                     Rdf.createBlankNode(subject),
                                     Rdf.createIRI(RdfConstants.REST),
                                     rest
                                     ));
-
-            // 3.5.
-            triples.addAll(embeddedTriples);
         }
 
         // 4.
@@ -16,11 +16,8 @@
 package com.apicatalog.jsonld.deseralization;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +25,7 @@ import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdOptions.RdfDirection;
 import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.json.DoubleFormatter;
 import com.apicatalog.jsonld.json.JsonCanonicalizer;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.BlankNode;
@@ -59,21 +57,16 @@ final class ObjectToRdf {
 
     private static final Logger LOGGER = Logger.getLogger(ObjectToRdf.class.getName());
 
-    private static final DecimalFormat xsdNumberFormat =
-            new DecimalFormat("0.0##############E0", new DecimalFormatSymbols(Locale.ENGLISH));
-
-    static { xsdNumberFormat.setMinimumFractionDigits(1); }
-
     // required
     private JsonObject item;
-    private List<RdfTriple> triples;
+    private Consumer<RdfTriple> triples;
     private NodeMap nodeMap;
 
     // optional
     private RdfDirection rdfDirection;
     private boolean uriValidation;
 
-    private ObjectToRdf(JsonObject item, List<RdfTriple> triples, NodeMap nodeMap) {
+    private ObjectToRdf(JsonObject item, Consumer<RdfTriple> triples, NodeMap nodeMap) {
         this.item = item;
         this.triples = triples;
         this.nodeMap = nodeMap;
@@ -83,7 +76,7 @@ final class ObjectToRdf {
         this.uriValidation = JsonLdOptions.DEFAULT_URI_VALIDATION;
     }
 
-    public static final ObjectToRdf with(JsonObject item, List<RdfTriple> triples, NodeMap nodeMap) {
+    public static final ObjectToRdf with(JsonObject item, Consumer<RdfTriple> triples, NodeMap nodeMap) {
         return  new ObjectToRdf(item, triples, nodeMap);
     }
 
@@ -189,7 +182,7 @@ final class ObjectToRdf {
                     || number.bigDecimalValue().compareTo(BigDecimal.ONE.movePointRight(21)) >= 0
                     ) {
 
-                valueString = toXsdDouble(number.bigDecimalValue());
+                valueString = DoubleFormatter.toXsdDouble(number.bigDecimalValue());
 
                 if (datatype == null) {
                     datatype = XsdConstants.DOUBLE;
@@ -251,7 +244,7 @@ final class ObjectToRdf {
                 final RdfResource subject = Rdf.createBlankNode(blankNodeId);
 
                 // 13.3.2.
-                triples.add(Rdf.createTriple(
+                triples.accept(Rdf.createTriple(
                                     subject,
                                     Rdf.createIRI(RdfConstants.VALUE),
                                     Rdf.createString(valueString))
@@ -259,7 +252,7 @@ final class ObjectToRdf {
 
                 // 13.3.3.
                 if (item.containsKey(Keywords.LANGUAGE) && JsonUtils.isString(item.get(Keywords.LANGUAGE))) {
-                    triples.add(Rdf.createTriple(
+                    triples.accept(Rdf.createTriple(
                                     subject,
                                     Rdf.createIRI(RdfConstants.LANGUAGE),
                                     Rdf.createString(item.getString(Keywords.LANGUAGE).toLowerCase()))
@@ -267,7 +260,7 @@ final class ObjectToRdf {
                 }
 
                 // 13.3.4.
-                triples.add(Rdf.createTriple(
+                triples.accept(Rdf.createTriple(
                                     subject,
                                     Rdf.createIRI(RdfConstants.DIRECTION),
                                     Rdf.createString(item.getString(Keywords.DIRECTION)))
@@ -291,10 +284,6 @@ final class ObjectToRdf {
         return Optional.ofNullable(rdfLiteral);
     }
 
-    private static final String toXsdDouble(BigDecimal bigDecimal) {
-        return xsdNumberFormat.format(bigDecimal);
-    }
-
     public ObjectToRdf uriValidation(boolean uriValidation) {
         this.uriValidation = uriValidation;
         return this;
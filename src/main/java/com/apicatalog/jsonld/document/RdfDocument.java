@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.apicatalog.jsonld.JsonLdError;
@@ -27,6 +28,8 @@ import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.io.RdfReader;
 import com.apicatalog.rdf.io.error.RdfReaderException;
 import com.apicatalog.rdf.io.error.UnsupportedContentException;
 
@@ -35,9 +38,16 @@ import jakarta.json.JsonException;
 public final class RdfDocument implements Document {
 
     private final MediaType contentType;
-    private final RdfDataset dataset;
     private final String profile;
 
+    private RdfDataset dataset;
+
+    // a content source read on demand
+    private RdfReader reader;
+
+    // a content source read failure
+    private JsonLdError error;
+
     private URI documentUrl;
     private URI contentUrl;
 
@@ -45,6 +55,14 @@ public final class RdfDocument implements Document {
         this.contentType = type;
         this.profile = profile;
         this.dataset = dataset;
+        this.reader = null;
+    }
+
+    private RdfDocument(final MediaType type, final RdfReader reader) {
+        this.contentType = type;
+        this.profile = null;
+        this.dataset = null;
+        this.reader = reader;
     }
 
     /**
@@ -125,6 +143,29 @@ public final class RdfDocument implements Document {
         }
     }
 
+    /**
+     * Create a new document reading content lazily from the given
+     * {@link RdfReader}. Nothing is read until the content is requested, by
+     * {@link #read(Consumer)} without keeping statements in memory, or by
+     * {@link #readRdfContent()} as a whole.
+     *
+     * @param contentType of the content provided by the reader
+     * @param reader providing RDF content
+     * @return {@link RdfDocument} representing RDF document
+     *
+     * @since 1.4.1
+     */
+    public static final RdfDocument of(final MediaType contentType, final RdfReader reader) {
+
+        assertContentType(contentType);
+
+        if (reader == null) {
+            throw new IllegalArgumentException("RDF reader cannot be a null.");
+        }
+
+        return new RdfDocument(contentType, reader);
+    }
+
     public static final boolean accepts(final MediaType contentType) {
         return Rdf.canRead().contains(contentType);
     }
@@ -169,8 +210,96 @@ public final class RdfDocument implements Document {
         return Optional.ofNullable(profile);
     }
 
+    /**
+     * Pass the document statements to the given consumer. If the document wraps
+     * a reader which has not been read yet, statements are streamed as they are
+     * read, and the reader is consumed.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws JsonLdError if the content cannot be read or has already been
+     *                     streamed
+     *
+     * @since 1.4.1
+     */
+    public void read(final Consumer<RdfNQuad> consumer) throws JsonLdError {
+
+        if (dataset != null) {
+            dataset.toList().forEach(consumer);
+            return;
+        }
+
+        final RdfReader source = take();
+
+        try {
+            source.read(consumer);
+
+        } catch (JsonException | IOException | RdfReaderException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * Returns RDF content. Content of a lazily read document is read as a whole
+     * on the first call, and returned by the subsequent calls.
+     *
+     * @return RDF content
+     * @throws JsonLdError if the content cannot be read or has already been
+     *                     streamed by {@link #read(Consumer)}
+     *
+     * @since 1.4.1
+     */
+    public RdfDataset readRdfContent() throws JsonLdError {
+
+        if (dataset == null) {
+
+            final RdfReader source = take();
+
+            try {
+                dataset = source.readDataset();
+
+            } catch (JsonException | IOException | RdfReaderException e) {
+                throw fail(e);
+            }
+        }
+
+        return dataset;
+    }
+
+    /**
+     * Returns RDF content. Content of a lazily read document is read as a whole
+     * on the first call, the content is empty if it cannot be read or has
+     * already been streamed by {@link #read(Consumer)}, see
+     * {@link #readRdfContent()}.
+     */
     @Override
     public Optional<RdfDataset> getRdfContent() {
-        return Optional.of(dataset);
+        try {
+            return Optional.of(readRdfContent());
+
+        } catch (JsonLdError e) {
+            return Optional.empty();
+        }
+    }
+
+    // a reader can be read once, a read failure is reported by subsequent calls
+    private RdfReader take() throws JsonLdError {
+
+        if (error != null) {
+            throw error;
+        }
+
+        if (reader == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RDF content has already been read.");
+        }
+
+        final RdfReader source = reader;
+        reader = null;
+
+        return source;
+    }
+
+    private JsonLdError fail(final Exception e) {
+        error = new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        return error;
     }
 }
@@ -16,6 +16,10 @@
 package com.apicatalog.jsonld.expansion;
 
 import java.net.URI;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.context.ActiveContext;
@@ -84,20 +88,22 @@ public final class ArrayExpansion {
 
     public JsonArray expand() throws JsonLdError {
 
+        final int threshold = activeContext.runtime().getParallelThreshold();
+
+        // items expanded in advance, in parallel
+        final JsonValue[] items = threshold > 0 && element.size() >= threshold
+                                    ? expandParallel()
+                                    : null;
+
         final JsonArrayBuilder result = JsonProvider.instance().createArrayBuilder();
 
         // 5.2.
-        for (final JsonValue item : element) {
-            
-            activeContext.runtime().tick();
+        for (int index = 0; index < element.size(); index++) {
 
             // 5.2.1
-            JsonValue expanded = Expansion
-                    .with(activeContext, item, activeProperty, baseUrl)
-                    .frameExpansion(frameExpansion)
-                    .ordered(ordered)
-                    .fromMap(fromMap)
-                    .compute();
+            JsonValue expanded = items != null
+                                    ? items[index]
+                                    : expand(element.get(index));
 
             // 5.2.2
             if (JsonUtils.isArray(expanded)
@@ -125,4 +131,87 @@ public final class ArrayExpansion {
         // 5.3
         return result.build();
     }
+
+    private JsonValue expand(final JsonValue item) throws JsonLdError {
+
+        activeContext.runtime().tick();
+
+        return Expansion
+                .with(activeContext, item, activeProperty, baseUrl)
+                .frameExpansion(frameExpansion)
+                .ordered(ordered)
+                .fromMap(fromMap)
+                .compute();
+    }
+
+    // items are independent, the active context is shared
+    private JsonValue[] expandParallel() throws JsonLdError {
+
+        final JsonValue[] items = new JsonValue[element.size()];
+
+        final ForkJoinPool pool = activeContext.runtime().getParallelPool();
+
+        final ExpansionTask task = new ExpansionTask(items, 0, items.length, Math.max(1, items.length / (4 * pool.getParallelism())));
+
+        try {
+            // a nested array is expanded by the current worker
+            if (ForkJoinTask.getPool() == pool) {
+                task.invoke();
+
+            } else {
+                pool.invoke(task);
+            }
+
+        } catch (RuntimeException e) {
+
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof JsonLdError) {
+                    throw (JsonLdError) cause;
+                }
+            }
+            throw e;
+        }
+
+        return items;
+    }
+
+    private final class ExpansionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -1582479183734816357L;
+
+        private final JsonValue[] items;
+        private final int from;
+        private final int to;
+        private final int size;
+
+        ExpansionTask(final JsonValue[] items, final int from, final int to, final int size) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.size = size;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from > size) {
+
+                final int middle = (from + to) >>> 1;
+
+                invokeAll(
+                        new ExpansionTask(items, from, middle, size),
+                        new ExpansionTask(items, middle, to, size));
+                return;
+            }
+
+            for (int index = from; index < to; index++) {
+                try {
+                    items[index] = expand(element.get(index));
+
+                } catch (JsonLdError e) {
+                    throw new CompletionException(e);
+                }
+            }
+        }
+    }
 }
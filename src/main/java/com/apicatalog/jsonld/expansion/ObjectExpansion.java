@@ -144,7 +144,7 @@ public final class ObjectExpansion {
             activeContext = activeContext
                     .newContext()
                     .overrideProtected(true)
-                    .create(
+                    .createScoped(
                             propertyContext,
                             activeContext
                                     .getTerm(activeProperty)
@@ -240,7 +240,7 @@ public final class ObjectExpansion {
                     activeContext = activeContext
                             .newContext()
                             .propagate(false)
-                            .create(localContext.get(),
+                            .createScoped(localContext.get(),
                                     activeContext.getTerm(term)
                                             .map(TermDefinition::getBaseUrl)
                                             .orElse(null));
@@ -792,7 +792,7 @@ final class ObjectExpansion1314 {
 
                         mapContext = mapContext
                                 .newContext()
-                                .create(
+                                .createScoped(
                                         indexTermDefinition.get().getLocalContext(),
                                         indexTermDefinition.get().getBaseUrl());
                     }
@@ -986,7 +986,7 @@ final class ObjectExpansion1314 {
             activeContext = activeContext
                     .newContext()
                     .overrideProtected(true)
-                    .create(
+                    .createScoped(
                             propertyContext.get(),
                             activeContext
                                     .getTerm(activeProperty)
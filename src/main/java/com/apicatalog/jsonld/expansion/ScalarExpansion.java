@@ -70,7 +70,7 @@ public final class ScalarExpansion {
         if (propertyContext != null) {
             activeContext = activeContext
                                 .newContext()
-                                .create(
+                                .createScoped(
                                     propertyContext,
                                     activeContext.getTerm(activeProperty).map(TermDefinition::getBaseUrl).orElse(null)
                                 );
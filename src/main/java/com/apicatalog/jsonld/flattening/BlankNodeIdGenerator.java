@@ -15,7 +15,9 @@
  */
 package com.apicatalog.jsonld.flattening;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.apicatalog.jsonld.StringUtils;
@@ -28,15 +30,26 @@ public final class BlankNodeIdGenerator {
 
     private final Map<String, String> map;
 
+    private final String prefix;
+
+    // original names of issued identifiers, null if not named, if recorded
+    private final List<String> names;
+
     private Integer counter;
 
     public BlankNodeIdGenerator() {
+        this("_:b", false);
+    }
+
+    BlankNodeIdGenerator(final String prefix, final boolean record) {
         this.map = new HashMap<>();
+        this.prefix = prefix;
+        this.names = record ? new ArrayList<>() : null;
         this.counter = 0;
     }
 
     public String createIdentifier() {
-        return "_:b".concat(Integer.toString(counter++));
+        return issue(null);
     }
 
     public String createIdentifier(String identifier) {
@@ -49,11 +62,32 @@ public final class BlankNodeIdGenerator {
             return map.get(identifier);
         }
 
-        final String blankId = createIdentifier();
+        final String blankId = issue(identifier);
 
         map.put(identifier, blankId);
 
         return blankId;
     }
 
+    /**
+     * Original names of the issued identifiers in the order the identifiers
+     * have been issued, <code>null</code> for an identifier issued without a name.
+     *
+     * @return a list of names or <code>null</code> if not recorded
+     */
+    List<String> names() {
+        return names;
+    }
+
+    String prefix() {
+        return prefix;
+    }
+
+    private String issue(final String name) {
+        if (names != null) {
+            names.add(name);
+        }
+        return prefix.concat(Integer.toString(counter++));
+    }
+
 }
@@ -34,18 +34,33 @@ public final class Flattening {
     // required
     private JsonStructure element;
 
+    private NodeMap nodeMap;
+
     // optional
     private boolean ordered;
 
-    private Flattening(final JsonStructure element) {
+    private Flattening(final JsonStructure element, final NodeMap nodeMap) {
         this.element = element;
+        this.nodeMap = nodeMap;
 
         // default values
         this.ordered = false;
     }
 
     public static final Flattening with(final JsonStructure element) {
-        return new Flattening(element);
+        return new Flattening(element, null);
+    }
+
+    /**
+     * Flattens a node map already built from an expanded input, e.g. by
+     * {@link NodeMapBuilder}.
+     *
+     * @param nodeMap a node map to flatten
+     * @return {@link Flattening} instance
+     * @since 1.4.1
+     */
+    public static final Flattening with(final NodeMap nodeMap) {
+        return new Flattening(null, nodeMap);
     }
 
     public Flattening ordered(boolean ordered) {
@@ -55,11 +70,18 @@ public final class Flattening {
 
     public JsonArray flatten() throws JsonLdError {
 
-        // 1.
-        final NodeMap nodeMap = new NodeMap();
+        final NodeMap nodeMap;
 
-        // 2.
-        NodeMapBuilder.with(element, nodeMap).build();
+        if (this.nodeMap != null) {
+            nodeMap = this.nodeMap;
+
+        } else {
+            // 1.
+            nodeMap = new NodeMap();
+
+            // 2.
+            NodeMapBuilder.with(element, nodeMap).build();
+        }
 
         // 3.
         final Map<String, Map<String, JsonValue>> defaultGraph = nodeMap.get(Keywords.DEFAULT).orElseThrow(IllegalStateException::new);
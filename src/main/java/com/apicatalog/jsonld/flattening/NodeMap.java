@@ -33,11 +33,16 @@ public final class NodeMap {
 
     private final Map<String, Map<String, Map<String, JsonValue>>> index;
 
-    private final BlankNodeIdGenerator generator = new BlankNodeIdGenerator();
+    private final BlankNodeIdGenerator generator;
 
     public NodeMap() {
+        this(new BlankNodeIdGenerator());
+    }
+
+    NodeMap(final BlankNodeIdGenerator generator) {
         this.index = new LinkedHashMap<>();
         this.index.put(Keywords.DEFAULT, new LinkedHashMap<>());
+        this.generator = generator;
     }
 
     public void set(String graphName, String subject, String property, JsonValue value) {
@@ -84,6 +89,17 @@ public final class NodeMap {
         return Optional.ofNullable(index.get(graphName));
     }
 
+    /**
+     * Removes all the nodes. Issued blank node identifiers are kept, so a node
+     * added later gets the same identifier for the same blank node.
+     *
+     * @since 1.4.1
+     */
+    public void clear() {
+        index.clear();
+        index.put(Keywords.DEFAULT, new LinkedHashMap<>());
+    }
+
     public String createIdentifier(String name) {
         return generator.createIdentifier(name);
     }
@@ -92,6 +108,10 @@ public final class NodeMap {
         return generator.createIdentifier();
     }
 
+    BlankNodeIdGenerator generator() {
+        return generator;
+    }
+
     public Collection<String> graphs() {
         return index.keySet();
     }
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.flattening;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.lang.Keywords;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Builds a node map of expanded elements in parallel.
+ * <p>
+ * Elements are split into partitions mapped by workers into their own node
+ * maps. Blank node identifiers issued by a worker are relabeled in the order
+ * they would have been issued when mapping the elements sequentially, and
+ * nodes are merged by subjects. The result is the same as built by
+ * {@link NodeMapBuilder}, including blank node identifiers.
+ * </p>
+ *
+ * @since 1.4.1
+ */
+public final class ParallelNodeMapBuilder {
+
+    // required
+    private final JsonArray elements;
+    private final NodeMap nodeMap;
+
+    // optional
+    private ForkJoinPool pool;
+    private int partitions;
+
+    private ParallelNodeMapBuilder(final JsonArray elements, final NodeMap nodeMap) {
+        this.elements = elements;
+        this.nodeMap = nodeMap;
+
+        // default values
+        this.pool = null;
+        this.partitions = 0;
+    }
+
+    public static final ParallelNodeMapBuilder with(final JsonArray elements, final NodeMap nodeMap) {
+        return new ParallelNodeMapBuilder(elements, nodeMap);
+    }
+
+    /**
+     * A pool to build the node map with, {@link ForkJoinPool#commonPool()} if
+     * not set.
+     *
+     * @param pool a pool or <code>null</code>
+     * @return {@link ParallelNodeMapBuilder} instance
+     */
+    public ParallelNodeMapBuilder pool(final ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * A number of partitions the elements are split into, derived from the pool
+     * parallelism if not set.
+     *
+     * @param partitions a number of partitions, <code>0</code> to derive
+     * @return {@link ParallelNodeMapBuilder} instance
+     */
+    public ParallelNodeMapBuilder partitions(final int partitions) {
+        this.partitions = partitions;
+        return this;
+    }
+
+    public NodeMap build() throws JsonLdError {
+
+        final ForkJoinPool executor = pool != null ? pool : ForkJoinPool.commonPool();
+
+        final int count = Math.min(elements.size(), partitions > 0 ? partitions : 4 * executor.getParallelism());
+
+        if (count < 2) {
+            return NodeMapBuilder.with(elements, nodeMap).build();
+        }
+
+        // 1. map partitions
+        final NodeMap[] maps = new NodeMap[count];
+
+        invoke(executor, count, partition -> {
+
+            final NodeMap map = new NodeMap(new BlankNodeIdGenerator("_:p" + partition + ".", true));
+
+            for (int index = partition * elements.size() / count; index < (partition + 1) * elements.size() / count; index++) {
+                NodeMapBuilder.with(JsonUtils.toJsonArray(elements.get(index)), map).build();
+            }
+
+            maps[partition] = map;
+        });
+
+        // 2. relabel blank nodes in the sequential order
+        final List<Map<String, String>> labels = new ArrayList<>(count);
+
+        for (final NodeMap map : maps) {
+
+            final List<String> names = map.generator().names();
+            final String prefix = map.generator().prefix();
+
+            final Map<String, String> partitionLabels = new HashMap<>(names.size());
+
+            for (int index = 0; index < names.size(); index++) {
+                partitionLabels.put(
+                        prefix.concat(Integer.toString(index)),
+                        nodeMap.createIdentifier(names.get(index)));
+            }
+
+            labels.add(partitionLabels);
+        }
+
+        // 3. index nodes by subjects
+        final List<Subject> subjects = new ArrayList<>();
+        final Map<String, Map<String, Subject>> index = new LinkedHashMap<>();
+
+        for (final String graphName : nodeMap.graphs()) {
+            for (final String subject : nodeMap.subjects(graphName)) {
+                index(subjects, index, graphName, subject)
+                    .nodes.add(new PartitionNode(Collections.emptyMap(), nodeMap.get(graphName, subject)));
+            }
+        }
+
+        for (int partition = 0; partition < count; partition++) {
+
+            final Map<String, String> partitionLabels = labels.get(partition);
+
+            for (final String graphName : maps[partition].graphs()) {
+                for (final String subject : maps[partition].subjects(graphName)) {
+                    index(subjects, index, partitionLabels.getOrDefault(graphName, graphName), partitionLabels.getOrDefault(subject, subject))
+                        .nodes.add(new PartitionNode(partitionLabels, maps[partition].get(graphName, subject)));
+                }
+            }
+        }
+
+        // 4. merge nodes, sharded by subjects
+        final int shards = Math.min(subjects.size(), 4 * executor.getParallelism());
+
+        invoke(executor, shards, shard -> {
+            for (int at = shard * subjects.size() / shards; at < (shard + 1) * subjects.size() / shards; at++) {
+                subjects.get(at).merge();
+            }
+        });
+
+        for (final Subject subject : subjects) {
+            for (final Map.Entry<String, JsonValue> property : subject.merged.entrySet()) {
+                nodeMap.set(subject.graphName, subject.subject, property.getKey(), property.getValue());
+            }
+        }
+
+        return nodeMap;
+    }
+
+    private static final Subject index(final List<Subject> subjects, final Map<String, Map<String, Subject>> index, final String graphName, final String subject) {
+        return index
+                .computeIfAbsent(graphName, x -> new LinkedHashMap<>())
+                .computeIfAbsent(subject, x -> {
+                    final Subject node = new Subject(graphName, x);
+                    subjects.add(node);
+                    return node;
+                });
+    }
+
+    private static final void invoke(final ForkJoinPool pool, final int count, final Task task) throws JsonLdError {
+
+        final List<RecursiveAction> actions = new ArrayList<>(count);
+
+        for (int index = 0; index < count; index++) {
+
+            final int partition = index;
+
+            actions.add(new RecursiveAction() {
+
+                private static final long serialVersionUID = 5104512471916240542L;
+
+                @Override
+                protected void compute() {
+                    try {
+                        task.run(partition);
+
+                    } catch (JsonLdError e) {
+                        throw new CompletionException(e);
+                    }
+                }
+            });
+        }
+
+        final RecursiveAction all = new RecursiveAction() {
+
+            private static final long serialVersionUID = -3478318846226567301L;
+
+            @Override
+            protected void compute() {
+                invokeAll(actions);
+            }
+        };
+
+        try {
+            if (ForkJoinTask.getPool() == pool) {
+                all.invoke();
+
+            } else {
+                pool.invoke(all);
+            }
+
+        } catch (RuntimeException e) {
+
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof JsonLdError) {
+                    throw (JsonLdError) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int index) throws JsonLdError;
+    }
+
+    private static final class PartitionNode {
+
+        final Map<String, String> labels;
+        final Map<String, JsonValue> node;
+
+        PartitionNode(final Map<String, String> labels, final Map<String, JsonValue> node) {
+            this.labels = labels;
+            this.node = node;
+        }
+    }
+
+    private static final class Subject {
+
+        final String graphName;
+        final String subject;
+
+        // the subject nodes in the sequential order
+        final List<PartitionNode> nodes;
+
+        Map<String, JsonValue> merged;
+
+        Subject(final String graphName, final String subject) {
+            this.graphName = graphName;
+            this.subject = subject;
+            this.nodes = new ArrayList<>(1);
+        }
+
+        // the same rules as applied by NodeMapBuilder to an existing node
+        void merge() throws JsonLdError {
+
+            merged = new LinkedHashMap<>();
+
+            for (final PartitionNode partitionNode : nodes) {
+
+                for (final Map.Entry<String, JsonValue> entry : partitionNode.node.entrySet()) {
+
+                    final String property = partitionNode.labels.getOrDefault(entry.getKey(), entry.getKey());
+
+                    final JsonValue value = relabel(entry.getValue(), partitionNode.labels);
+
+                    final JsonValue existing = merged.get(property);
+
+                    if (existing == null) {
+                        merged.put(property, value);
+
+                    } else if (Keywords.ID.equals(property)) {
+                        continue;
+
+                    } else if (Keywords.INDEX.equals(property)) {
+                        throw new JsonLdError(JsonLdErrorCode.CONFLICTING_INDEXES);
+
+                    } else if (Keywords.TYPE.equals(property)) {
+
+                        final Set<JsonValue> types = new LinkedHashSet<>(existing.asJsonArray());
+                        types.addAll(value.asJsonArray());
+
+                        final JsonArrayBuilder array = JsonProvider.instance().createArrayBuilder();
+                        types.forEach(array::add);
+
+                        merged.put(property, array.build());
+
+                    } else {
+
+                        final JsonArrayBuilder array = JsonProvider.instance().createArrayBuilder(existing.asJsonArray());
+
+                        for (final JsonValue item : value.asJsonArray()) {
+
+                            // lists are never deduplicated
+                            if (JsonUtils.containsKey(item, Keywords.LIST)
+                                    || existing.asJsonArray().stream().noneMatch(e -> Objects.equals(e, item))) {
+                                array.add(item);
+                            }
+                        }
+
+                        merged.put(property, array.build());
+                    }
+                }
+            }
+        }
+    }
+
+    // returns the same instance if there is no blank node identifier to relabel
+    private static final JsonValue relabel(final JsonValue value, final Map<String, String> labels) {
+
+        if (labels.isEmpty()) {
+            return value;
+        }
+
+        if (JsonUtils.isString(value)) {
+
+            final String label = labels.get(((JsonString) value).getString());
+
+            return label != null
+                        ? JsonProvider.instance().createValue(label)
+                        : value;
+        }
+
+        if (JsonUtils.isArray(value)) {
+
+            final JsonArray array = value.asJsonArray();
+
+            JsonArrayBuilder builder = null;
+
+            for (int index = 0; index < array.size(); index++) {
+
+                final JsonValue item = array.get(index);
+                final JsonValue relabeled = relabel(item, labels);
+
+                if (builder == null && relabeled != item) {
+                    builder = JsonProvider.instance().createArrayBuilder();
+                    for (int i = 0; i < index; i++) {
+                        builder.add(array.get(i));
+                    }
+                }
+                if (builder != null) {
+                    builder.add(relabeled);
+                }
+            }
+
+            return builder != null ? builder.build() : value;
+        }
+
+        if (JsonUtils.isObject(value)) {
+
+            final JsonObject object = value.asJsonObject();
+
+            JsonObjectBuilder builder = null;
+
+            for (final Map.Entry<String, JsonValue> entry : object.entrySet()) {
+
+                // literals are never blank node identifiers
+                if (Keywords.VALUE.equals(entry.getKey())
+                        || Keywords.INDEX.equals(entry.getKey())
+                        || Keywords.LANGUAGE.equals(entry.getKey())
+                        || Keywords.DIRECTION.equals(entry.getKey())) {
+                    continue;
+                }
+
+                final JsonValue relabeled = relabel(entry.getValue(), labels);
+
+                if (relabeled != entry.getValue()) {
+                    if (builder == null) {
+                        builder = JsonProvider.instance().createObjectBuilder(object);
+                    }
+                    builder.add(entry.getKey(), relabeled);
+                }
+            }
+
+            return builder != null ? builder.build() : value;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,717 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
+
+/**
+ * An {@link HttpClient} caching responses according to HTTP caching rules.
+ * <p>
+ * A response is fresh for a duration set by <code>Cache-Control: max-age</code>
+ * or <code>Expires</code> header. A stale response is revalidated by a
+ * conditional request using <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code> headers, a body is not transferred again if
+ * the server replies <code>304 Not Modified</code>. <code>404</code> and
+ * <code>410</code> responses are cached for a short time.
+ * </p>
+ * <p>
+ * Permanent redirects, <code>301</code> and <code>308</code>, are cached
+ * heuristically if the freshness is not set. Other redirects, <code>302</code>,
+ * <code>303</code> and <code>307</code>, are cached only if the freshness is set
+ * explicitly.
+ * </p>
+ * <p>
+ * If a directory is set, successful responses and redirects are persisted and
+ * a new client using the same directory, e.g. after a restart, starts with a
+ * warm cache.
+ * </p>
+ * <p>
+ * A wrapped client must provide response headers by
+ * {@link HttpResponse#header(String)}, otherwise every request is sent.
+ * </p>
+ *
+ * <pre>
+ * DocumentLoader loader = new HttpLoader(
+ *          new CachingHttpClient(DefaultHttpClient.defaultInstance())
+ *                  .directory(Paths.get("contexts")));
+ * </pre>
+ *
+ * @since 1.4.1
+ */
+public final class CachingHttpClient implements HttpClient {
+
+    private static final Logger LOGGER = Logger.getLogger(CachingHttpClient.class.getName());
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    // the heuristic freshness limit for responses having Last-Modified only,
+    // and the freshness of permanent redirects not setting any
+    private static final long MAX_HEURISTIC_FRESHNESS = Duration.ofDays(1).toMillis();
+
+    private static final int FILE_MAGIC = 0x4A4C4443;
+    private static final int FILE_VERSION = 1;
+    private static final String FILE_SUFFIX = ".cache";
+
+    private static final String CACHE_CONTROL = "cache-control";
+    private static final String EXPIRES = "expires";
+    private static final String DATE = "date";
+    private static final String AGE = "age";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+    private static final String CONTENT_TYPE = "content-type";
+    private static final String LOCATION = "location";
+    private static final String LINK = "link";
+
+    // headers kept with a cached response
+    private static final String[] STORED_HEADERS = { CACHE_CONTROL, EXPIRES, DATE, AGE, ETAG, LAST_MODIFIED };
+
+    private final HttpClient client;
+
+    private final Clock clock;
+
+    private Cache<String, Entry> entries;
+
+    private Path directory;
+
+    private Duration negativeTtl;
+
+    public CachingHttpClient(final HttpClient client) {
+        this(client, Clock.systemUTC());
+    }
+
+    CachingHttpClient(final HttpClient client, final Clock clock) {
+        this.client = client;
+        this.clock = clock;
+        this.entries = new ConcurrentCache<>(DEFAULT_MAX_ENTRIES);
+        this.directory = null;
+        this.negativeTtl = DEFAULT_NEGATIVE_TTL;
+    }
+
+    /**
+     * Set a directory to persist cached responses to. The directory is created
+     * if it does not exist. Set <code>null</code> to keep responses in memory
+     * only, the default.
+     *
+     * @param directory a directory or <code>null</code>
+     * @return {@link CachingHttpClient} instance
+     */
+    public CachingHttpClient directory(final Path directory) {
+        this.directory = directory;
+        return this;
+    }
+
+    /**
+     * Set how long <code>404 Not Found</code> and <code>410 Gone</code>
+     * responses are cached if the response does not set the freshness. The
+     * default is {@link #DEFAULT_NEGATIVE_TTL}, set {@link Duration#ZERO} to
+     * disable the caching.
+     *
+     * @param ttl a duration
+     * @return {@link CachingHttpClient} instance
+     */
+    public CachingHttpClient negativeTtl(final Duration ttl) {
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("A duration must be a non-negative value but was [" + ttl + "].");
+        }
+        this.negativeTtl = ttl;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of responses kept in memory. The default is
+     * {@value #DEFAULT_MAX_ENTRIES}. Responses cached in memory so far are
+     * discarded, persisted responses are kept.
+     *
+     * @param size the maximum number of responses
+     * @return {@link CachingHttpClient} instance
+     */
+    public CachingHttpClient maxEntries(final int size) {
+        this.entries = new ConcurrentCache<>(size);
+        return this;
+    }
+
+    @Override
+    public HttpClient timeout(final Duration timeout) {
+        client.timeout(timeout);
+        return this;
+    }
+
+    @Override
+    public HttpResponse send(final URI targetUri, final String requestProfile) throws JsonLdError {
+        return send(targetUri, requestProfile, Collections.emptyMap());
+    }
+
+    @Override
+    public HttpResponse send(final URI targetUri, final String requestProfile, final Map<String, String> headers) throws JsonLdError {
+
+        final String key = key(targetUri, requestProfile);
+
+        final Entry entry = lookup(key);
+
+        if (entry != null && entry.isFresh(clock.millis())) {
+            return entry.response();
+        }
+
+        return update(key, entry, client.send(targetUri, requestProfile, conditional(entry, headers)));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(final URI targetUri, final String requestProfile) {
+        return sendAsync(targetUri, requestProfile, Collections.emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(final URI targetUri, final String requestProfile, final Map<String, String> headers) {
+
+        final String key = key(targetUri, requestProfile);
+
+        final Entry entry = lookup(key);
+
+        if (entry != null && entry.isFresh(clock.millis())) {
+            return CompletableFuture.completedFuture(entry.response());
+        }
+
+        return client
+                .sendAsync(targetUri, requestProfile, conditional(entry, headers))
+                .thenApply(response -> {
+                    try {
+                        return update(key, entry, response);
+
+                    } catch (JsonLdError e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    private static final Map<String, String> conditional(final Entry entry, final Map<String, String> headers) {
+
+        if (entry == null || entry.status != 200) {
+            return headers;
+        }
+
+        final Map<String, String> conditional = new LinkedHashMap<>(headers);
+
+        entry.header(ETAG).ifPresent(etag -> conditional.putIfAbsent("If-None-Match", etag));
+        entry.header(LAST_MODIFIED).ifPresent(modified -> conditional.putIfAbsent("If-Modified-Since", modified));
+
+        return conditional;
+    }
+
+    private HttpResponse update(final String key, final Entry entry, final HttpResponse response) throws JsonLdError {
+
+        final long now = clock.millis();
+
+        try {
+            // 304, the cached response is still valid
+            if (response.statusCode() == 304 && entry != null && entry.status == 200) {
+
+                response.close();
+
+                final Map<String, List<String>> headers = new LinkedHashMap<>(entry.headers);
+
+                headers.remove(DATE);
+                headers.remove(AGE);
+
+                for (final String name : STORED_HEADERS) {
+                    response.header(name).ifPresent(value -> headers.put(name, Collections.singletonList(value)));
+                }
+
+                final Entry revalidated = new Entry(key, entry.status, headers, entry.body, now + freshness(headers, now));
+
+                store(revalidated);
+
+                return revalidated.response();
+            }
+
+            final Map<String, List<String>> headers = headers(response);
+
+            final CacheControl cacheControl = CacheControl.of(headers);
+
+            if (cacheControl.noStore) {
+                return response;
+            }
+
+            if (response.statusCode() == 200) {
+
+                final byte[] body;
+
+                try (InputStream is = response.body()) {
+                    body = readAll(is);
+                }
+
+                response.close();
+
+                final Entry created = new Entry(key, 200, headers, body, now + freshness(headers, now));
+
+                store(created);
+
+                return created.response();
+            }
+
+            if (isRedirect(response.statusCode()) && headers.containsKey(LOCATION)) {
+
+                final boolean explicit = cacheControl.maxAge != null || headers.containsKey(EXPIRES);
+
+                // permanent redirects are cacheable by default, others only if the freshness is set
+                final long freshness = explicit || cacheControl.noCache
+                                            ? freshness(headers, now)
+                                            : isPermanentRedirect(response.statusCode())
+                                                    ? heuristicFreshness(headers, now)
+                                                    : 0;
+
+                if (freshness > 0) {
+
+                    response.close();
+
+                    final Entry redirect = new Entry(key, response.statusCode(), headers, new byte[0], now + freshness);
+
+                    store(redirect);
+
+                    return redirect.response();
+                }
+
+                return response;
+            }
+
+            if ((response.statusCode() == 404 || response.statusCode() == 410) && !negativeTtl.isZero()) {
+
+                response.close();
+
+                final long freshness = cacheControl.maxAge != null || headers.containsKey(EXPIRES)
+                                            ? freshness(headers, now)
+                                            : negativeTtl.toMillis();
+
+                final Entry negative = new Entry(key, response.statusCode(), Collections.emptyMap(), new byte[0], now + freshness);
+
+                // negative results are kept in memory only
+                entries.put(key, negative);
+
+                return negative.response();
+            }
+
+            return response;
+
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    private Entry lookup(final String key) {
+
+        final Entry entry = entries.get(key);
+
+        if (entry != null || directory == null) {
+            return entry;
+        }
+
+        final Entry persisted = read(key);
+
+        if (persisted != null) {
+            entries.put(key, persisted);
+        }
+
+        return persisted;
+    }
+
+    private void store(final Entry entry) {
+
+        entries.put(entry.key, entry);
+
+        if (directory != null) {
+            write(entry);
+        }
+    }
+
+    private Entry read(final String key) {
+
+        final Path file = directory.resolve(fileName(key));
+
+        try (DataInputStream is = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+
+            if (is.readInt() != FILE_MAGIC || is.readInt() != FILE_VERSION || !key.equals(is.readUTF())) {
+                return null;
+            }
+
+            final int status = is.readInt();
+            final long expiresAt = is.readLong();
+
+            final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+            for (int count = is.readInt(); count > 0; count--) {
+                headers.computeIfAbsent(is.readUTF(), name -> new ArrayList<>(1)).add(is.readUTF());
+            }
+
+            final byte[] body = new byte[is.readInt()];
+            is.readFully(body);
+
+            return new Entry(key, status, headers, body, expiresAt);
+
+        } catch (NoSuchFileException e) {
+            return null;
+
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Cannot read a cached response [" + file + "], ignored.", e);
+            return null;
+        }
+    }
+
+    private void write(final Entry entry) {
+
+        final String fileName = fileName(entry.key);
+
+        Path tmp = null;
+
+        try {
+            Files.createDirectories(directory);
+
+            tmp = Files.createTempFile(directory, fileName, ".tmp");
+
+            try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+
+                os.writeInt(FILE_MAGIC);
+                os.writeInt(FILE_VERSION);
+                os.writeUTF(entry.key);
+                os.writeInt(entry.status);
+                os.writeLong(entry.expiresAt);
+
+                os.writeInt(entry.headers.values().stream().mapToInt(List::size).sum());
+
+                for (final Map.Entry<String, List<String>> header : entry.headers.entrySet()) {
+                    for (final String value : header.getValue()) {
+                        os.writeUTF(header.getKey());
+                        os.writeUTF(value);
+                    }
+                }
+
+                os.writeInt(entry.body.length);
+                os.write(entry.body);
+            }
+
+            try {
+                Files.move(tmp, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot persist a cached response [" + entry.key + "].", e);
+
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    /* ignored */
+                }
+            }
+        }
+    }
+
+    private static final Map<String, List<String>> headers(final HttpResponse response) {
+
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+        response.contentType().ifPresent(value -> headers.put(CONTENT_TYPE, Collections.singletonList(value)));
+        response.location().ifPresent(value -> headers.put(LOCATION, Collections.singletonList(value)));
+
+        final Collection<String> links = response.links();
+
+        if (links != null && !links.isEmpty()) {
+            headers.put(LINK, new ArrayList<>(links));
+        }
+
+        for (final String name : STORED_HEADERS) {
+            response.header(name).ifPresent(value -> headers.put(name, Collections.singletonList(value)));
+        }
+
+        return headers;
+    }
+
+    /**
+     * Computes a freshness lifetime in milliseconds.
+     *
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2">RFC 9111, Freshness</a>
+     */
+    private static final long freshness(final Map<String, List<String>> headers, final long now) {
+
+        final CacheControl cacheControl = CacheControl.of(headers);
+
+        if (cacheControl.noCache) {
+            return 0;
+        }
+
+        final long date = first(headers, DATE).map(CachingHttpClient::parseDate).orElse(now);
+
+        long freshness;
+
+        if (cacheControl.maxAge != null) {
+            freshness = cacheControl.maxAge * 1000;
+
+        } else if (headers.containsKey(EXPIRES)) {
+            // an invalid date represents a time in the past
+            freshness = first(headers, EXPIRES).map(CachingHttpClient::parseDate).orElse(0L) - date;
+
+        } else if (headers.containsKey(LAST_MODIFIED)) {
+            freshness = Math.min((date - first(headers, LAST_MODIFIED).map(CachingHttpClient::parseDate).orElse(date)) / 10, MAX_HEURISTIC_FRESHNESS);
+
+        } else {
+            freshness = 0;
+        }
+
+        final Optional<String> age = first(headers, AGE);
+
+        if (age.isPresent()) {
+            try {
+                freshness -= Long.parseLong(age.get().trim()) * 1000;
+
+            } catch (NumberFormatException e) {
+                /* ignored */
+            }
+        }
+
+        return Math.max(0, freshness);
+    }
+
+    /**
+     * Computes a freshness lifetime of a permanent redirect not setting the
+     * freshness explicitly.
+     *
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.2">RFC 9111, Calculating Heuristic Freshness</a>
+     */
+    private static final long heuristicFreshness(final Map<String, List<String>> headers, final long now) {
+        return headers.containsKey(LAST_MODIFIED)
+                    ? freshness(headers, now)
+                    : MAX_HEURISTIC_FRESHNESS;
+    }
+
+    private static final boolean isRedirect(final int statusCode) {
+        return statusCode == 301 || statusCode == 302 || statusCode == 303 || statusCode == 307 || statusCode == 308;
+    }
+
+    private static final boolean isPermanentRedirect(final int statusCode) {
+        return statusCode == 301 || statusCode == 308;
+    }
+
+    private static final Long parseDate(final String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static final Optional<String> first(final Map<String, List<String>> headers, final String name) {
+        final List<String> values = headers.get(name);
+        return values != null && !values.isEmpty()
+                    ? Optional.of(values.get(0))
+                    : Optional.empty();
+    }
+
+    private static final String key(final URI targetUri, final String requestProfile) {
+        return targetUri.toString() + '\n' + requestProfile;
+    }
+
+    private static final String fileName(final String key) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+
+            final StringBuilder name = new StringBuilder(hash.length * 2 + FILE_SUFFIX.length());
+
+            for (final byte b : hash) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return name.append(FILE_SUFFIX).toString();
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final byte[] readAll(final InputStream is) throws IOException {
+
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        final byte[] buffer = new byte[8192];
+
+        int read;
+
+        while ((read = is.read(buffer)) != -1) {
+            os.write(buffer, 0, read);
+        }
+
+        return os.toByteArray();
+    }
+
+    private static final class CacheControl {
+
+        static final CacheControl EMPTY = new CacheControl();
+
+        boolean noStore;
+        boolean noCache;
+        Long maxAge;
+
+        static final CacheControl of(final Map<String, List<String>> headers) {
+
+            final List<String> values = headers.get(CACHE_CONTROL);
+
+            if (values == null || values.isEmpty()) {
+                return EMPTY;
+            }
+
+            final CacheControl cacheControl = new CacheControl();
+
+            for (final String value : values) {
+                for (final String directive : value.split(",")) {
+
+                    final String name = directive.trim().toLowerCase(Locale.ROOT);
+
+                    if ("no-store".equals(name)) {
+                        cacheControl.noStore = true;
+
+                    } else if (name.startsWith("no-cache")) {
+                        cacheControl.noCache = true;
+
+                    } else if (name.startsWith("max-age=")) {
+                        try {
+                            cacheControl.maxAge = Long.parseLong(name.substring("max-age=".length()).replace("\"", ""));
+
+                        } catch (NumberFormatException e) {
+                            // an invalid value represents a stale response
+                            cacheControl.maxAge = 0L;
+                        }
+                    }
+                }
+            }
+
+            return cacheControl;
+        }
+    }
+
+    private static final class Entry {
+
+        final String key;
+        final int status;
+        final Map<String, List<String>> headers;
+        final byte[] body;
+        final long expiresAt;
+
+        Entry(final String key, final int status, final Map<String, List<String>> headers, final byte[] body, final long expiresAt) {
+            this.key = key;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh(final long now) {
+            return now < expiresAt;
+        }
+
+        Optional<String> header(final String name) {
+            return first(headers, name);
+        }
+
+        HttpResponse response() {
+            return new CachedResponse(this);
+        }
+    }
+
+    private static final class CachedResponse implements HttpResponse {
+
+        private final Entry entry;
+
+        CachedResponse(final Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public int statusCode() {
+            return entry.status;
+        }
+
+        @Override
+        public InputStream body() {
+            return new ByteArrayInputStream(entry.body);
+        }
+
+        @Override
+        public Collection<String> links() {
+            return entry.headers.getOrDefault(LINK, Collections.emptyList());
+        }
+
+        @Override
+        public Optional<String> contentType() {
+            return entry.header(CONTENT_TYPE);
+        }
+
+        @Override
+        public Optional<String> location() {
+            return entry.header(LOCATION);
+        }
+
+        @Override
+        public Optional<String> header(final String name) {
+            return entry.header(name.toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        public void close() {
+            /* nothing to close */
+        }
+    }
+}
@@ -2,13 +2,80 @@ package com.apicatalog.jsonld.http;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.apicatalog.jsonld.JsonLdError;
 
 public interface HttpClient {
 
     HttpResponse send(URI targetUri, String requestProfile) throws JsonLdError;
-    
+
+    /**
+     * Send a request with additional headers, e.g. conditional request headers.
+     * <p>
+     * The default implementation ignores the headers and calls
+     * {@link #send(URI, String)}.
+     * </p>
+     *
+     * @param targetUri      a request target
+     * @param requestProfile an accept header value
+     * @param headers        additional request headers
+     * @return a response
+     * @throws JsonLdError if the request has failed
+     *
+     * @since 1.4.1
+     */
+    default HttpResponse send(URI targetUri, String requestProfile, Map<String, String> headers) throws JsonLdError {
+        return send(targetUri, requestProfile);
+    }
+
+    /**
+     * Send a request asynchronously. A returned future is completed
+     * exceptionally by {@link JsonLdError} if the request has failed.
+     * <p>
+     * The default implementation calls {@link #send(URI, String)} and blocks a
+     * calling thread.
+     * </p>
+     *
+     * @param targetUri      a request target
+     * @param requestProfile an accept header value
+     * @return a future completed by a response with a fully received body
+     *
+     * @since 1.4.1
+     */
+    default CompletableFuture<HttpResponse> sendAsync(URI targetUri, String requestProfile) {
+
+        final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+
+        try {
+            response.complete(send(targetUri, requestProfile));
+
+        } catch (JsonLdError e) {
+            response.completeExceptionally(e);
+        }
+
+        return response;
+    }
+
+    /**
+     * Send a request with additional headers asynchronously.
+     * <p>
+     * The default implementation ignores the headers and calls
+     * {@link #sendAsync(URI, String)}.
+     * </p>
+     *
+     * @param targetUri      a request target
+     * @param requestProfile an accept header value
+     * @param headers        additional request headers
+     * @return a future completed by a response with a fully received body
+     *
+     * @since 1.4.1
+     */
+    default CompletableFuture<HttpResponse> sendAsync(URI targetUri, String requestProfile, Map<String, String> headers) {
+        return sendAsync(targetUri, requestProfile);
+    }
+
     /**
      * Configure read timeout
      * 
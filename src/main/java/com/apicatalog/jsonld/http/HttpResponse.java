@@ -17,4 +17,17 @@ public interface HttpResponse extends Closeable {
 
     Optional<String> location();
 
+    /**
+     * Returns the first value of the given response header. The default
+     * implementation provides no headers.
+     *
+     * @param name a case-insensitive header name
+     * @return the header value, if present
+     *
+     * @since 1.4.1
+     */
+    default Optional<String> header(String name) {
+        return Optional.empty();
+    }
+
 }
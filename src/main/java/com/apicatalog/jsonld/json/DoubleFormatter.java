@@ -0,0 +1,430 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Formats numbers using the shortest decimal that rounds to the same
+ * <code>double</code> value. The class is stateless and thread-safe.
+ * <p>
+ * The shortest decimal is computed by the Schubfach algorithm, numbers with up
+ * to 15 significant digits within the normal <code>double</code> range are
+ * formatted directly from their decimal digits.
+ * </p>
+ *
+ * @see <a href="https://www.w3.org/TR/xmlschema11-2/#f-doubleCanmap">xsd:double
+ *      Canonical Mapping</a>
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc8785#section-3.2.2.3">JSON
+ *      Canonicalization Scheme (JCS), Serialization of Numbers</a>
+ *
+ * @since 1.4.1
+ */
+public final class DoubleFormatter {
+
+    // a decimal with up to 15 significant digits always round trips
+    private static final int DOUBLE_DIGITS = 15;
+
+    private static final long[] POW10 = new long[18];
+
+    // the normal double range exponents safe for decimals with 15 digits
+    private static final int MIN_EXPONENT = -307;
+    private static final int MAX_EXPONENT = 307;
+
+    private static final MathContext MAX_PRECISION = new MathContext(17, RoundingMode.HALF_EVEN);
+
+    // Schubfach parameters for double
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << 52;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+
+    private static final long T_MASK = (1L << 52) - 1;
+    private static final long MASK_63 = 0x7FFFFFFFFFFFFFFFL;
+
+    // g1, g0 pairs, floor(10^-k 2^-r) + 1 normalized to [2^125, 2^126)
+    private static final long[] G = new long[(K_MAX - K_MIN + 1) * 2];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+
+        for (int k = K_MIN; k <= K_MAX; k++) {
+
+            final BigInteger g;
+
+            if (k <= 0) {
+                final BigInteger pow = BigInteger.TEN.pow(-k);
+                final int r = pow.bitLength() - 126;
+                g = (r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r)).add(BigInteger.ONE);
+
+            } else {
+                final BigInteger pow = BigInteger.TEN.pow(k);
+                g = BigInteger.ONE.shiftLeft(125 + pow.bitLength()).divide(pow).add(BigInteger.ONE);
+            }
+
+            G[(k - K_MIN) << 1] = g.shiftRight(63).longValue();
+            G[(k - K_MIN) << 1 | 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    private DoubleFormatter() {
+    }
+
+    /**
+     * Formats the given number into the canonical lexical form of
+     * <code>xsd:double</code> used by JSON-LD, e.g. <code>1.1E0</code>,
+     * <code>-5.0E-3</code>.
+     *
+     * @param number to format
+     * @return the formatted number
+     */
+    public static final String toXsdDouble(final BigDecimal number) {
+
+        final char[] chars = new char[32];
+        int length = 0;
+
+        if (number.signum() == 0) {
+            chars[length++] = '0';
+            chars[length++] = '.';
+            chars[length++] = '0';
+            chars[length++] = 'E';
+            chars[length++] = '0';
+            return new String(chars, 0, length);
+        }
+
+        if (number.signum() < 0) {
+            chars[length++] = '-';
+        }
+
+        final Decimal decimal = Decimal.of(number);
+
+        final int digits = digits(decimal.significand);
+
+        // d.ddd
+        length = writeDigits(decimal.significand, digits, chars, length + 1);
+        chars[length - digits - 1] = chars[length - digits];
+        chars[length - digits] = '.';
+
+        if (digits == 1) {
+            chars[length++] = '0';
+        }
+
+        chars[length++] = 'E';
+
+        return new String(chars, 0, writeExponent(decimal.exponent + digits - 1, chars, length));
+    }
+
+    /**
+     * Formats the given number as defined by JSON Canonicalization Scheme (JCS),
+     * i.e. the way ECMAScript serializes a number, e.g. <code>0.002</code>,
+     * <code>1e+30</code>.
+     *
+     * @param number to format
+     * @return the formatted number
+     */
+    public static final String toJcs(final BigDecimal number) {
+
+        if (number.signum() == 0) {
+            return "0";
+        }
+
+        final char[] chars = new char[32];
+        int length = 0;
+
+        if (number.signum() < 0) {
+            chars[length++] = '-';
+        }
+
+        final Decimal decimal = Decimal.of(number);
+
+        final int digits = digits(decimal.significand);
+
+        // the number is 0.ddd x 10^point
+        final int point = decimal.exponent + digits;
+
+        if (digits <= point && point <= 21) {
+            length = writeDigits(decimal.significand, digits, chars, length);
+
+            for (int i = digits; i < point; i++) {
+                chars[length++] = '0';
+            }
+
+        } else if (0 < point && point <= 21) {
+            length = writeDigits(decimal.significand, digits, chars, length + 1);
+            System.arraycopy(chars, length - digits, chars, length - digits - 1, point);
+            chars[length - digits + point - 1] = '.';
+
+        } else if (-6 < point && point <= 0) {
+            chars[length++] = '0';
+            chars[length++] = '.';
+
+            for (int i = point; i < 0; i++) {
+                chars[length++] = '0';
+            }
+            length = writeDigits(decimal.significand, digits, chars, length);
+
+        } else {
+            if (digits == 1) {
+                length = writeDigits(decimal.significand, digits, chars, length);
+
+            } else {
+                length = writeDigits(decimal.significand, digits, chars, length + 1);
+                chars[length - digits - 1] = chars[length - digits];
+                chars[length - digits] = '.';
+            }
+
+            chars[length++] = 'e';
+
+            if (point > 0) {
+                chars[length++] = '+';
+            }
+
+            length = writeExponent(point - 1, chars, length);
+        }
+
+        return new String(chars, 0, length);
+    }
+
+    private static final int digits(final long value) {
+        int digits = 1;
+        while (digits < POW10.length && value >= POW10[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static final int writeDigits(long value, final int digits, final char[] chars, final int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    private static final int writeExponent(int exponent, final char[] chars, int offset) {
+
+        if (exponent < 0) {
+            chars[offset++] = '-';
+            exponent = -exponent;
+        }
+
+        final int digits = digits(exponent);
+
+        return writeDigits(exponent, digits, chars, offset);
+    }
+
+    /**
+     * A positive decimal <code>significand x 10^exponent</code> without trailing
+     * zeros in the significand.
+     */
+    private static final class Decimal {
+
+        long significand;
+        int exponent;
+
+        static final Decimal of(final BigDecimal number) {
+
+            final Decimal decimal = new Decimal();
+
+            if (decimal.setDigits(number)) {
+                return decimal;
+            }
+
+            final double value = Math.abs(number.doubleValue());
+
+            if (value != 0 && !Double.isInfinite(value)) {
+                decimal.setShortest(value);
+                return decimal;
+            }
+
+            // out of the double range, keep as many digits as a double can
+            final BigDecimal rounded = number.abs().round(MAX_PRECISION);
+
+            decimal.significand = rounded.unscaledValue().longValue();
+            decimal.exponent = -rounded.scale();
+            decimal.normalize();
+
+            return decimal;
+        }
+
+        // uses the given decimal digits if they are the shortest representation
+        boolean setDigits(final BigDecimal number) {
+
+            final BigInteger unscaled = number.unscaledValue();
+
+            if (unscaled.bitLength() >= 63) {
+                return false;
+            }
+
+            significand = Math.abs(unscaled.longValue());
+            exponent = -number.scale();
+            normalize();
+
+            if (significand >= POW10[DOUBLE_DIGITS]) {
+                return false;
+            }
+
+            final int scientific = exponent + digits(significand) - 1;
+
+            return MIN_EXPONENT <= scientific && scientific <= MAX_EXPONENT;
+        }
+
+        void setShortest(final double value) {
+
+            final long bits = Double.doubleToRawLongBits(value);
+            final long t = bits & T_MASK;
+            final int bq = (int) (bits >>> 52) & 0x7FF;
+
+            if (bq != 0) {
+                // normal value
+                final int q = bq - 1075;
+                final long c = C_MIN | t;
+
+                // an integer
+                if (0 < -q && -q < 53) {
+                    final long f = c >> -q;
+                    if (f << -q == c) {
+                        set(f, 0);
+                        return;
+                    }
+                }
+                setShortest(q, c);
+
+            } else {
+                // subnormal value
+                setShortest(Q_MIN, t);
+            }
+        }
+
+        private void setShortest(final int q, final long c) {
+
+            final int out = (int) c & 0x1;
+
+            final long cb = c << 2;
+            final long cbr = cb + 2;
+            final long cbl;
+            final int k;
+
+            if (c != C_MIN | q == Q_MIN) {
+                cbl = cb - 2;
+                k = flog10pow2(q);
+
+            } else {
+                cbl = cb - 1;
+                k = flog10threeQuartersPow2(q);
+            }
+
+            final int h = q + flog2pow10(-k) + 2;
+
+            final long g1 = G[(k - K_MIN) << 1];
+            final long g0 = G[(k - K_MIN) << 1 | 1];
+
+            final long vb = rop(g1, g0, cb << h);
+            final long vbl = rop(g1, g0, cbl << h);
+            final long vbr = rop(g1, g0, cbr << h);
+
+            final long s = vb >> 2;
+
+            if (s >= 100) {
+                final long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+                final long tp10 = sp10 + 10;
+
+                final boolean upin = vbl + out <= sp10 << 2;
+                final boolean wpin = (tp10 << 2) + out <= vbr;
+
+                if (upin != wpin) {
+                    set(upin ? sp10 : tp10, k);
+                    return;
+                }
+            }
+
+            final long t = s + 1;
+
+            final boolean uin = vbl + out <= s << 2;
+            final boolean win = (t << 2) + out <= vbr;
+
+            if (uin != win) {
+                set(uin ? s : t, k);
+                return;
+            }
+
+            final long cmp = vb - (s + t << 1);
+
+            set(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k);
+        }
+
+        private void set(final long significand, final int exponent) {
+            this.significand = significand;
+            this.exponent = exponent;
+            normalize();
+        }
+
+        private void normalize() {
+            while (significand % 10 == 0) {
+                significand /= 10;
+                exponent++;
+            }
+        }
+    }
+
+    // floor(log10(2^e))
+    private static final int flog10pow2(final int e) {
+        return (int) (e * 661971961083L >> 41);
+    }
+
+    // floor(log10(3/4 2^e))
+    private static final int flog10threeQuartersPow2(final int e) {
+        return (int) (e * 661971961083L + -274743187321L >> 41);
+    }
+
+    // floor(log2(10^e))
+    private static final int flog2pow10(final int e) {
+        return (int) (e * 913124641741L >> 38);
+    }
+
+    private static final long rop(final long g1, final long g0, final long cp) {
+        final long x1 = multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    // the most significant 64 bits of the 128-bit product of two longs
+    private static final long multiplyHigh(final long x, final long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+
+        z1 += x2 * y1;
+
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+}
@@ -18,10 +18,6 @@ package com.apicatalog.jsonld.json;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
 
 import com.apicatalog.jsonld.lang.Utils;
 import com.apicatalog.rdf.io.nquad.NQuadsWriter;
@@ -38,12 +34,6 @@ import jakarta.json.JsonValue;
  */
 public final class JsonCanonicalizer {
 
-    private static final DecimalFormat eFormatBigDecimal =
-            new DecimalFormat("0E00", new DecimalFormatSymbols(Locale.ENGLISH));
-
-    private static final DecimalFormat eFormat =
-            new DecimalFormat("0.#######", new DecimalFormatSymbols(Locale.ENGLISH));
-
     private JsonCanonicalizer() {
     }
 
@@ -90,27 +80,7 @@ public final class JsonCanonicalizer {
     }
 
     private static final void canonicalizeNumber(final JsonNumber number, final Writer writer) throws IOException {
-
-        String numberString;
-
-        if (number.bigDecimalValue().compareTo(BigDecimal.ZERO) == 0) {
-
-            numberString = "0";
-
-        } else if (number.bigDecimalValue().compareTo(BigDecimal.ONE.movePointRight(21)) >= 0) {
-
-            numberString = eFormatBigDecimal.format(number.bigDecimalValue()).replace("E", "e+");
-
-        } else if (number.bigDecimalValue().compareTo(BigDecimal.ONE.movePointLeft(21)) <= 0) {
-
-            numberString = eFormatBigDecimal.format(number.bigDecimalValue()).toLowerCase();
-
-        } else {
-
-            numberString = eFormat.format(number.bigDecimalValue());
-        }
-
-        writer.write(numberString);
+        writer.write(DoubleFormatter.toJcs(number.bigDecimalValue()));
     }
 
     private static final void canonicalizeArray(final JsonArray value, final Writer writer) throws IOException {
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.loader;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+
+/**
+ * A {@link DocumentLoader} retrieving documents without blocking a calling
+ * thread.
+ * <p>
+ * A returned future is completed exceptionally by {@link JsonLdError} if a
+ * document cannot be retrieved.
+ * </p>
+ *
+ * @since 1.4.1
+ */
+public interface AsyncDocumentLoader extends DocumentLoader {
+
+    /**
+     * Retrieve a remote document asynchronously.
+     *
+     * @param url     of the remote document to fetch
+     * @param options to set the behavior of the loader
+     * @return a future completed by {@link Document} representing a remote
+     *         document
+     */
+    CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options);
+
+    /**
+     * Retrieve a remote document asynchronously. A loader delegating to blocking
+     * loaders calls them by the given executor, other loaders ignore the
+     * executor.
+     *
+     * @param url      of the remote document to fetch
+     * @param options  to set the behavior of the loader
+     * @param executor to call a blocking loader
+     * @return a future completed by {@link Document} representing a remote
+     *         document
+     */
+    default CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options, Executor executor) {
+        return loadDocumentAsync(url, options);
+    }
+
+    /**
+     * Retrieve a remote document, a calling thread waits for the document.
+     */
+    @Override
+    default Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+
+        try {
+            return loadDocumentAsync(url, options).get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Interrupted while waiting for a document [" + url + "].", e);
+
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof JsonLdError) {
+                throw (JsonLdError) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e.getCause());
+        }
+    }
+
+    /**
+     * Retrieve a remote document using any {@link DocumentLoader}. An
+     * {@link AsyncDocumentLoader} is called directly and gets the executor, a
+     * blocking loader is called by the given executor. A blocking call does not occupy a worker of a
+     * {@link java.util.concurrent.ForkJoinPool} executor.
+     *
+     * @param loader   to retrieve the document
+     * @param url      of the remote document to fetch
+     * @param options  to set the behavior of the loader
+     * @param executor to call a blocking loader
+     * @return a future completed by {@link Document} representing a remote
+     *         document
+     */
+    static CompletableFuture<Document> loadAsync(final DocumentLoader loader, final URI url, final DocumentLoaderOptions options, final Executor executor) {
+
+        if (loader instanceof AsyncDocumentLoader) {
+            return ((AsyncDocumentLoader) loader).loadDocumentAsync(url, options, executor);
+        }
+
+        return CompletableFuture.supplyAsync(new BlockingLoad(loader, url, options), executor);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.loader;
+
+import java.net.URI;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+
+/**
+ * Calls a blocking {@link DocumentLoader}. When called by a
+ * {@link ForkJoinPool} worker the pool is informed about the blocking call and
+ * can activate another worker, so concurrent loads are not limited by the pool
+ * parallelism.
+ */
+final class BlockingLoad implements ForkJoinPool.ManagedBlocker, Supplier<Document> {
+
+    private final DocumentLoader loader;
+    private final URI url;
+    private final DocumentLoaderOptions options;
+
+    private boolean done;
+    private Document document;
+    private JsonLdError error;
+
+    BlockingLoad(final DocumentLoader loader, final URI url, final DocumentLoaderOptions options) {
+        this.loader = loader;
+        this.url = url;
+        this.options = options;
+        this.done = false;
+    }
+
+    @Override
+    public Document get() {
+        try {
+            ForkJoinPool.managedBlock(this);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Interrupted while loading a document [" + url + "].", e));
+        }
+
+        if (error != null) {
+            throw new CompletionException(error);
+        }
+        return document;
+    }
+
+    @Override
+    public boolean block() {
+        try {
+            document = loader.loadDocument(url, options);
+
+        } catch (JsonLdError e) {
+            error = e;
+
+        } finally {
+            done = true;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+        return done;
+    }
+}
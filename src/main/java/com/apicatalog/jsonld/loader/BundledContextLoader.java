@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.loader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.jsonld.processor.ExpansionProcessor;
+
+/**
+ * A {@link DocumentLoader} serving well-known contexts from classpath
+ * resources, other documents are loaded by a fallback loader.
+ * <p>
+ * Contexts are registered by {@value #INDEX} index files found on the
+ * classpath, so a library bundling contexts registers them just by being on
+ * the classpath. An index lists a context URL and a resource name per line,
+ * separated by whitespace. A line starting with <code>#</code> is a comment.
+ * </p>
+ *
+ * <pre>
+ * # META-INF/jsonld/contexts.txt
+ * https://example.org/contexts/v1   com/example/contexts/v1.jsonld
+ * </pre>
+ * <p>
+ * No contexts are bundled with this library. A bundled context must be a
+ * verbatim copy of the published document, term definitions drive
+ * canonicalization and a modified copy silently changes processing results.
+ * </p>
+ * <p>
+ * A bundled context is read and parsed once. Processed contexts are cached by
+ * {@link #preload(JsonLdOptions)} in advance, so the first document using a
+ * bundled context is processed as fast as the following ones.
+ * </p>
+ *
+ * @since 1.4.1
+ */
+public final class BundledContextLoader implements DocumentLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(BundledContextLoader.class.getName());
+
+    public static final String INDEX = "META-INF/jsonld/contexts.txt";
+
+    private final DocumentLoader fallback;
+
+    private final ClassLoader classLoader;
+
+    // context URL -> resource name
+    private final Map<String, String> resources;
+
+    private final Map<String, Document> documents;
+
+    /**
+     * Creates a new loader registering contexts indexed on the classpath,
+     * other documents are loaded by {@link SchemeRouter#defaultInstance()}.
+     */
+    public BundledContextLoader() {
+        this(SchemeRouter.defaultInstance());
+    }
+
+    /**
+     * Creates a new loader registering contexts indexed on the classpath.
+     *
+     * @param fallback a loader used to load documents that are not bundled,
+     *                 <code>null</code> to fail
+     */
+    public BundledContextLoader(final DocumentLoader fallback) {
+        this(fallback, BundledContextLoader.class.getClassLoader());
+    }
+
+    /**
+     * Creates a new loader registering contexts indexed by the given class
+     * loader.
+     *
+     * @param fallback    a loader used to load documents that are not bundled,
+     *                    <code>null</code> to fail
+     * @param classLoader a class loader to read indices and contexts with
+     */
+    public BundledContextLoader(final DocumentLoader fallback, final ClassLoader classLoader) {
+        this.fallback = fallback;
+        this.classLoader = classLoader;
+        this.resources = new ConcurrentHashMap<>();
+        this.documents = new ConcurrentHashMap<>();
+
+        readIndices();
+    }
+
+    /**
+     * Registers a bundled context.
+     *
+     * @param contextUrl a context URL
+     * @param resource   a classpath resource name
+     * @return {@link BundledContextLoader} instance
+     */
+    public BundledContextLoader set(final String contextUrl, final String resource) {
+        resources.put(contextUrl, resource);
+        documents.remove(contextUrl);
+        return this;
+    }
+
+    /**
+     * Returns URLs of the bundled contexts.
+     *
+     * @return an unmodifiable set of context URLs
+     */
+    public Set<String> contexts() {
+        return Collections.unmodifiableSet(resources.keySet());
+    }
+
+    @Override
+    public Document loadDocument(final URI url, final DocumentLoaderOptions options) throws JsonLdError {
+
+        final String key = url.toString();
+
+        Document document = documents.get(key);
+
+        if (document != null) {
+            return document;
+        }
+
+        final String resource = resources.get(key);
+
+        if (resource == null) {
+
+            if (fallback == null) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Context [" + url + "] is not bundled.");
+            }
+
+            return fallback.loadDocument(url, options);
+        }
+
+        try (final InputStream is = classLoader.getResourceAsStream(resource)) {
+
+            if (is == null) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Bundled context [" + url + "] resource [" + resource + "] not found.");
+            }
+
+            document = JsonDocument.of(MediaType.JSON_LD, is);
+            document.setDocumentUrl(url);
+
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+
+        final Document previous = documents.putIfAbsent(key, document);
+
+        return previous != null ? previous : document;
+    }
+
+    /**
+     * Processes all the bundled contexts and stores the results in the active
+     * context cache set by the given options. A processed context not depending
+     * on the base IRI, e.g. not setting <code>@base</code> or a relative
+     * <code>@vocab</code>, is reused by any document regardless of its base IRI
+     * and document URL.
+     *
+     * <pre>
+     * JsonLdEngine engine = JsonLdEngine.with(new JsonLdOptions(loader)).build();
+     * loader.preload(engine.getOptions());
+     * </pre>
+     *
+     * @param options processing options holding the caches to populate
+     * @throws JsonLdError if a bundled context is not valid
+     */
+    public void preload(final JsonLdOptions options) throws JsonLdError {
+
+        final JsonLdOptions preloadOptions = new JsonLdOptions(options);
+        preloadOptions.setDocumentLoader(this);
+        preloadOptions.setBase(null);
+        preloadOptions.setExpandContext((Document) null);
+        preloadOptions.setContextPrefetch(false);
+
+        for (final String contextUrl : resources.keySet()) {
+            ExpansionProcessor.expand(
+                    JsonDocument.of(JsonProvider.instance().createObjectBuilder().add(Keywords.CONTEXT, contextUrl).build()),
+                    preloadOptions,
+                    false);
+        }
+    }
+
+    private void readIndices() {
+
+        if (classLoader == null) {
+            return;
+        }
+
+        try {
+            final Enumeration<URL> indices = classLoader.getResources(INDEX);
+
+            while (indices.hasMoreElements()) {
+                readIndex(indices.nextElement());
+            }
+
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read bundled contexts index.", e);
+        }
+    }
+
+    private void readIndex(final URL index) throws IOException {
+
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                line = line.trim();
+
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                final String[] entry = line.split("\\s+");
+
+                if (entry.length != 2) {
+                    LOGGER.log(Level.WARNING, "Invalid bundled context entry [{0}] in [{1}], ignored.", new Object[] { line, index });
+                    continue;
+                }
+
+                resources.putIfAbsent(entry[0], entry[1]);
+            }
+        }
+    }
+}
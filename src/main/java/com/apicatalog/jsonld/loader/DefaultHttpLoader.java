@@ -22,6 +22,8 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -36,7 +38,7 @@ import com.apicatalog.jsonld.http.link.Link;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.jsonld.uri.UriResolver;
 
-class DefaultHttpLoader implements DocumentLoader {
+class DefaultHttpLoader implements AsyncDocumentLoader {
 
     private static final Logger LOGGER = Logger.getLogger(DefaultHttpLoader.class.getName());
 
@@ -66,102 +68,154 @@ class DefaultHttpLoader implements DocumentLoader {
         try {
             URI targetUri = uri;
 
-            MediaType contentType = null;
-
-            URI contextUri = null;
-
             for (int redirection = 0; redirection < maxRedirections; redirection++) {
 
                 // 2.
                 try (HttpResponse response = httpClient.send(targetUri, getAcceptHeader(options.getRequestProfile()))) {
 
-                    // 3.
-                    if (response.statusCode() == 301
-                            || response.statusCode() == 302
-                            || response.statusCode() == 303
-                            || response.statusCode() == 307) {
+                    final URI redirect = redirect(targetUri, response);
 
-                        final Optional<String> location = response.location();
+                    if (redirect != null) {
+                        targetUri = redirect;
+                        continue;
+                    }
 
-                        if (location.isPresent()) {
-                            targetUri = UriResolver.resolveAsUri(targetUri, location.get());
-                            continue;
-                        }
+                    return read(uri, targetUri, options, response);
+                }
+            }
 
-                        throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Header location is required for code [" + response.statusCode() + "].");
-                    }
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Too many redirections");
 
-                    if (response.statusCode() != 200) {
-                        throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unexpected response code [" + response.statusCode() + "]");
-                    }
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
 
-                    final Optional<String> contentTypeValue = response.contentType();
+    /**
+     * Retrieve a remote document asynchronously. A response is received by
+     * {@link HttpClient#sendAsync(URI, String)}, a calling thread is not blocked.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public CompletableFuture<Document> loadDocumentAsync(final URI uri, final DocumentLoaderOptions options) {
+        return loadDocumentAsync(uri, uri, options, 0);
+    }
 
-                    if (contentTypeValue.isPresent()) {
-                        contentType = MediaType.of(contentTypeValue.get());
-                    }
+    private CompletableFuture<Document> loadDocumentAsync(final URI uri, final URI targetUri, final DocumentLoaderOptions options, final int redirection) {
 
-                    final Collection<String> linkValues = response.links();
+        if (redirection >= maxRedirections) {
+            final CompletableFuture<Document> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Too many redirections"));
+            return failed;
+        }
 
-                    if (linkValues != null && !linkValues.isEmpty()) {
+        // 2.
+        return httpClient.sendAsync(targetUri, getAcceptHeader(options.getRequestProfile())).thenCompose(httpResponse -> {
 
-                        // 4.
-                        if (contentType == null
-                                || (!MediaType.JSON.match(contentType)
-                                        && !contentType.subtype().toLowerCase().endsWith(PLUS_JSON))) {
+            try (HttpResponse response = httpResponse) {
 
-                            final URI baseUri = targetUri;
+                final URI redirect = redirect(targetUri, response);
 
-                            Optional<Link> alternate = linkValues.stream()
-                                    .flatMap(l -> Link.of(l, baseUri).stream())
-                                    .filter(l -> l.relations().contains("alternate")
-                                            && l.type().isPresent()
-                                            && MediaType.JSON_LD.match(l.type().get()))
-                                    .findFirst();
+                if (redirect != null) {
+                    return loadDocumentAsync(uri, redirect, options, redirection + 1);
+                }
 
-                            if (alternate.isPresent()) {
+                return CompletableFuture.completedFuture(read(uri, targetUri, options, response));
 
-                                targetUri = alternate.get().target();
-                                continue;
-                            }
-                        }
+            } catch (JsonLdError e) {
+                throw new CompletionException(e);
 
-                        // 5.
-                        if (contentType != null
-                                && !MediaType.JSON_LD.match(contentType)
-                                && (MediaType.JSON.match(contentType)
-                                        || contentType.subtype().toLowerCase().endsWith(PLUS_JSON))) {
+            } catch (IOException e) {
+                throw new CompletionException(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e));
+            }
+        });
+    }
 
-                            final URI baseUri = targetUri;
+    /**
+     * Returns a target to follow, or <code>null</code> if the response represents
+     * the requested document.
+     */
+    private static final URI redirect(final URI targetUri, final HttpResponse response) throws JsonLdError {
 
-                            final List<Link> contextUris = linkValues.stream()
-                                    .flatMap(l -> Link.of(l, baseUri).stream())
-                                    .filter(l -> l.relations().contains(ProfileConstants.CONTEXT))
-                                    .collect(Collectors.toList());
+        // 3.
+        if (response.statusCode() == 301
+                || response.statusCode() == 302
+                || response.statusCode() == 303
+                || response.statusCode() == 307) {
 
-                            if (contextUris.size() > 1) {
-                                throw new JsonLdError(JsonLdErrorCode.MULTIPLE_CONTEXT_LINK_HEADERS);
+            final Optional<String> location = response.location();
 
-                            } else if (contextUris.size() == 1) {
-                                contextUri = contextUris.get(0).target();
-                            }
-                        }
-                    }
+            if (location.isPresent()) {
+                return UriResolver.resolveAsUri(targetUri, location.get());
+            }
 
-                    if (contentType == null) {
-                        LOGGER.log(Level.WARNING, "GET on URL [{0}] does not return content-type header. Trying application/json.", uri);
-                        contentType = MediaType.JSON;
-                    }
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Header location is required for code [" + response.statusCode() + "].");
+        }
 
-                    return resolve(contentType, targetUri, contextUri, response);
-                }
+        if (response.statusCode() != 200) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unexpected response code [" + response.statusCode() + "]");
+        }
+
+        final MediaType contentType = response.contentType().map(MediaType::of).orElse(null);
+
+        final Collection<String> linkValues = response.links();
+
+        // 4.
+        if (linkValues != null && !linkValues.isEmpty()
+                && (contentType == null
+                        || (!MediaType.JSON.match(contentType)
+                                && !contentType.subtype().toLowerCase().endsWith(PLUS_JSON)))) {
+
+            final Optional<Link> alternate = linkValues.stream()
+                    .flatMap(l -> Link.of(l, targetUri).stream())
+                    .filter(l -> l.relations().contains("alternate")
+                            && l.type().isPresent()
+                            && MediaType.JSON_LD.match(l.type().get()))
+                    .findFirst();
+
+            if (alternate.isPresent()) {
+                return alternate.get().target();
             }
+        }
 
-            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Too many redirections");
+        return null;
+    }
 
-        } catch (IOException e) {
-            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+    private final Document read(final URI uri, final URI targetUri, final DocumentLoaderOptions options, final HttpResponse response) throws JsonLdError, IOException {
+
+        MediaType contentType = response.contentType().map(MediaType::of).orElse(null);
+
+        URI contextUri = null;
+
+        final Collection<String> linkValues = response.links();
+
+        // 5.
+        if (linkValues != null && !linkValues.isEmpty()
+                && contentType != null
+                && !MediaType.JSON_LD.match(contentType)
+                && (MediaType.JSON.match(contentType)
+                        || contentType.subtype().toLowerCase().endsWith(PLUS_JSON))) {
+
+            final List<Link> contextUris = linkValues.stream()
+                    .flatMap(l -> Link.of(l, targetUri).stream())
+                    .filter(l -> l.relations().contains(ProfileConstants.CONTEXT))
+                    .collect(Collectors.toList());
+
+            if (contextUris.size() > 1) {
+                throw new JsonLdError(JsonLdErrorCode.MULTIPLE_CONTEXT_LINK_HEADERS);
+
+            } else if (contextUris.size() == 1) {
+                contextUri = contextUris.get(0).target();
+            }
+        }
+
+        if (contentType == null) {
+            LOGGER.log(Level.WARNING, "GET on URL [{0}] does not return content-type header. Trying application/json.", uri);
+            contentType = MediaType.JSON;
         }
+
+        return resolve(contentType, targetUri, contextUri, options, response);
     }
 
     public static final String getAcceptHeader() {
@@ -181,7 +235,11 @@ class DefaultHttpLoader implements DocumentLoader {
 
         builder.append(',');
         builder.append(MediaType.JSON.toString());
-        builder.append(";q=0.9,*/*;q=0.1");
+        builder.append(";q=0.9,");
+        builder.append(MediaType.HTML.toString());
+        builder.append(";q=0.8,");
+        builder.append(MediaType.XHTML.toString());
+        builder.append(";q=0.8,*/*;q=0.1");
         return builder.toString();
     }
 
@@ -189,15 +247,19 @@ class DefaultHttpLoader implements DocumentLoader {
             final MediaType type,
             final URI targetUri,
             final URI contextUrl,
+            final DocumentLoaderOptions options,
             final HttpResponse response) throws JsonLdError, IOException {
 
-        final DocumentReader<InputStream> reader = resolver.getReader(type);
+        final DocumentReader<InputStream> reader = resolver.getReader(type, targetUri, options);
 
         try (final InputStream is = response.body()) {
 
             final Document remoteDocument = reader.read(is);
 
-            remoteDocument.setDocumentUrl(targetUri);
+            // an HTML document URL is set by a base element
+            if (remoteDocument.getDocumentUrl() == null) {
+                remoteDocument.setDocumentUrl(targetUri);
+            }
 
             remoteDocument.setContextUrl(contextUrl);
 
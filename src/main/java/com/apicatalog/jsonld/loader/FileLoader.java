@@ -62,11 +62,15 @@ public final class FileLoader implements DocumentLoader {
                                     return MediaType.JSON;
                                 });
 
-        final DocumentReader<InputStream> reader = resolver.getReader(contentType);
+        final DocumentReader<InputStream> reader = resolver.getReader(contentType, url, options);
 
         try (final InputStream is = new FileInputStream(file)) {
             final Document document = reader.read(is);
-            document.setDocumentUrl(url);
+
+            // an HTML document URL is set by a base element
+            if (document.getDocumentUrl() == null) {
+                document.setDocumentUrl(url);
+            }
             return document;
 
         } catch (FileNotFoundException e) {
@@ -93,9 +97,12 @@ public final class FileLoader implements DocumentLoader {
         if (name.endsWith(".jsonld")) {
             return Optional.of(MediaType.JSON_LD);
         }
-        if (name.endsWith(".html")) {
+        if (name.endsWith(".html") || name.endsWith(".htm")) {
             return Optional.of(MediaType.HTML);
         }
+        if (name.endsWith(".xhtml")) {
+            return Optional.of(MediaType.XHTML);
+        }
 
         return Optional.empty();
     }
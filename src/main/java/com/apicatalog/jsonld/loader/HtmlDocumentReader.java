@@ -0,0 +1,609 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.uri.UriResolver;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonStructure;
+
+/**
+ * Extracts JSON-LD script elements from an HTML document.
+ * <p>
+ * The input is scanned once as a stream of bytes, no DOM is built. Only
+ * content of the selected script elements is buffered and the scanning stops
+ * as soon as the requested script element and the document base are known.
+ * </p>
+ *
+ * @see <a href="https://www.w3.org/TR/json-ld11-api/#process-html">Process
+ *      HTML</a>
+ */
+final class HtmlDocumentReader implements DocumentReader<InputStream> {
+
+    private static final Logger LOGGER = Logger.getLogger(HtmlDocumentReader.class.getName());
+
+    private static final String COMMENT_START = "<!--";
+    private static final String COMMENT_END = "-->";
+
+    // elements whose content is not markup
+    private static final String[] RAW_TEXT_ELEMENTS = {
+            "script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes", "noscript"
+    };
+
+    private final URI documentUrl;
+
+    private final String fragment;
+
+    private final String profile;
+
+    private final boolean extractAllScripts;
+
+    private Scanner scanner;
+
+    private String baseHref;
+
+    private boolean headClosed;
+
+    // the requested script element, if found
+    private Script target;
+
+    // the first JSON-LD script element, used if a script having the profile is not found
+    private Script first;
+
+    private JsonArrayBuilder scripts;
+
+    HtmlDocumentReader(final URI documentUrl, final DocumentLoaderOptions options) {
+        this.documentUrl = documentUrl;
+        this.fragment = documentUrl != null ? documentUrl.getFragment() : null;
+        this.profile = options != null ? options.getProfile() : null;
+        this.extractAllScripts = options != null && options.isExtractAllScripts();
+    }
+
+    public static final boolean accepts(final MediaType contentType) {
+        return MediaType.HTML.match(contentType) || MediaType.XHTML.match(contentType);
+    }
+
+    @Override
+    public Document read(final InputStream is) throws JsonLdError {
+
+        scanner = new Scanner(is);
+        baseHref = null;
+        headClosed = false;
+        target = null;
+        first = null;
+        scripts = extractAllScripts ? JsonProvider.instance().createArrayBuilder() : null;
+
+        try {
+            scan();
+
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+
+        final Document document;
+
+        if (extractAllScripts && fragment == null) {
+            document = JsonDocument.of(MediaType.JSON_LD, scripts.build());
+
+        } else if (target != null || first != null) {
+            final Script script = target != null ? target : first;
+            document = JsonDocument.of(script.type, script.parse());
+
+        } else if (fragment != null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "JSON-LD script element with id [" + fragment + "] has not been found.");
+
+        } else {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "No JSON-LD script element has been found.");
+        }
+
+        document.setDocumentUrl(baseUrl());
+
+        return document;
+    }
+
+    private final URI baseUrl() {
+
+        if (baseHref == null) {
+            return documentUrl;
+        }
+
+        try {
+            return documentUrl != null
+                    ? UriResolver.resolveAsUri(documentUrl, baseHref)
+                    : URI.create(baseHref);
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Ignored invalid HTML base [{0}] of [{1}].", new Object[] { baseHref, documentUrl });
+            return documentUrl;
+        }
+    }
+
+    private final boolean isDone() {
+        return target != null && (baseHref != null || headClosed);
+    }
+
+    private final void scan() throws IOException, JsonLdError {
+
+        int ch;
+
+        while (!isDone() && (ch = scanner.read()) != -1) {
+
+            if (ch != '<') {
+                continue;
+            }
+
+            ch = scanner.read();
+
+            if (ch == '!') {
+                if (scanner.skipIf("--")) {
+                    scanner.skipPast(COMMENT_END);
+
+                } else {
+                    scanner.skipPast(">");
+                }
+
+            } else if (ch == '?') {
+                scanner.skipPast(">");
+
+            } else if (ch == '/') {
+                endTag();
+
+            } else if (isAsciiLetter(ch)) {
+                scanner.unread(ch);
+                startTag();
+
+            } else {
+                scanner.unread(ch);
+            }
+        }
+    }
+
+    private final void endTag() throws IOException {
+
+        final String name = scanner.readName();
+
+        if ("head".equals(name) || "html".equals(name)) {
+            headClosed = true;
+        }
+
+        scanner.skipPast(">");
+    }
+
+    private final void startTag() throws IOException, JsonLdError {
+
+        final String name = scanner.readName();
+
+        final boolean script = "script".equals(name);
+        final boolean base = "base".equals(name) && baseHref == null;
+
+        if ("body".equals(name)) {
+            headClosed = true;
+        }
+
+        String id = null;
+        String type = null;
+        String href = null;
+
+        // attributes
+        for (;;) {
+
+            int ch = scanner.skipWhitespace();
+
+            if (ch == -1 || ch == '>') {
+                break;
+            }
+
+            if (ch == '/') {
+                continue;
+            }
+
+            scanner.unread(ch);
+
+            final String attribute = scanner.readName();
+
+            ch = scanner.skipWhitespace();
+
+            if (ch != '=') {
+                scanner.unread(ch);
+                continue;
+            }
+
+            final String value = scanner.readAttributeValue(script || base);
+
+            if (script && id == null && "id".equals(attribute)) {
+                id = value;
+
+            } else if (script && type == null && "type".equals(attribute)) {
+                type = value;
+
+            } else if (base && "href".equals(attribute)) {
+                href = value;
+            }
+        }
+
+        if (href != null) {
+            baseHref = href;
+        }
+
+        if (script) {
+            script(id, type);
+
+        } else if ("plaintext".equals(name)) {
+            scanner.skipToEnd();
+
+        } else if (Arrays.asList(RAW_TEXT_ELEMENTS).contains(name)) {
+            scanner.readRawText(name, null);
+        }
+    }
+
+    private final void script(final String id, final String typeValue) throws IOException, JsonLdError {
+
+        final MediaType type = typeValue != null ? mediaType(typeValue) : null;
+
+        final boolean jsonLd = type != null && MediaType.JSON_LD.match(type);
+
+        final Script script;
+
+        if (fragment != null) {
+
+            if (!fragment.equals(id)) {
+                scanner.readRawText("script", null);
+                return;
+            }
+
+            if (!jsonLd) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Element with id [" + fragment + "] is not a JSON-LD script element.");
+            }
+
+            script = target = new Script(type);
+
+        } else if (!jsonLd || target != null) {
+            scanner.readRawText("script", null);
+            return;
+
+        } else if (extractAllScripts) {
+            script = new Script(type);
+
+        } else if (profile == null || hasProfile(type)) {
+            script = target = new Script(type);
+
+        } else if (first == null) {
+            script = first = new Script(type);
+
+        } else {
+            scanner.readRawText("script", null);
+            return;
+        }
+
+        scanner.readRawText("script", script.content);
+
+        if (extractAllScripts && fragment == null) {
+
+            final JsonStructure json = script.parse();
+
+            if (JsonUtils.isArray(json)) {
+                json.asJsonArray().forEach(scripts::add);
+
+            } else {
+                scripts.add(json);
+            }
+        }
+    }
+
+    // a type attribute is matched case-insensitively, parameters are kept as they are
+    private static final MediaType mediaType(final String value) {
+
+        final int parameters = value.indexOf(';');
+
+        return MediaType.of(parameters == -1
+                                ? value.toLowerCase()
+                                : value.substring(0, parameters).toLowerCase() + value.substring(parameters));
+    }
+
+    private final boolean hasProfile(final MediaType type) {
+        return type.parameters()
+                    .values("profile")
+                    .stream()
+                    .flatMap(value -> Arrays.stream(value.trim().split("\\s+")))
+                    .anyMatch(profile::equals);
+    }
+
+    private static final boolean isAsciiLetter(final int ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static final boolean isWhitespace(final int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r' || ch == '\f';
+    }
+
+    private static final class Script {
+
+        final MediaType type;
+
+        final ByteArrayOutputStream content;
+
+        Script(final MediaType type) {
+            this.type = type;
+            this.content = new ByteArrayOutputStream();
+        }
+
+        JsonStructure parse() throws JsonLdError {
+
+            String json = new String(content.toByteArray(), StandardCharsets.UTF_8).trim();
+
+            // the content may be enclosed in an HTML comment
+            if (json.startsWith(COMMENT_START)) {
+
+                if (!json.endsWith(COMMENT_END)) {
+                    throw new JsonLdError(JsonLdErrorCode.INVALID_SCRIPT_ELEMENT, "Script element content has unbalanced comment.");
+                }
+
+                json = json.substring(COMMENT_START.length(), json.length() - COMMENT_END.length());
+
+            } else if (json.endsWith(COMMENT_END)) {
+                throw new JsonLdError(JsonLdErrorCode.INVALID_SCRIPT_ELEMENT, "Script element content has unbalanced comment.");
+            }
+
+            if (json.contains(COMMENT_START) || json.contains(COMMENT_END)) {
+                throw new JsonLdError(JsonLdErrorCode.INVALID_SCRIPT_ELEMENT, "Script element content contains a comment.");
+            }
+
+            try {
+                return JsonDocument.of(MediaType.JSON, new StringReader(json))
+                            .getJsonContent()
+                            .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.INVALID_SCRIPT_ELEMENT));
+
+            } catch (JsonLdError e) {
+                throw new JsonLdError(JsonLdErrorCode.INVALID_SCRIPT_ELEMENT, e);
+            }
+        }
+    }
+
+    /**
+     * A buffered byte input allowing to push back a single byte.
+     */
+    private static final class Scanner {
+
+        private final InputStream is;
+
+        private final byte[] buffer;
+
+        private int position;
+
+        private int limit;
+
+        private int pushback;
+
+        Scanner(final InputStream is) {
+            this.is = is;
+            this.buffer = new byte[8192];
+            this.position = 0;
+            this.limit = 0;
+            this.pushback = -1;
+        }
+
+        int read() throws IOException {
+
+            if (pushback != -1) {
+                final int ch = pushback;
+                pushback = -1;
+                return ch;
+            }
+
+            if (position == limit) {
+                limit = is.read(buffer, 0, buffer.length);
+                position = 0;
+
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+
+            return buffer[position++] & 0xff;
+        }
+
+        void unread(final int ch) {
+            if (ch != -1) {
+                pushback = ch;
+            }
+        }
+
+        /**
+         * Skips the given ASCII sequence if it follows.
+         */
+        boolean skipIf(final String sequence) throws IOException {
+
+            for (int i = 0; i < sequence.length(); i++) {
+
+                final int ch = read();
+
+                if (ch != sequence.charAt(i)) {
+                    unread(ch);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Skips all bytes up to and including the given ASCII sequence.
+         */
+        void skipPast(final String sequence) throws IOException {
+
+            int matched = 0;
+            int ch;
+
+            while (matched < sequence.length() && (ch = read()) != -1) {
+
+                if (ch == sequence.charAt(matched)) {
+                    matched++;
+
+                } else if (ch == sequence.charAt(0)) {
+                    // a sequence of repeating characters, e.g. ---> ends a comment
+                    if (matched == 0 || sequence.charAt(matched - 1) != ch) {
+                        matched = 1;
+                    }
+
+                } else {
+                    matched = 0;
+                }
+            }
+        }
+
+        void skipToEnd() throws IOException {
+            while (read() != -1) {
+                // skip
+            }
+        }
+
+        int skipWhitespace() throws IOException {
+
+            int ch;
+
+            while (isWhitespace(ch = read())) {
+                // skip
+            }
+
+            return ch;
+        }
+
+        /**
+         * Reads a lower-cased tag or attribute name.
+         */
+        String readName() throws IOException {
+
+            final StringBuilder name = new StringBuilder();
+
+            int ch;
+
+            while ((ch = read()) != -1 && !isWhitespace(ch) && ch != '/' && ch != '>' && ch != '=') {
+                name.append((char) (ch >= 'A' && ch <= 'Z' ? ch + ('a' - 'A') : ch));
+            }
+
+            unread(ch);
+
+            return name.toString();
+        }
+
+        /**
+         * Reads an attribute value following <code>=</code>. Character references
+         * are not decoded.
+         *
+         * @param keep <code>false</code> to skip the value
+         */
+        String readAttributeValue(final boolean keep) throws IOException {
+
+            final ByteArrayOutputStream value = keep ? new ByteArrayOutputStream() : null;
+
+            int ch = skipWhitespace();
+
+            if (ch == '"' || ch == '\'') {
+
+                final int quote = ch;
+
+                while ((ch = read()) != -1 && ch != quote) {
+                    if (keep) {
+                        value.write(ch);
+                    }
+                }
+
+            } else {
+
+                while (ch != -1 && !isWhitespace(ch) && ch != '>') {
+                    if (keep) {
+                        value.write(ch);
+                    }
+                    ch = read();
+                }
+
+                unread(ch);
+            }
+
+            return keep ? new String(value.toByteArray(), StandardCharsets.UTF_8) : null;
+        }
+
+        /**
+         * Reads text up to and including an end tag of the given element.
+         *
+         * @param name    a lower-cased element name
+         * @param content to write the text to or <code>null</code> to skip it
+         */
+        void readRawText(final String name, final ByteArrayOutputStream content) throws IOException {
+
+            // a possible end tag, i.e. text if not matched
+            final byte[] candidate = new byte[name.length() + 2];
+
+            int ch;
+
+            while ((ch = read()) != -1) {
+
+                if (ch != '<') {
+                    if (content != null) {
+                        content.write(ch);
+                    }
+                    continue;
+                }
+
+                int matched = 0;
+
+                candidate[matched++] = (byte) ch;
+
+                ch = read();
+
+                if (ch == '/') {
+
+                    candidate[matched++] = (byte) ch;
+
+                    while ((ch = read()) != -1 && matched < candidate.length
+                            && Character.toLowerCase(ch) == name.charAt(matched - 2)) {
+                        candidate[matched++] = (byte) ch;
+                    }
+
+                    if (matched == candidate.length && (isWhitespace(ch) || ch == '/' || ch == '>')) {
+                        if (ch != '>') {
+                            skipPast(">");
+                        }
+                        return;
+                    }
+                }
+
+                if (content != null) {
+                    content.write(candidate, 0, matched);
+                }
+
+                unread(ch);
+            }
+        }
+    }
+}
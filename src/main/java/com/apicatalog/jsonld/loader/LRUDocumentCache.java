@@ -1,17 +1,35 @@
 package com.apicatalog.jsonld.loader;
 
 import com.apicatalog.jsonld.JsonLdError;
-import com.apicatalog.jsonld.context.cache.LruCache;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.context.cache.ConcurrentCache;
 import com.apicatalog.jsonld.document.Document;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
-public class LRUDocumentCache implements DocumentLoader {
+/**
+ * A thread-safe caching {@link DocumentLoader}. Concurrent requests for the
+ * same document are coalesced, the document is loaded once and all the
+ * requests share its result or error.
+ */
+public class LRUDocumentCache implements AsyncDocumentLoader {
 
     private final DocumentLoader documentLoader;
 
-    private final LruCache<Object, Document> cache;
+    private final Cache<Object, Document> cache;
+
+    // documents being loaded, the futures are never returned to callers
+    private final Map<Object, CompletableFuture<Document>> loading;
 
     protected static class CacheKey {
 
@@ -44,23 +62,149 @@ public class LRUDocumentCache implements DocumentLoader {
     }
 
     public LRUDocumentCache(DocumentLoader documentLoader, int cacheSize) {
+        this(documentLoader, new ConcurrentCache<>(cacheSize));
+    }
+
+    /**
+     * Creates a new loader caching documents in the given cache. The cache must
+     * be safe for concurrent use if the loader is shared by threads.
+     *
+     * @param documentLoader a loader used to load documents not found in the cache
+     * @param cache          a cache
+     *
+     * @since 1.4.1
+     */
+    public LRUDocumentCache(DocumentLoader documentLoader, Cache<Object, Document> cache) {
         this.documentLoader = documentLoader;
-        this.cache = new LruCache<>(cacheSize);
+        this.cache = cache;
+        this.loading = new ConcurrentHashMap<>();
     }
 
     @Override
     public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-        Object key = createCacheKey(url, options);
+
+        final Object key = createCacheKey(url, options);
+
         Document result = cache.get(key);
-        if (result == null) {
-            result = documentLoader.loadDocument(url, options);
-            cache.put(key, result);
+
+        if (result != null) {
+            return result;
+        }
+
+        final CompletableFuture<Document> load = new CompletableFuture<>();
+
+        final CompletableFuture<Document> pending = loading.putIfAbsent(key, load);
+
+        // wait for a document being loaded by another request
+        if (pending != null) {
+            return await(pending.thenApply(Function.identity()), url);
+        }
+
+        try {
+            // the document might have been loaded meanwhile
+            result = cache.get(key);
+
+            if (result == null) {
+                result = documentLoader.loadDocument(url, options);
+
+                if (result != null) {
+                    cache.put(key, result);
+                }
+            }
+
+            load.complete(result);
+            return result;
+
+        } catch (JsonLdError | RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Retrieve a document asynchronously. A document found in the cache is
+     * returned immediately, a blocking loader is called by
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options) {
+        return loadDocumentAsync(url, options, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Retrieve a document asynchronously. A document found in the cache is
+     * returned immediately, a blocking loader is called by the given executor.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options, Executor executor) {
+
+        final Object key = createCacheKey(url, options);
+
+        final Document cached = cache.get(key);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
-        return result;
+
+        final CompletableFuture<Document> load = new CompletableFuture<>();
+
+        final CompletableFuture<Document> pending = loading.putIfAbsent(key, load);
+
+        // share a document being loaded by another request, a caller gets its own
+        // stage so cancelling or completing it does not affect the other callers
+        if (pending != null) {
+            return pending.thenApply(Function.identity());
+        }
+
+        AsyncDocumentLoader.loadAsync(documentLoader, url, options, executor)
+                .whenComplete((result, error) -> {
+
+                    if (error == null && result != null) {
+                        cache.put(key, result);
+                    }
+
+                    loading.remove(key, load);
+
+                    if (error != null) {
+                        load.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                                                        ? error.getCause()
+                                                        : error);
+                    } else {
+                        load.complete(result);
+                    }
+                });
+
+        return load.thenApply(Function.identity());
     }
 
     protected Object createCacheKey(URI url, DocumentLoaderOptions options){
         return new CacheKey(url, options);
     }
 
+    private static final Document await(final CompletableFuture<Document> pending, final URI url) throws JsonLdError {
+        try {
+            return pending.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Interrupted while waiting for a document [" + url + "].", e);
+
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof JsonLdError) {
+                throw (JsonLdError) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e.getCause());
+        }
+    }
 }
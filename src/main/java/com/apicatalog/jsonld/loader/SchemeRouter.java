@@ -18,12 +18,15 @@ package com.apicatalog.jsonld.loader;
 import java.net.URI;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.document.Document;
 
-public final class SchemeRouter implements DocumentLoader {
+public final class SchemeRouter implements AsyncDocumentLoader {
 
     private static final DocumentLoader INSTANCE =
                                 new SchemeRouter()
@@ -62,4 +65,39 @@ public final class SchemeRouter implements DocumentLoader {
         return loader.loadDocument(url, options);
     }
 
+    /**
+     * Retrieve a remote document asynchronously using a loader registered for the
+     * URL scheme. A blocking loader is called by {@link ForkJoinPool#commonPool()}.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options) {
+        return loadDocumentAsync(url, options, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Retrieve a remote document asynchronously using a loader registered for the
+     * URL scheme. A blocking loader is called by the given executor.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options, Executor executor) {
+
+        if (url == null) {
+            throw new IllegalArgumentException("The url must not be null.");
+        }
+
+        final DocumentLoader loader = loaders.getOrDefault(url.getScheme().toLowerCase(), null);
+
+        if (loader == null) {
+            final CompletableFuture<Document> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "URL scheme [" + url.getScheme() + "] is not supported."));
+            return failed;
+        }
+
+        return AsyncDocumentLoader.loadAsync(loader, url, options, executor);
+    }
+
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+
+/**
+ * Loads processing inputs asynchronously and runs a processor when the inputs
+ * are available. A returned future is completed exceptionally by
+ * {@link JsonLdError} if an input cannot be loaded or the processing fails.
+ *
+ * @since 1.4.1
+ */
+public final class AsyncProcessor {
+
+    @FunctionalInterface
+    public interface Task<T> {
+        T get() throws JsonLdError;
+    }
+
+    private AsyncProcessor() {
+    }
+
+    /**
+     * Returns the given document, or loads the referenced document to process.
+     *
+     * @param document    an input document or <code>null</code>
+     * @param documentUri a reference to an input document
+     * @param options     processing options
+     * @param executor    to call a blocking document loader
+     * @return a future completed by the document
+     */
+    public static final CompletableFuture<Document> loadDocument(final Document document, final URI documentUri, final JsonLdOptions options, final Executor executor) {
+
+        final DocumentLoaderOptions loaderOptions = new DocumentLoaderOptions();
+        loaderOptions.setExtractAllScripts(options.isExtractAllScripts());
+
+        return load(document, documentUri, loaderOptions, JsonLdErrorCode.LOADING_DOCUMENT_FAILED, options, executor);
+    }
+
+    /**
+     * Returns the given RDF document, or loads the referenced RDF document.
+     *
+     * @param document    an input document or <code>null</code>
+     * @param documentUri a reference to an input document
+     * @param options     processing options
+     * @param executor    to call a blocking document loader
+     * @return a future completed by the document
+     */
+    public static final CompletableFuture<Document> loadRdf(final Document document, final URI documentUri, final JsonLdOptions options, final Executor executor) {
+        return load(document, documentUri, new DocumentLoaderOptions(), JsonLdErrorCode.LOADING_DOCUMENT_FAILED, options, executor);
+    }
+
+    /**
+     * Returns the given context or frame, or loads the referenced one. If both
+     * parameters are <code>null</code> then the future is completed by
+     * <code>null</code>.
+     *
+     * @param context    a context or <code>null</code>
+     * @param contextUri a reference to a context or <code>null</code>
+     * @param options    processing options
+     * @param executor   to call a blocking document loader
+     * @return a future completed by the context
+     */
+    public static final CompletableFuture<Document> loadContext(final Document context, final URI contextUri, final JsonLdOptions options, final Executor executor) {
+
+        if (context == null && contextUri == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return load(context, contextUri, new DocumentLoaderOptions(), JsonLdErrorCode.INVALID_REMOTE_CONTEXT, options, executor);
+    }
+
+    /**
+     * Loads remote contexts referenced by the given input document before a
+     * processing starts.
+     *
+     * @param input    a future completed by an input document
+     * @param options  processing options
+     * @param executor to call a blocking document loader
+     * @return a future completed by options to process the document with
+     * @see #prefetch(CompletableFuture, CompletableFuture, JsonLdOptions, Executor)
+     */
+    public static final CompletableFuture<JsonLdOptions> prefetch(final CompletableFuture<Document> input, final JsonLdOptions options, final Executor executor) {
+        return input.thenCompose(document -> ContextPrefetcher.prefetchAsync(options, executor, document));
+    }
+
+    /**
+     * Loads remote contexts referenced by the given input document and by a
+     * context or a frame before a processing starts, if enabled by
+     * {@link JsonLdOptions#isContextPrefetch()}. The returned options use a
+     * document loader returning the loaded contexts, a context not found in
+     * advance is loaded as {@link java.util.concurrent.ForkJoinPool.ManagedBlocker}
+     * so a blocking document loader does not starve a pool running the
+     * processing.
+     *
+     * @param input    a future completed by an input document
+     * @param context  a future completed by a context, a frame or by
+     *                 <code>null</code>
+     * @param options  processing options
+     * @param executor to call a blocking document loader
+     * @return a future completed by options to process the documents with
+     */
+    public static final CompletableFuture<JsonLdOptions> prefetch(final CompletableFuture<Document> input, final CompletableFuture<Document> context, final JsonLdOptions options, final Executor executor) {
+        return input.thenCombine(context, (document, contextDocument) -> new Document[] { document, contextDocument })
+                    .thenCompose(documents -> ContextPrefetcher.prefetchAsync(options, executor, documents));
+    }
+
+    /**
+     * Runs the given task by the executor when the inputs are loaded.
+     *
+     * @param <T>      the processing result type
+     * @param inputs   a future completed when all the inputs are loaded
+     * @param task     to run
+     * @param executor to run the task
+     * @return a future completed by the task result
+     */
+    public static final <T> CompletableFuture<T> process(final CompletableFuture<?> inputs, final Task<T> task, final Executor executor) {
+        return inputs.thenApplyAsync(loaded -> {
+            try {
+                return task.get();
+
+            } catch (JsonLdError e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private static final CompletableFuture<Document> load(
+            final Document document,
+            final URI documentUri,
+            final DocumentLoaderOptions loaderOptions,
+            final JsonLdErrorCode nullErrorCode,
+            final JsonLdOptions options,
+            final Executor executor) {
+
+        if (document != null) {
+            return CompletableFuture.completedFuture(document);
+        }
+
+        if (documentUri == null) {
+            return failed(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document or document URI must be set."));
+        }
+
+        if (options.getDocumentLoader() == null) {
+            return failed(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + documentUri + "]."));
+        }
+
+        return AsyncDocumentLoader
+                    .loadAsync(options.getDocumentLoader(), documentUri, loaderOptions, executor)
+                    .thenApply(loaded -> {
+                        if (loaded == null) {
+                            throw new CompletionException(new JsonLdError(nullErrorCode, "Returned document is null [" + documentUri + "]."));
+                        }
+                        return loaded;
+                    });
+    }
+
+    private static final <T> CompletableFuture<T> failed(final JsonLdError error) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
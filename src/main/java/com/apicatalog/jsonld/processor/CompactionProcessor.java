@@ -91,7 +91,9 @@ public final class CompactionProcessor {
         return compact(input, contextDocument, options);
     }
 
-    public static final JsonObject compact(final Document input, final Document context, final JsonLdOptions options) throws JsonLdError {
+    public static final JsonObject compact(final Document input, final Document context, final JsonLdOptions processingOptions) throws JsonLdError {
+
+        final JsonLdOptions options = ContextPrefetcher.prefetch(processingOptions, input, context);
 
         // 4.
         final JsonLdOptions expansionOptions = new JsonLdOptions(options);
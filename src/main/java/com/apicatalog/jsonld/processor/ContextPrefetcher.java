@@ -0,0 +1,345 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.http.ProfileConstants;
+import com.apicatalog.jsonld.json.JsonUtils;
+import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.uri.UriResolver;
+
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Collects remote context references, i.e. <code>@context</code> and
+ * <code>@import</code> values, of the given documents and of the loaded
+ * contexts and requests them concurrently.
+ * <p>
+ * A processing is not delayed by the prefetching. A document loader returned
+ * by {@link #prefetch(JsonLdOptions, Document...)} waits only for a context
+ * being requested, a failed request is repeated by the processing to report
+ * the error as defined by the specification. An asynchronous processing starts
+ * when all the contexts have been loaded, see
+ * {@link #prefetchAsync(JsonLdOptions, Executor, Document...)}.
+ * </p>
+ */
+final class ContextPrefetcher {
+
+    // the same limit as applies to nested remote contexts
+    private static final int MAX_CONTEXTS = 256;
+
+    private final DocumentLoader loader;
+
+    private final Cache<String, JsonValue> contextCache;
+
+    private final DocumentLoaderOptions loaderOptions;
+
+    private final Map<URI, CompletableFuture<Document>> contexts;
+
+    private final Executor executor;
+
+    // loads in progress, increased by one until all the documents are collected
+    private final AtomicInteger pending;
+
+    // completed when all the requested contexts are loaded
+    private final CompletableFuture<Void> settled;
+
+    private ContextPrefetcher(final DocumentLoader loader, final Cache<String, JsonValue> contextCache, final Executor executor) {
+        this.loader = loader;
+        this.contextCache = contextCache;
+        this.executor = executor;
+        this.contexts = new ConcurrentHashMap<>();
+        this.pending = new AtomicInteger(1);
+        this.settled = new CompletableFuture<>();
+
+        this.loaderOptions = new DocumentLoaderOptions();
+        this.loaderOptions.setProfile(ProfileConstants.CONTEXT);
+        this.loaderOptions.setRequestProfile(Arrays.asList(loaderOptions.getProfile()));
+    }
+
+    /**
+     * Starts prefetching of remote contexts referenced by the given documents if
+     * enabled by {@link JsonLdOptions#isContextPrefetch()}.
+     *
+     * @param options   processing options
+     * @param documents an input document followed by a context or a frame,
+     *                  <code>null</code> values are ignored
+     * @return options to process the documents with
+     */
+    static final JsonLdOptions prefetch(final JsonLdOptions options, final Document... documents) {
+
+        if (!options.isContextPrefetch() || options.getDocumentLoader() == null) {
+            return options;
+        }
+
+        final ContextPrefetcher prefetcher = new ContextPrefetcher(options.getDocumentLoader(), options.getContextCache(), ForkJoinPool.commonPool());
+
+        prefetcher.collect(options, documents);
+
+        return prefetcher.options(options);
+    }
+
+    /**
+     * Prefetches remote contexts referenced by the given documents if enabled by
+     * {@link JsonLdOptions#isContextPrefetch()}. Unlike
+     * {@link #prefetch(JsonLdOptions, Document...)} the returned future is
+     * completed when all the contexts, including contexts referenced by the
+     * loaded contexts, have been loaded, so a processing does not wait for a
+     * context. A context not found in advance is loaded by the processing as a
+     * {@link ForkJoinPool.ManagedBlocker}.
+     *
+     * @param options   processing options
+     * @param executor  to call a blocking document loader
+     * @param documents an input document followed by a context or a frame,
+     *                  <code>null</code> values are ignored
+     * @return a future completed by options to process the documents with
+     */
+    static final CompletableFuture<JsonLdOptions> prefetchAsync(final JsonLdOptions options, final Executor executor, final Document... documents) {
+
+        if (options.getDocumentLoader() == null) {
+            return CompletableFuture.completedFuture(options);
+        }
+
+        final ContextPrefetcher prefetcher = new ContextPrefetcher(options.getDocumentLoader(), options.getContextCache(), executor);
+
+        if (options.isContextPrefetch()) {
+            prefetcher.collect(options, documents);
+
+        } else {
+            prefetcher.release();
+        }
+
+        return prefetcher.settled.thenApply(loaded -> prefetcher.options(options));
+    }
+
+    private void collect(final JsonLdOptions options, final Document... documents) {
+
+        try {
+            for (int i = 0; i < documents.length; i++) {
+
+                if (documents[i] == null) {
+                    continue;
+                }
+
+                final URI baseUrl = documents[i].getDocumentUrl() != null
+                                        ? documents[i].getDocumentUrl()
+                                        : options.getBase();
+
+                if (documents[i].getContextUrl() != null) {
+                    request(documents[i].getContextUrl());
+                }
+
+                documents[i].getJsonContent().ifPresent(json -> collect(json, baseUrl));
+
+                // an expand context is applied to an input document
+                if (i == 0 && options.getExpandContext() != null) {
+                    options.getExpandContext().getJsonContent().ifPresent(json -> collect(json, baseUrl));
+                }
+            }
+
+        } finally {
+            release();
+        }
+    }
+
+    private JsonLdOptions options(final JsonLdOptions options) {
+
+        final JsonLdOptions prefetchOptions = new JsonLdOptions(options);
+        prefetchOptions.setDocumentLoader(new PrefetchedLoader());
+
+        // nested processors use the prefetched contexts
+        prefetchOptions.setContextPrefetch(false);
+
+        return prefetchOptions;
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() == 0) {
+            settled.complete(null);
+        }
+    }
+
+    private void collect(final JsonValue value, final URI baseUrl) {
+
+        if (JsonUtils.isArray(value)) {
+            for (final JsonValue item : value.asJsonArray()) {
+                collect(item, baseUrl);
+            }
+            return;
+        }
+
+        if (JsonUtils.isNotObject(value)) {
+            return;
+        }
+
+        for (final Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+
+            if (Keywords.CONTEXT.equals(entry.getKey())) {
+                collectContext(entry.getValue(), baseUrl);
+
+            } else if (Keywords.IMPORT.equals(entry.getKey())) {
+                request(entry.getValue(), baseUrl);
+
+            } else {
+                collect(entry.getValue(), baseUrl);
+            }
+        }
+    }
+
+    // a context value, i.e. a reference, an array or a context definition
+    private void collectContext(final JsonValue context, final URI baseUrl) {
+
+        if (JsonUtils.isString(context)) {
+            request(context, baseUrl);
+
+        } else if (JsonUtils.isArray(context)) {
+            for (final JsonValue item : context.asJsonArray()) {
+                collectContext(item, baseUrl);
+            }
+
+        } else {
+            collect(context, baseUrl);
+        }
+    }
+
+    private void request(final JsonValue reference, final URI baseUrl) {
+
+        if (JsonUtils.isNotString(reference)) {
+            return;
+        }
+
+        final URI contextUri;
+
+        try {
+            contextUri = UriResolver.resolveAsUri(baseUrl, ((JsonString) reference).getString());
+
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return;
+        }
+
+        if (contextUri != null && contextUri.isAbsolute()) {
+            request(contextUri);
+        }
+    }
+
+    private void request(final URI contextUri) {
+
+        if (contexts.size() >= MAX_CONTEXTS || contexts.containsKey(contextUri)) {
+            return;
+        }
+
+        // a processed context is not requested again, only its references are
+        if (contextCache != null) {
+
+            final JsonValue cached = contextCache.get(contextUri.toString());
+
+            if (cached != null) {
+                if (contexts.putIfAbsent(contextUri, CompletableFuture.completedFuture(null)) == null) {
+                    collectContext(cached, contextUri);
+                }
+                return;
+            }
+        }
+
+        final CompletableFuture<Document> context = new CompletableFuture<>();
+
+        if (contexts.putIfAbsent(contextUri, context) != null) {
+            return;
+        }
+
+        pending.incrementAndGet();
+
+        AsyncDocumentLoader
+                .loadAsync(loader, contextUri, loaderOptions, executor)
+                .whenComplete((document, error) -> {
+
+                    if (error != null || document == null) {
+                        context.complete(null);
+                        release();
+                        return;
+                    }
+
+                    try {
+                        document.getJsonContent().ifPresent(json -> collect(json, document.getDocumentUrl() != null ? document.getDocumentUrl() : contextUri));
+
+                    } finally {
+                        context.complete(document);
+                        release();
+                    }
+                });
+    }
+
+    /**
+     * Returns prefetched contexts, other requests are passed to the original
+     * loader.
+     */
+    private final class PrefetchedLoader implements DocumentLoader {
+
+        @Override
+        public Document loadDocument(final URI url, final DocumentLoaderOptions options) throws JsonLdError {
+
+            final CompletableFuture<Document> context = loaderOptions.equals(options)
+                                                            ? contexts.get(url)
+                                                            : null;
+
+            if (context != null) {
+
+                final Document document = context.join();
+
+                if (document != null) {
+                    return document;
+                }
+            }
+
+            return load(url, options);
+        }
+
+        // a blocking loader is called as a managed blocker, a worker of a
+        // ForkJoinPool is compensated while waiting
+        private Document load(final URI url, final DocumentLoaderOptions options) throws JsonLdError {
+            try {
+                return AsyncDocumentLoader.loadAsync(loader, url, options, Runnable::run).join();
+
+            } catch (CompletionException e) {
+
+                if (e.getCause() instanceof JsonLdError) {
+                    throw (JsonLdError) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package com.apicatalog.jsonld.processor;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Optional;
 
 import com.apicatalog.jsonld.JsonLdError;
@@ -23,7 +24,11 @@ import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.context.ActiveContext;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.expansion.ArrayExpansion;
 import com.apicatalog.jsonld.expansion.Expansion;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.flattening.ParallelNodeMapBuilder;
 import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.json.JsonUtils;
 import com.apicatalog.jsonld.lang.Keywords;
@@ -62,65 +67,108 @@ public final class ExpansionProcessor {
         return expand(remoteDocument, options, false);
     }
 
-    public static final JsonArray expand(Document input, final JsonLdOptions options, boolean frameExpansion) throws JsonLdError {
+    public static final JsonArray expand(Document input, final JsonLdOptions processingOptions, boolean frameExpansion) throws JsonLdError {
 
         if (input == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RemoteDocument is null.");
         }
 
+        final JsonLdOptions options = ContextPrefetcher.prefetch(processingOptions, input);
+
         final JsonStructure jsonStructure = input
                                                 .getJsonContent()
                                                 .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document is not pased JSON."));
 
-        // 5. Initialize a new empty active context. The base IRI and
-        // original base URL of the active context is set to the documentUrl
-        // from remote document, if available; otherwise to the base option from
-        // options.
-        // If set, the base option from options overrides the base IRI.
+        final URI baseUrl = baseUrl(input, options);
 
-        URI baseUri = null;
-        URI baseUrl = null;
+        return expand(activeContext(input.getDocumentUrl(), input.getContextUrl(), options, baseUrl), jsonStructure, baseUrl, frameExpansion, options.isOrdered());
+    }
 
-        if (input.getDocumentUrl() != null) {
-            baseUrl = input.getDocumentUrl();
-            baseUri = baseUrl;
-        }
+    /**
+     * Expands the given input directly into a new {@link NodeMap}, an expanded
+     * form of the whole input is not materialized.
+     * <p>
+     * Items of a top-level array, or of a top-level <code>@graph</code> entry,
+     * are expanded one by one and each is added to the node map as soon as it is
+     * expanded. Other documents are expanded as a whole before the node map is
+     * built. The result is the same as if the expanded input was passed to
+     * {@link NodeMapBuilder}, including blank node identifiers.
+     * </p>
+     * <p>
+     * A large array is expanded as a whole and mapped in parallel by
+     * {@link ParallelNodeMapBuilder} if enabled by
+     * {@link JsonLdOptions#setParallelThreshold(int)}.
+     * </p>
+     *
+     * @param input             a document to expand
+     * @param processingOptions processing options
+     * @return a node map of the expanded input
+     * @throws JsonLdError if the input cannot be expanded
+     */
+    static final NodeMap expandToNodeMap(final Document input, final JsonLdOptions processingOptions) throws JsonLdError {
 
-        if (baseUrl == null) {
-            baseUrl = options.getBase();
+        if (input == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "RemoteDocument is null.");
         }
-        if (options.getBase() != null) {
-            baseUri = options.getBase();
+
+        final JsonLdOptions options = ContextPrefetcher.prefetch(processingOptions, input);
+
+        final JsonStructure jsonStructure = input
+                                                .getJsonContent()
+                                                .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document is not pased JSON."));
+
+        final URI baseUrl = baseUrl(input, options);
+
+        final ActiveContext activeContext = activeContext(input.getDocumentUrl(), input.getContextUrl(), options, baseUrl);
+
+        final NodeMap nodeMap = new NodeMap();
+
+        // a top-level array
+        if (JsonUtils.isArray(jsonStructure)) {
+            expandItems(activeContext, jsonStructure.asJsonArray(), null, baseUrl, options.isOrdered(), nodeMap);
+            return nodeMap;
         }
 
-        ActiveContext activeContext = new ActiveContext(baseUri, baseUrl, ProcessingRuntime.of(options));
+        // a top-level object consisting of a single @graph entry is unwrapped (8.1)
+        if (JsonUtils.isObject(jsonStructure) && activeContext.getPreviousContext() == null) {
 
-        // 6. If the expandContext option in options is set, update the active context
-        // using the Context Processing algorithm, passing the expandContext as
-        // local context and the original base URL from active context as base URL.
-        // If expandContext is a map having an @context entry, pass that entry's value
-        // instead for local context.
-        if (options.getExpandContext() != null) {
+            final JsonObject object = jsonStructure.asJsonObject();
 
-            final Optional<JsonStructure> contextValue = options.getExpandContext().getJsonContent();
+            final ActiveContext localContext = object.containsKey(Keywords.CONTEXT)
+                                                    ? activeContext.newContext().create(object.get(Keywords.CONTEXT), baseUrl)
+                                                    : activeContext;
 
-            if (contextValue.isPresent()) {
-                activeContext = updateContext(activeContext, contextValue.get(), baseUrl);
+            final JsonArray graph = findGraph(localContext, object);
+
+            if (graph != null) {
+                expandItems(localContext, graph, Keywords.GRAPH, baseUrl, options.isOrdered(), nodeMap);
+                return nodeMap;
             }
-        }
 
-        // 7.
-        if (input.getContextUrl() != null) {
-            activeContext = activeContext
-                                .newContext()
-                                .create(JsonProvider.instance().createValue(input.getContextUrl().toString()), input.getContextUrl());
+            // the inline context is not processed again, the object is expanded
+            // as if the context had been applied by the expansion (9.), a context
+            // not propagated is left to the expansion (7.)
+            if (localContext != activeContext && localContext.getPreviousContext() == null) {
+                buildNodeMap(
+                        localContext,
+                        expand(localContext, JsonProvider.instance().createObjectBuilder(object).remove(Keywords.CONTEXT).build(), baseUrl, false, options.isOrdered()),
+                        nodeMap);
+                return nodeMap;
+            }
         }
 
+        buildNodeMap(activeContext, expand(activeContext, jsonStructure, baseUrl, false, options.isOrdered()), nodeMap);
+
+        return nodeMap;
+    }
+
+    private static final JsonArray expand(final ActiveContext activeContext, final JsonStructure jsonStructure, final URI baseUrl, final boolean frameExpansion, final boolean ordered) throws JsonLdError {
+
         // 8.
         JsonValue expanded = Expansion
                                 .with(activeContext, jsonStructure, null, baseUrl)
                                 .frameExpansion(frameExpansion)
-                                .ordered(options.isOrdered())
+                                .ordered(ordered)
                                 .compute();
 
         // 8.1
@@ -142,6 +190,125 @@ public final class ExpansionProcessor {
         return JsonUtils.toJsonArray(expanded);
     }
 
+    // the same steps as an array expansion, expanded items are added to the node map
+    private static final void expandItems(final ActiveContext activeContext, final JsonArray items, final String activeProperty, final URI baseUrl, final boolean ordered, final NodeMap nodeMap) throws JsonLdError {
+
+        // large arrays are expanded and mapped in parallel, if enabled
+        if (isParallel(activeContext, items)) {
+            buildNodeMap(
+                    activeContext,
+                    ArrayExpansion.with(activeContext, items, activeProperty, baseUrl).ordered(ordered).expand(),
+                    nodeMap);
+            return;
+        }
+
+        for (final JsonValue item : items) {
+            expandItem(activeContext, item, activeProperty, baseUrl, ordered, nodeMap);
+        }
+    }
+
+    private static final void buildNodeMap(final ActiveContext activeContext, final JsonArray expanded, final NodeMap nodeMap) throws JsonLdError {
+
+        if (isParallel(activeContext, expanded)) {
+            ParallelNodeMapBuilder.with(expanded, nodeMap).pool(activeContext.runtime().getParallelPool()).build();
+            return;
+        }
+
+        NodeMapBuilder.with(expanded, nodeMap).build();
+    }
+
+    private static final boolean isParallel(final ActiveContext activeContext, final JsonArray items) {
+        return activeContext.runtime().getParallelThreshold() > 0
+                && items.size() >= activeContext.runtime().getParallelThreshold();
+    }
+
+    static final void expandItem(final ActiveContext activeContext, final JsonValue item, final String activeProperty, final URI baseUrl, final boolean ordered, final NodeMap nodeMap) throws JsonLdError {
+
+        activeContext.runtime().tick();
+
+        final JsonValue expanded = Expansion
+                                    .with(activeContext, item, activeProperty, baseUrl)
+                                    .ordered(ordered)
+                                    .compute();
+
+        if (JsonUtils.isArray(expanded)) {
+            for (final JsonValue value : expanded.asJsonArray()) {
+                if (JsonUtils.isNotNull(value)) {
+                    NodeMapBuilder.with(value.asJsonObject(), nodeMap).build();
+                }
+            }
+
+        } else if (JsonUtils.isNotNull(expanded)) {
+            NodeMapBuilder.with(expanded.asJsonObject(), nodeMap).build();
+        }
+    }
+
+    // returns @graph entry value if it is the only entry besides @context and is an array
+    private static final JsonArray findGraph(final ActiveContext activeContext, final JsonObject object) throws JsonLdError {
+
+        JsonValue graph = null;
+
+        for (final Map.Entry<String, JsonValue> entry : object.entrySet()) {
+
+            if (Keywords.CONTEXT.equals(entry.getKey())) {
+                continue;
+            }
+
+            if (graph != null
+                    || !Keywords.GRAPH.equals(activeContext.uriExpansion().vocab(true).expand(entry.getKey()))) {
+                return null;
+            }
+
+            graph = entry.getValue();
+        }
+
+        return JsonUtils.isArray(graph) ? graph.asJsonArray() : null;
+    }
+
+    // 5. Initialize a new empty active context. The base IRI and
+    // original base URL of the active context is set to the documentUrl
+    // from remote document, if available; otherwise to the base option from
+    // options.
+    // If set, the base option from options overrides the base IRI.
+    static final URI baseUrl(final Document input, final JsonLdOptions options) {
+        return input.getDocumentUrl() != null
+                    ? input.getDocumentUrl()
+                    : options.getBase();
+    }
+
+    static final ActiveContext activeContext(final URI documentUrl, final URI contextUrl, final JsonLdOptions options, final URI baseUrl) throws JsonLdError {
+
+        // 5.
+        final URI baseUri = options.getBase() != null
+                                ? options.getBase()
+                                : documentUrl;
+
+        ActiveContext activeContext = new ActiveContext(baseUri, baseUrl, ProcessingRuntime.of(options));
+
+        // 6. If the expandContext option in options is set, update the active context
+        // using the Context Processing algorithm, passing the expandContext as
+        // local context and the original base URL from active context as base URL.
+        // If expandContext is a map having an @context entry, pass that entry's value
+        // instead for local context.
+        if (options.getExpandContext() != null) {
+
+            final Optional<JsonStructure> contextValue = options.getExpandContext().getJsonContent();
+
+            if (contextValue.isPresent()) {
+                activeContext = updateContext(activeContext, contextValue.get(), baseUrl);
+            }
+        }
+
+        // 7.
+        if (contextUrl != null) {
+            activeContext = activeContext
+                                .newContext()
+                                .create(JsonProvider.instance().createValue(contextUrl.toString()), contextUrl);
+        }
+
+        return activeContext;
+    }
+
     private static final ActiveContext updateContext(final ActiveContext activeContext, final JsonValue expandedContext, final URI baseUrl) throws JsonLdError {
 
       if (JsonUtils.isArray(expandedContext)) {
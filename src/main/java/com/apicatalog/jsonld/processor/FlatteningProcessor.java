@@ -26,7 +26,6 @@ import com.apicatalog.jsonld.flattening.Flattening;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonStructure;
 
 /**
@@ -78,7 +77,7 @@ public final class FlatteningProcessor {
         assertDocumentLoader(options, input);
 
         final DocumentLoaderOptions loaderOptions = new DocumentLoaderOptions();
-        loaderOptions.setExtractAllScripts(options.isExtractAllScripts());
+        loaderOptions.setExtractAllScripts(options.isExtractAllScripts(true));
 
         final Document remoteDocument = options.getDocumentLoader().loadDocument(input, loaderOptions);
 
@@ -89,17 +88,20 @@ public final class FlatteningProcessor {
         return flatten(remoteDocument, context, options);
     }
 
-    public static final JsonStructure flatten(final Document input, final Document context, final JsonLdOptions options) throws JsonLdError {
+    public static final JsonStructure flatten(final Document input, final Document context, final JsonLdOptions processingOptions) throws JsonLdError {
+
+        final JsonLdOptions options = ContextPrefetcher.prefetch(processingOptions, input, context);
 
         // 4.
         final JsonLdOptions expansionOptions = new JsonLdOptions(options);
         expansionOptions.setOrdered(false);
 
-        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
-
         // 5.
         // 6.
-        JsonStructure flattenedOutput = Flattening.with(expandedInput).ordered(options.isOrdered()).flatten();
+        JsonStructure flattenedOutput = Flattening
+                                            .with(ExpansionProcessor.expandToNodeMap(input, expansionOptions))
+                                            .ordered(options.isOrdered())
+                                            .flatten();
 
         // 6.1.
         if (context != null) {
@@ -92,12 +92,14 @@ public final class FramingProcessor {
         return frame(input, frameDocument, options);
     }
 
-    public static final JsonObject frame(final Document input, final Document frame, final JsonLdOptions options) throws JsonLdError {
+    public static final JsonObject frame(final Document input, final Document frame, final JsonLdOptions processingOptions) throws JsonLdError {
 
         if (frame == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame or Frame.Document is null.");
         }
 
+        final JsonLdOptions options = ContextPrefetcher.prefetch(processingOptions, input, frame);
+
         final JsonStructure frameStructure = frame
                 .getJsonContent()
                 .orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Frame is not JSON object but null."));
@@ -16,13 +16,16 @@
 package com.apicatalog.jsonld.processor;
 
 import java.net.URI;
+import java.util.Optional;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.RdfDocument;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 import com.apicatalog.jsonld.serialization.RdfToJsonld;
+import com.apicatalog.rdf.RdfDataset;
 
 import jakarta.json.JsonArray;
 
@@ -34,7 +37,7 @@ public final class FromRdfProcessor {
     public static final JsonArray fromRdf(final Document document, final JsonLdOptions options) throws JsonLdError {
 
         return RdfToJsonld
-                    .with(document.getRdfContent().orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Expected RDF document but got [mediaType=" + document.getContentType() + ", uri=" + document.getDocumentUrl() + "]")))
+                    .with(rdfContent(document).orElseThrow(() -> new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Expected RDF document but got [mediaType=" + document.getContentType() + ", uri=" + document.getDocumentUrl() + "]")))
                     .ordered(options.isOrdered())
                     .rdfDirection(options.getRdfDirection())
                     .useNativeTypes(options.isUseNativeTypes())
@@ -63,4 +66,17 @@ public final class FromRdfProcessor {
 
         return fromRdf(remoteDocument, options);
     }
+
+    /**
+     * Returns RDF content, a lazily read document is read on the first call and
+     * fails if the content is not valid.
+     */
+    private static final Optional<RdfDataset> rdfContent(final Document document) throws JsonLdError {
+
+        if (document instanceof RdfDocument) {
+            return Optional.of(((RdfDocument) document).readRdfContent());
+        }
+
+        return document.getRdfContent();
+    }
 }
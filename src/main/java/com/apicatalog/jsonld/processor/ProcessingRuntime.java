@@ -1,8 +1,12 @@
 package com.apicatalog.jsonld.processor;
 
+import java.util.concurrent.ForkJoinPool;
+
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.JsonLdVersion;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.context.InverseContext;
 import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -68,6 +72,14 @@ public class ProcessingRuntime {
         return options.getContextCache();
     }
 
+    public Cache<String, ActiveContext> getActiveContextCache() {
+        return options.getActiveContextCache();
+    }
+
+    public Cache<String, InverseContext> getInverseContextCache() {
+        return options.getInverseContextCache();
+    }
+
     public Cache<String, Document> getDocumentCache() {
         return options.getDocumentCache();
     }
@@ -79,4 +91,26 @@ public class ProcessingRuntime {
     public boolean isNumericId() {
         return options.isNumericId();
     }
+
+    /**
+     * A minimal number of array items expanded in parallel.
+     *
+     * @return a number of array items, <code>0</code> if disabled
+     * @since 1.4.1
+     */
+    public int getParallelThreshold() {
+        return options.getParallelThreshold();
+    }
+
+    /**
+     * A pool used to expand large arrays in parallel.
+     *
+     * @return a pool, never <code>null</code>
+     * @since 1.4.1
+     */
+    public ForkJoinPool getParallelPool() {
+        return options.getParallelPool() != null
+                ? options.getParallelPool()
+                : ForkJoinPool.commonPool();
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import java.net.URI;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.deseralization.JsonLdToRdf;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.lang.Keywords;
+import com.apicatalog.rdf.RdfNQuad;
+
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Transforms a document read by {@link JsonParser} node by node. Only a
+ * single top-level node is held in memory, <code>N-Quads</code> of a node are
+ * passed to a consumer as soon as the node is read.
+ * <p>
+ * A document is stream-safe if it is a top-level array of nodes, or an
+ * object consisting of an optional <code>@context</code> entry followed by a
+ * single <code>@graph</code> entry with an array of nodes. Other documents are
+ * read as a whole and processed by {@link ToRdfProcessor}.
+ * </p>
+ * <p>
+ * An entry following <code>@graph</code> entry is detected when the nodes have
+ * been provided already, the transformation fails with
+ * {@link JsonLdErrorCode#NOT_STREAM_SAFE_DOCUMENT}.
+ * </p>
+ */
+final class StreamingToRdf {
+
+    private static final Logger LOGGER = Logger.getLogger(StreamingToRdf.class.getName());
+
+    private final JsonParser parser;
+
+    private final JsonLdOptions options;
+
+    private final Consumer<RdfNQuad> consumer;
+
+    private final boolean deduplicate;
+
+    private final URI baseUrl;
+
+    // issued blank node identifiers are shared by all the nodes
+    private final NodeMap nodeMap;
+
+    private StreamingToRdf(final JsonParser parser, final JsonLdOptions options, final Consumer<RdfNQuad> consumer, final boolean deduplicate) {
+        this.parser = parser;
+        this.options = options;
+        this.consumer = consumer;
+        this.deduplicate = deduplicate;
+        this.baseUrl = options.getBase();
+        this.nodeMap = new NodeMap();
+    }
+
+    static final void toRdf(final JsonParser parser, final JsonLdOptions options, final Consumer<RdfNQuad> consumer, final boolean deduplicate) throws JsonLdError {
+        new StreamingToRdf(parser, options, consumer, deduplicate).process();
+    }
+
+    private void process() throws JsonLdError {
+
+        if (!parser.hasNext()) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Nothing to read. Provided document is empty.");
+        }
+
+        final Event event = parser.next();
+
+        final ActiveContext activeContext = ExpansionProcessor.activeContext(null, null, options, baseUrl);
+
+        if (Event.START_ARRAY == event) {
+
+            while (parser.next() != Event.END_ARRAY) {
+                emit(activeContext, parser.getValue(), null);
+            }
+
+        } else if (Event.START_OBJECT == event) {
+            processObject(activeContext);
+
+        } else {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "JSON document's top level element must be JSON array or object.");
+        }
+    }
+
+    private void processObject(final ActiveContext activeContext) throws JsonLdError {
+
+        // entries read so far, kept to process a document as a whole
+        final JsonObjectBuilder object = JsonProvider.instance().createObjectBuilder();
+
+        ActiveContext localContext = activeContext;
+
+        boolean context = false;
+        boolean graph = false;
+
+        while (parser.next() != Event.END_OBJECT) {
+
+            final String key = parser.getString();
+
+            final Event event = parser.next();
+
+            if (graph) {
+                // @graph nodes have been provided already, e.g. as default graph statements
+                throw new JsonLdError(JsonLdErrorCode.NOT_STREAM_SAFE_DOCUMENT,
+                        "Document is not stream-safe, an entry [" + key + "] follows @graph entry. "
+                        + "Provided N-Quads are not valid, the document must be transformed as a whole.");
+            }
+
+            if (!context && Keywords.CONTEXT.equals(key)) {
+
+                final JsonValue value = parser.getValue();
+
+                object.add(key, value);
+                localContext = activeContext.newContext().create(value, baseUrl);
+                context = true;
+                continue;
+            }
+
+            if (Event.START_ARRAY == event
+                    && activeContext.getPreviousContext() == null
+                    && Keywords.GRAPH.equals(localContext.uriExpansion().vocab(true).expand(key))) {
+
+                while (parser.next() != Event.END_ARRAY) {
+                    emit(localContext, parser.getValue(), Keywords.GRAPH);
+                }
+
+                graph = true;
+                continue;
+            }
+
+            object.add(key, parser.getValue());
+
+            while (parser.next() != Event.END_OBJECT) {
+                final String nextKey = parser.getString();
+                parser.next();
+                object.add(nextKey, parser.getValue());
+            }
+
+            LOGGER.log(Level.WARNING, "Document is not stream-safe, an entry [{0}] is not @graph, the document is processed as a whole.", key);
+
+            ToRdfProcessor.toRdf(JsonDocument.of(object.build()), options, consumer, deduplicate);
+            return;
+        }
+
+        // a single @context entry or an empty object
+        if (!graph) {
+            ToRdfProcessor.toRdf(JsonDocument.of(object.build()), options, consumer, deduplicate);
+        }
+    }
+
+    private void emit(final ActiveContext activeContext, final JsonValue node, final String activeProperty) throws JsonLdError {
+
+        ExpansionProcessor.expandItem(activeContext, node, activeProperty, baseUrl, options.isOrdered(), nodeMap);
+
+        JsonLdToRdf
+                .with(nodeMap)
+                .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
+                .rdfDirection(options.getRdfDirection())
+                .uriValidation(options.isUriValidation())
+                .ordered(options.isOrdered())
+                .deduplicate(deduplicate)
+                .provide(consumer);
+
+        nodeMap.clear();
+    }
+}
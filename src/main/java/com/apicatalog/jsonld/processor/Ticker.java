@@ -19,7 +19,7 @@ class Ticker extends ProcessingRuntime {
     }
 
     @Override
-    public void tick() throws JsonLdError {
+    public synchronized void tick() throws JsonLdError {
 
         final Instant now = Instant.now();
 
@@ -32,7 +32,7 @@ class Ticker extends ProcessingRuntime {
     }
 
     @Override
-    public void resetTicker() {
+    public synchronized void resetTicker() {
         ticker = Instant.now();
     }
 }
@@ -15,20 +15,24 @@
  */
 package com.apicatalog.jsonld.processor;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.net.URI;
+import java.util.function.Consumer;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.deseralization.JsonLdToRdf;
 import com.apicatalog.jsonld.document.Document;
-import com.apicatalog.jsonld.flattening.NodeMap;
-import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.json.JsonProvider;
 import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
 
-import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
 
 /**
  *
@@ -41,13 +45,131 @@ public final class ToRdfProcessor {
     }
 
     public static final RdfDataset toRdf(final URI input, final JsonLdOptions options) throws JsonLdError {
+        return toRdf(load(input, options), options);
+    }
+
+    public static final RdfDataset toRdf(Document input, final JsonLdOptions options) throws JsonLdError {
+        return converter(input, options, Rdf.createDataset())
+                        .build();
+    }
+
+    /**
+     * Transforms the given input and passes <code>N-Quads</code> to the consumer as they are produced.
+     *
+     * @param input a document to transform
+     * @param options processing options
+     * @param consumer receiving <code>N-Quads</code>
+     * @param deduplicate <code>true</code> to provide each <code>N-Quad</code> at most once
+     * @throws JsonLdError
+     */
+    public static final void toRdf(final URI input, final JsonLdOptions options, final Consumer<RdfNQuad> consumer, boolean deduplicate) throws JsonLdError {
+        toRdf(load(input, options), options, consumer, deduplicate);
+    }
+
+    /**
+     * Transforms the given input and passes <code>N-Quads</code> to the consumer as they are produced.
+     *
+     * @param input a document to transform
+     * @param options processing options
+     * @param consumer receiving <code>N-Quads</code>
+     * @param deduplicate <code>true</code> to provide each <code>N-Quad</code> at most once
+     * @throws JsonLdError
+     */
+    public static final void toRdf(final Document input, final JsonLdOptions options, final Consumer<RdfNQuad> consumer, boolean deduplicate) throws JsonLdError {
+        converter(input, options, null)
+                        .deduplicate(deduplicate)
+                        .provide(consumer);
+    }
+
+    /**
+     * Transforms the given input read as a stream and passes <code>N-Quads</code>
+     * to the consumer as soon as a top-level node is read. Memory is bounded by
+     * the largest top-level node instead of by the whole document.
+     * <p>
+     * An input must be a top-level array of nodes, or an object consisting of
+     * an optional <code>@context</code> entry followed by a single
+     * <code>@graph</code> entry with an array of nodes. Any other input is read
+     * and transformed as a whole.
+     * </p>
+     * <p>
+     * An entry following <code>@graph</code> entry, e.g.
+     * <code>{"@graph": [...], "@id": "..."}</code>, is found when
+     * <code>N-Quads</code> of the nodes have been provided already and might be
+     * placed into a wrong graph. The transformation then fails with
+     * {@link JsonLdErrorCode#NOT_STREAM_SAFE_DOCUMENT} and all the provided
+     * <code>N-Quads</code> must be discarded. Such a document must be
+     * transformed as a whole, e.g. by
+     * {@link #toRdf(Document, JsonLdOptions, Consumer, boolean)}.
+     * </p>
+     * <p>
+     * Blank node identifiers are consistent across the nodes but might differ
+     * from identifiers generated for a whole document. <code>N-Quads</code> are
+     * deduplicated per node only.
+     * </p>
+     *
+     * @param input a stream providing JSON content
+     * @param options processing options, a base IRI is set by {@link JsonLdOptions#setBase(URI)}
+     * @param consumer receiving <code>N-Quads</code>
+     * @param deduplicate <code>true</code> to provide each <code>N-Quad</code> of a node at most once
+     * @throws JsonLdError {@link JsonLdErrorCode#NOT_STREAM_SAFE_DOCUMENT} if an
+     *                     entry follows <code>@graph</code> entry, the provided
+     *                     <code>N-Quads</code> are not valid then
+     *
+     * @since 1.4.1
+     */
+    public static final void toRdf(final InputStream input, final JsonLdOptions options, final Consumer<RdfNQuad> consumer, boolean deduplicate) throws JsonLdError {
+
+        if (input == null) {
+            throw new IllegalArgumentException("The input stream parameter cannot be null.");
+        }
+
+        try (final JsonParser parser = JsonProvider.instance().createParser(input)) {
+
+            StreamingToRdf.toRdf(parser, options, consumer, deduplicate);
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    /**
+     * Transforms the given input read as a stream and passes <code>N-Quads</code>
+     * to the consumer as soon as a top-level node is read.
+     *
+     * @param input a reader providing JSON content
+     * @param options processing options, a base IRI is set by {@link JsonLdOptions#setBase(URI)}
+     * @param consumer receiving <code>N-Quads</code>
+     * @param deduplicate <code>true</code> to provide each <code>N-Quad</code> of a node at most once
+     * @throws JsonLdError {@link JsonLdErrorCode#NOT_STREAM_SAFE_DOCUMENT} if an
+     *                     entry follows <code>@graph</code> entry, the provided
+     *                     <code>N-Quads</code> are not valid then
+     *
+     * @see #toRdf(InputStream, JsonLdOptions, Consumer, boolean)
+     * @since 1.4.1
+     */
+    public static final void toRdf(final Reader input, final JsonLdOptions options, final Consumer<RdfNQuad> consumer, boolean deduplicate) throws JsonLdError {
+
+        if (input == null) {
+            throw new IllegalArgumentException("The reader parameter cannot be null.");
+        }
+
+        try (final JsonParser parser = JsonProvider.instance().createParser(input)) {
+
+            StreamingToRdf.toRdf(parser, options, consumer, deduplicate);
+
+        } catch (JsonException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    private static final Document load(final URI input, final JsonLdOptions options) throws JsonLdError {
 
         if (options.getDocumentLoader() == null) {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + input + "].");
         }
 
         final DocumentLoaderOptions loaderOptions = new DocumentLoaderOptions();
-        loaderOptions.setExtractAllScripts(options.isExtractAllScripts());
+        loaderOptions.setExtractAllScripts(options.isExtractAllScripts(true));
 
         final Document remoteDocument = options.getDocumentLoader().loadDocument(input, loaderOptions);
 
@@ -55,10 +177,10 @@ public final class ToRdfProcessor {
             throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
         }
 
-        return toRdf(remoteDocument, options);
+        return remoteDocument;
     }
 
-    public static final RdfDataset toRdf(Document input, final JsonLdOptions options) throws JsonLdError {
+    private static final JsonLdToRdf converter(final Document input, final JsonLdOptions options, final RdfDataset dataset) throws JsonLdError {
 
         final JsonLdOptions expansionOptions = new JsonLdOptions(options);
 
@@ -66,16 +188,14 @@ public final class ToRdfProcessor {
         expansionOptions.setBase(options.getBase());
         expansionOptions.setExpandContext(options.getExpandContext());
 
-        final JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
-
         return JsonLdToRdf
                         .with(
-                            NodeMapBuilder.with(expandedInput, new NodeMap()).build(),
-                            Rdf.createDataset()
+                            ExpansionProcessor.expandToNodeMap(input, expansionOptions),
+                            dataset
                             )
                         .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
                         .rdfDirection(options.getRdfDirection())
                         .uriValidation(options.isUriValidation())
-                        .build();
+                        .ordered(options.isOrdered());
     }
 }
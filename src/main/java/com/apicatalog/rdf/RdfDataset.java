@@ -18,6 +18,7 @@ package com.apicatalog.rdf;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface RdfDataset {
 
@@ -51,4 +52,35 @@ public interface RdfDataset {
      * @return total number of <code>N-Quads</code> in the dataset
      */
     int size();
+
+    /**
+     * Returns <code>N-Quads</code> matching the given pattern, in no particular
+     * order. A <code>null</code> pattern component matches any value.
+     * <p>
+     * A <code>null</code> graph name matches statements in all graphs, use
+     * {@link #getDefaultGraph()} to match statements in the default graph only.
+     * </p>
+     * <p>
+     * The default implementation scans all the statements, implementations are
+     * encouraged to use an index.
+     * </p>
+     *
+     * @param subject   a subject to match or <code>null</code>
+     * @param predicate a predicate to match or <code>null</code>
+     * @param object    an object to match or <code>null</code>
+     * @param graphName a graph name to match or <code>null</code>
+     * @return a list of matching <code>N-Quads</code>, never <code>null</code>
+     *
+     * @since 1.4.1
+     */
+    default List<RdfNQuad> match(RdfResource subject, RdfResource predicate, RdfValue object, RdfResource graphName) {
+        return toList()
+                .stream()
+                .filter(nquad -> (subject == null || subject.equals(nquad.getSubject()))
+                                    && (predicate == null || predicate.equals(nquad.getPredicate()))
+                                    && (object == null || object.equals(nquad.getObject()))
+                                    && (graphName == null || nquad.getGraphName().filter(graphName::equals).isPresent())
+                                    )
+                .collect(Collectors.toList());
+    }
 }
@@ -16,6 +16,7 @@
 package com.apicatalog.rdf;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.apicatalog.jsonld.JsonLd;
 
@@ -38,4 +39,28 @@ public interface RdfGraph {
 
     List<RdfTriple> toList();
 
+    /**
+     * Returns triples matching the given pattern, in no particular order. A
+     * <code>null</code> pattern component matches any value.
+     * <p>
+     * The default implementation scans all the triples, implementations are
+     * encouraged to use an index.
+     * </p>
+     *
+     * @param subject   a subject to match or <code>null</code>
+     * @param predicate a predicate to match or <code>null</code>
+     * @param object    an object to match or <code>null</code>
+     * @return a list of matching triples, never <code>null</code>
+     *
+     * @since 1.4.1
+     */
+    default List<RdfTriple> match(RdfResource subject, RdfResource predicate, RdfValue object) {
+        return toList()
+                .stream()
+                .filter(triple -> (subject == null || subject.equals(triple.getSubject()))
+                                    && (predicate == null || predicate.equals(triple.getPredicate()))
+                                    && (object == null || object.equals(triple.getObject()))
+                                    )
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,621 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfGraph;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfResource;
+import com.apicatalog.rdf.RdfTriple;
+import com.apicatalog.rdf.RdfValue;
+
+/**
+ * A memory efficient {@link RdfDataset}. Terms are dictionary encoded to
+ * integers and <code>N-Quads</code> are stored as four primitive columns of
+ * term identifiers. Duplicates are detected by an open addressing hash table of
+ * <code>N-Quad</code> positions.
+ * <p>
+ * {@link RdfNQuad} instances are created on demand when accessed by
+ * {@link #toList()} or a graph view, they are not kept by the dataset.
+ * </p>
+ * <p>
+ * Pattern matching uses <code>SPOG</code>, <code>POSG</code> and
+ * <code>OSPG</code> permutation indexes, sorted arrays of positions built on
+ * demand. Statements added since the last match are sorted and merged into an
+ * index on the next match, the index is not sorted again.
+ * </p>
+ */
+final class CompactRdfDataset implements RdfDataset {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // the default graph identifier
+    private static final int DEFAULT_GRAPH = -1;
+
+    // an identifier matching any term or graph
+    private static final int ANY = -2;
+
+    // permutations
+    private static final int SPOG = 0;
+    private static final int POSG = 1;
+    private static final int OSPG = 2;
+
+    private final TermDictionary terms;
+
+    private int[] subjects;
+    private int[] predicates;
+    private int[] objects;
+    private int[] graphs;
+
+    private int size;
+
+    // positions increased by one, zero is an empty slot
+    private int[] table;
+
+    private final CompactGraph defaultGraph;
+
+    private final Map<RdfResource, CompactGraph> namedGraphs;
+
+    // sorted positions, an index is up to date if its length is equal to the size
+    private final int[][] indexes;
+
+    protected CompactRdfDataset() {
+        this.terms = new TermDictionary();
+        this.subjects = new int[INITIAL_CAPACITY];
+        this.predicates = new int[INITIAL_CAPACITY];
+        this.objects = new int[INITIAL_CAPACITY];
+        this.graphs = new int[INITIAL_CAPACITY];
+        this.size = 0;
+        this.table = new int[INITIAL_CAPACITY * 2];
+        this.defaultGraph = new CompactGraph(DEFAULT_GRAPH);
+        this.namedGraphs = new HashMap<>();
+        this.indexes = new int[3][];
+    }
+
+    @Override
+    public RdfGraph getDefaultGraph() {
+        return defaultGraph;
+    }
+
+    @Override
+    public RdfDataset add(final RdfNQuad nquad) {
+
+        if (nquad == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final Optional<RdfResource> graphName = nquad.getGraphName();
+
+        if (!graphName.isPresent()) {
+            return add(nquad, defaultGraph);
+        }
+
+        final int graph = terms.encode(graphName.get());
+
+        CompactGraph namedGraph = namedGraphs.get(graphName.get());
+
+        if (namedGraph == null) {
+            namedGraph = new CompactGraph(graph);
+            namedGraphs.put((RdfResource) terms.decode(graph), namedGraph);
+        }
+
+        return add(nquad, namedGraph);
+    }
+
+    @Override
+    public RdfDataset add(final RdfTriple triple) {
+
+        if (triple == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return add(triple, defaultGraph);
+    }
+
+    private RdfDataset add(final RdfTriple triple, final CompactGraph graph) {
+
+        final int subject = terms.encode(triple.getSubject());
+        final int predicate = terms.encode(triple.getPredicate());
+        final int object = terms.encode(triple.getObject());
+
+        final int mask = table.length - 1;
+
+        int slot = hash(subject, predicate, object, graph.id) & mask;
+
+        while (table[slot] != 0) {
+
+            if (equals(table[slot] - 1, subject, predicate, object, graph.id)) {
+                return this;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == subjects.length) {
+            final int capacity = size + (size >> 1);
+            subjects = Arrays.copyOf(subjects, capacity);
+            predicates = Arrays.copyOf(predicates, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+            graphs = Arrays.copyOf(graphs, capacity);
+        }
+
+        subjects[size] = subject;
+        predicates[size] = predicate;
+        objects[size] = object;
+        graphs[size] = graph.id;
+
+        table[slot] = ++size;
+
+        graph.size++;
+
+        // keep the load factor at most 0.5
+        if (size * 2 > table.length) {
+            rehash();
+        }
+
+        return this;
+    }
+
+    @Override
+    public List<RdfNQuad> toList() {
+        return new NQuadList();
+    }
+
+    @Override
+    public Set<RdfResource> getGraphNames() {
+        return Collections.unmodifiableSet(namedGraphs.keySet());
+    }
+
+    @Override
+    public Optional<RdfGraph> getGraph(final RdfResource graphName) {
+        return Optional.ofNullable(namedGraphs.get(graphName));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<RdfNQuad> match(final RdfResource subject, final RdfResource predicate, final RdfValue object, final RdfResource graphName) {
+
+        int graph = ANY;
+
+        if (graphName != null) {
+
+            final CompactGraph namedGraph = namedGraphs.get(graphName);
+
+            if (namedGraph == null) {
+                return Collections.emptyList();
+            }
+
+            graph = namedGraph.id;
+        }
+
+        return new NQuadList(match(subject, predicate, object, graph));
+    }
+
+    /**
+     * Returns positions of matching statements, or <code>null</code> if all
+     * statements match.
+     */
+    private int[] match(final RdfValue subject, final RdfValue predicate, final RdfValue object, final int graph) {
+
+        final int s = subject != null ? terms.find(subject) : ANY;
+        final int p = predicate != null ? terms.find(predicate) : ANY;
+        final int o = object != null ? terms.find(object) : ANY;
+
+        // an unknown term
+        if (s == -1 || p == -1 || o == -1) {
+            return new int[0];
+        }
+
+        final int[] key;
+        final int permutation;
+
+        if (subject != null) {
+            permutation = SPOG;
+            key = predicate != null ? new int[] { s, p } : new int[] { s };
+
+        } else if (predicate != null) {
+            permutation = POSG;
+            key = object != null ? new int[] { p, o } : new int[] { p };
+
+        } else if (object != null) {
+            permutation = OSPG;
+            key = new int[] { o };
+
+        } else if (graph == ANY) {
+            return null;
+
+        } else {
+            return graph == DEFAULT_GRAPH ? defaultGraph.positions() : namedGraphs.get((RdfResource) terms.decode(graph)).positions();
+        }
+
+        final int[] index = index(permutation);
+        final int[][] columns = columns(permutation);
+
+        final int from = bound(index, columns, key, false);
+        final int to = bound(index, columns, key, true);
+
+        final int[] result = new int[to - from];
+
+        int count = 0;
+
+        for (int i = from; i < to; i++) {
+
+            final int position = index[i];
+
+            if ((p == ANY || predicates[position] == p)
+                    && (o == ANY || objects[position] == o)
+                    && (graph == ANY || graphs[position] == graph)) {
+                result[count++] = position;
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private int[][] columns(final int permutation) {
+        switch (permutation) {
+        case SPOG:
+            return new int[][] { subjects, predicates, objects, graphs };
+        case POSG:
+            return new int[][] { predicates, objects, subjects, graphs };
+        default:
+            return new int[][] { objects, subjects, predicates, graphs };
+        }
+    }
+
+    private int[] index(final int permutation) {
+
+        final int[] index = indexes[permutation];
+
+        if (index != null && index.length == size) {
+            return index;
+        }
+
+        final int[][] columns = columns(permutation);
+
+        // statements are only appended, positions added since the last match follow
+        final int from = index != null ? index.length : 0;
+
+        final int[] added = new int[size - from];
+
+        for (int i = 0; i < added.length; i++) {
+            added[i] = from + i;
+        }
+
+        sort(added, new int[added.length], 0, added.length, columns);
+
+        indexes[permutation] = index != null ? merge(index, added, columns) : added;
+
+        return indexes[permutation];
+    }
+
+    /**
+     * Merges sorted positions into a sorted index. Runs of the index between
+     * the inserted positions are copied in bulk, so interleaved additions and
+     * matches cost a copy of the index, not a sort.
+     */
+    private static final int[] merge(final int[] index, final int[] added, final int[][] columns) {
+
+        final int[] merged = new int[index.length + added.length];
+
+        int copied = 0;
+        int target = 0;
+
+        for (final int position : added) {
+
+            // the first indexed statement greater than the added one, statements are unique
+            int low = copied;
+            int high = index.length;
+
+            while (low < high) {
+
+                final int middle = (low + high) >>> 1;
+
+                if (compare(columns, index[middle], position) < 0) {
+                    low = middle + 1;
+
+                } else {
+                    high = middle;
+                }
+            }
+
+            System.arraycopy(index, copied, merged, target, low - copied);
+            target += low - copied;
+            copied = low;
+
+            merged[target++] = position;
+        }
+
+        System.arraycopy(index, copied, merged, target, index.length - copied);
+
+        return merged;
+    }
+
+    /**
+     * Returns the first position in the index whose columns are greater than or
+     * equal to the key, or strictly greater if <code>upper</code> is set.
+     */
+    private static final int bound(final int[] index, final int[][] columns, final int[] key, final boolean upper) {
+
+        int low = 0;
+        int high = index.length;
+
+        while (low < high) {
+
+            final int middle = (low + high) >>> 1;
+
+            final int cmp = compare(columns, index[middle], key);
+
+            if (cmp < 0 || (upper && cmp == 0)) {
+                low = middle + 1;
+
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static final int compare(final int[][] columns, final int position, final int[] key) {
+        for (int i = 0; i < key.length; i++) {
+            final int cmp = Integer.compare(columns[i][position], key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private static final int compare(final int[][] columns, final int position1, final int position2) {
+        for (final int[] column : columns) {
+            final int cmp = Integer.compare(column[position1], column[position2]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    // merge sort of positions by columns
+    private static final void sort(final int[] positions, final int[] buffer, final int from, final int to, final int[][] columns) {
+
+        if (to - from < 2) {
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+
+        sort(positions, buffer, from, middle, columns);
+        sort(positions, buffer, middle, to, columns);
+
+        if (compare(columns, positions[middle - 1], positions[middle]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(positions, from, buffer, from, to - from);
+
+        for (int i = from, left = from, right = middle; i < to; i++) {
+            if (right >= to || (left < middle && compare(columns, buffer[left], buffer[right]) <= 0)) {
+                positions[i] = buffer[left++];
+
+            } else {
+                positions[i] = buffer[right++];
+            }
+        }
+    }
+
+    private boolean contains(final RdfTriple triple, final int graph) {
+
+        final int subject = terms.find(triple.getSubject());
+        final int predicate = terms.find(triple.getPredicate());
+        final int object = terms.find(triple.getObject());
+
+        if (subject == -1 || predicate == -1 || object == -1) {
+            return false;
+        }
+
+        final int mask = table.length - 1;
+
+        int slot = hash(subject, predicate, object, graph) & mask;
+
+        while (table[slot] != 0) {
+
+            if (equals(table[slot] - 1, subject, predicate, object, graph)) {
+                return true;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return false;
+    }
+
+    private RdfNQuad nquad(final int position) {
+        return new RdfNQuadImpl(
+                    (RdfResource) terms.decode(subjects[position]),
+                    (RdfResource) terms.decode(predicates[position]),
+                    terms.decode(objects[position]),
+                    graphs[position] != DEFAULT_GRAPH
+                        ? (RdfResource) terms.decode(graphs[position])
+                        : null
+                    );
+    }
+
+    private boolean equals(final int position, final int subject, final int predicate, final int object, final int graph) {
+        return subjects[position] == subject
+                && predicates[position] == predicate
+                && objects[position] == object
+                && graphs[position] == graph;
+    }
+
+    private void rehash() {
+
+        final int[] newTable = new int[table.length * 2];
+
+        final int mask = newTable.length - 1;
+
+        for (int position = 0; position < size; position++) {
+
+            int slot = hash(subjects[position], predicates[position], objects[position], graphs[position]) & mask;
+
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            newTable[slot] = position + 1;
+        }
+
+        table = newTable;
+    }
+
+    private static final int hash(final int subject, final int predicate, final int object, final int graph) {
+        int hash = subject;
+        hash = hash * 31 + predicate;
+        hash = hash * 31 + object;
+        hash = hash * 31 + graph;
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class NQuadList extends AbstractList<RdfNQuad> implements RandomAccess {
+
+        // selected positions or null to select all
+        final int[] positions;
+
+        NQuadList() {
+            this(null);
+        }
+
+        NQuadList(final int[] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public RdfNQuad get(final int index) {
+
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return nquad(positions != null ? positions[index] : index);
+        }
+
+        @Override
+        public int size() {
+            return positions != null ? positions.length : size;
+        }
+    }
+
+    private final class CompactGraph implements RdfGraph {
+
+        final int id;
+
+        // the number of statements in the graph
+        int size;
+
+        // positions of the graph statements, computed on demand
+        int[] positions;
+
+        CompactGraph(final int id) {
+            this.id = id;
+            this.size = 0;
+            this.positions = null;
+        }
+
+        @Override
+        public boolean contains(final RdfTriple triple) {
+
+            if (triple == null) {
+                throw new IllegalArgumentException();
+            }
+
+            return CompactRdfDataset.this.contains(triple, id);
+        }
+
+        @Override
+        public List<RdfTriple> toList() {
+            return new TripleList(positions());
+        }
+
+        @Override
+        public List<RdfTriple> match(final RdfResource subject, final RdfResource predicate, final RdfValue object) {
+            return new TripleList(CompactRdfDataset.this.match(subject, predicate, object, id));
+        }
+
+        /**
+         * Returns positions of the graph statements, or <code>null</code> if all
+         * statements belong to this graph.
+         */
+        int[] positions() {
+
+            if (size == CompactRdfDataset.this.size) {
+                return null;
+            }
+
+            if (positions == null || positions.length != size) {
+
+                positions = new int[size];
+
+                for (int position = 0, i = 0; i < size; position++) {
+                    if (graphs[position] == id) {
+                        positions[i++] = position;
+                    }
+                }
+            }
+
+            return positions;
+        }
+    }
+
+    private final class TripleList extends AbstractList<RdfTriple> implements RandomAccess {
+
+        // selected positions or null to select all
+        final int[] positions;
+
+        TripleList(final int[] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public RdfTriple get(final int index) {
+
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return nquad(positions != null ? positions[index] : index);
+        }
+
+        @Override
+        public int size() {
+            return positions != null ? positions.length : size;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.impl;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collection;
+
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfGraph;
+import com.apicatalog.rdf.RdfLiteral;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfResource;
+import com.apicatalog.rdf.RdfTriple;
+import com.apicatalog.rdf.RdfValue;
+import com.apicatalog.rdf.io.RdfReader;
+import com.apicatalog.rdf.io.RdfWriter;
+import com.apicatalog.rdf.io.error.UnsupportedContentException;
+import com.apicatalog.rdf.spi.RdfProvider;
+
+/**
+ * A provider creating memory efficient datasets which store
+ * <code>N-Quads</code> as dictionary encoded terms in primitive columns. Terms,
+ * readers and writers are the same as provided by {@link DefaultRdfProvider}.
+ * <p>
+ * Use {@link RdfProvider#setProvider(RdfProvider)} to create all datasets this
+ * way.
+ * </p>
+ *
+ * @since 1.4.1
+ */
+public final class CompactRdfProvider extends RdfProvider {
+
+    public static final RdfProvider INSTANCE = new CompactRdfProvider();
+
+    private final RdfProvider provider;
+
+    private CompactRdfProvider() {
+        this.provider = DefaultRdfProvider.INSTANCE;
+    }
+
+    @Override
+    public RdfDataset createDataset() {
+        return new CompactRdfDataset();
+    }
+
+    @Override
+    public Collection<MediaType> canRead() {
+        return provider.canRead();
+    }
+
+    @Override
+    public RdfReader createReader(final MediaType contentType, final Reader reader) throws UnsupportedContentException {
+        return provider.createReader(contentType, reader);
+    }
+
+    @Override
+    public Collection<MediaType> canWrite() {
+        return provider.canWrite();
+    }
+
+    @Override
+    public RdfWriter createWriter(final MediaType contentType, final Writer writer) throws UnsupportedContentException {
+        return provider.createWriter(contentType, writer);
+    }
+
+    @Override
+    public RdfGraph createGraph() {
+        return provider.createGraph();
+    }
+
+    @Override
+    public RdfTriple createTriple(RdfResource subject, RdfResource predicate, RdfValue object) {
+        return provider.createTriple(subject, predicate, object);
+    }
+
+    @Override
+    public RdfNQuad createNQuad(RdfResource subject, RdfResource predicate, RdfValue object, RdfResource graphName) {
+        return provider.createNQuad(subject, predicate, object, graphName);
+    }
+
+    @Override
+    public RdfResource createBlankNode(String value) {
+        return provider.createBlankNode(value);
+    }
+
+    @Override
+    public RdfResource createIRI(String value) {
+        return provider.createIRI(value);
+    }
+
+    @Override
+    public RdfLiteral createLangString(String lexicalForm, String langTag) {
+        return provider.createLangString(lexicalForm, langTag);
+    }
+
+    @Override
+    public RdfLiteral createTypedString(String lexicalForm, String datatype) {
+        return provider.createTypedString(lexicalForm, datatype);
+    }
+}
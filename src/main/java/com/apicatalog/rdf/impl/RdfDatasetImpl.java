@@ -16,6 +16,7 @@
 package com.apicatalog.rdf.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import com.apicatalog.rdf.RdfGraph;
 import com.apicatalog.rdf.RdfNQuad;
 import com.apicatalog.rdf.RdfResource;
 import com.apicatalog.rdf.RdfTriple;
+import com.apicatalog.rdf.RdfValue;
 
 final class RdfDatasetImpl implements RdfDataset {
 
@@ -103,6 +105,44 @@ final class RdfDatasetImpl implements RdfDataset {
         return nquads.size();
     }
 
+    @Override
+    public List<RdfNQuad> match(final RdfResource subject, final RdfResource predicate, final RdfValue object, final RdfResource graphName) {
+
+        if (graphName != null) {
+
+            final RdfGraphImpl graph = graphs.get(graphName);
+
+            if (graph == null) {
+                return Collections.emptyList();
+            }
+
+            final List<RdfNQuad> result = new ArrayList<>();
+            add(graph.match(subject, predicate, object), result);
+            return result;
+        }
+
+        if (subject == null && predicate == null && object == null) {
+            return nquads;
+        }
+
+        final List<RdfNQuad> result = new ArrayList<>();
+
+        add(defaultGraph.match(subject, predicate, object), result);
+
+        for (final RdfGraphImpl graph : graphs.values()) {
+            add(graph.match(subject, predicate, object), result);
+        }
+
+        return result;
+    }
+
+    // graphs keep N-Quads added to the dataset
+    private static final void add(final List<RdfTriple> triples, final List<RdfNQuad> nquads) {
+        for (final RdfTriple triple : triples) {
+            nquads.add((RdfNQuad) triple);
+        }
+    }
+
     @Override
     public RdfDataset add(RdfTriple triple) {
 
@@ -16,11 +16,13 @@
 package com.apicatalog.rdf.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.apicatalog.rdf.RdfGraph;
 import com.apicatalog.rdf.RdfResource;
@@ -33,9 +35,17 @@ final class RdfGraphImpl implements RdfGraph {
 
     private final List<RdfTriple> triples;
 
+    // permutation indexes, built on demand
+    private PermutationIndex spo;
+    private PermutationIndex pos;
+    private PermutationIndex osp;
+
     protected RdfGraphImpl() {
         this.index = new HashMap<>();
         this.triples = new ArrayList<>();
+        this.spo = null;
+        this.pos = null;
+        this.osp = null;
     }
 
     public void add(final RdfTriple triple) {
@@ -50,6 +60,16 @@ final class RdfGraphImpl implements RdfGraph {
             .add(triple.getObject());
 
         triples.add(triple);
+
+        if (spo != null) {
+            spo.add(triple);
+        }
+        if (pos != null) {
+            pos.add(triple);
+        }
+        if (osp != null) {
+            osp.add(triple);
+        }
     }
 
     @Override
@@ -69,4 +89,89 @@ final class RdfGraphImpl implements RdfGraph {
     public List<RdfTriple> toList() {
         return triples;
     }
+
+    @Override
+    public List<RdfTriple> match(final RdfResource subject, final RdfResource predicate, final RdfValue object) {
+
+        final List<RdfTriple> candidates;
+
+        if (subject != null) {
+
+            if (spo == null) {
+                spo = new PermutationIndex(RdfTriple::getSubject, RdfTriple::getPredicate, triples);
+            }
+            candidates = spo.get(subject, predicate);
+
+        } else if (predicate != null) {
+
+            if (pos == null) {
+                pos = new PermutationIndex(RdfTriple::getPredicate, RdfTriple::getObject, triples);
+            }
+            candidates = pos.get(predicate, object);
+
+        } else if (object != null) {
+
+            if (osp == null) {
+                osp = new PermutationIndex(RdfTriple::getObject, RdfTriple::getSubject, triples);
+            }
+            candidates = osp.get(object, null);
+
+        } else {
+            return triples;
+        }
+
+        final List<RdfTriple> result = new ArrayList<>(candidates.size());
+
+        for (final RdfTriple triple : candidates) {
+            if ((predicate == null || predicate.equals(triple.getPredicate()))
+                    && (object == null || object.equals(triple.getObject()))) {
+                result.add(triple);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Triples indexed by two of their components.
+     */
+    private static final class PermutationIndex {
+
+        final Function<RdfTriple, RdfValue> first;
+        final Function<RdfTriple, RdfValue> second;
+
+        final Map<RdfValue, Map<RdfValue, List<RdfTriple>>> index;
+
+        PermutationIndex(final Function<RdfTriple, RdfValue> first, final Function<RdfTriple, RdfValue> second, final List<RdfTriple> triples) {
+            this.first = first;
+            this.second = second;
+            this.index = new HashMap<>();
+
+            triples.forEach(this::add);
+        }
+
+        void add(final RdfTriple triple) {
+            index
+                .computeIfAbsent(first.apply(triple), x -> new HashMap<>())
+                .computeIfAbsent(second.apply(triple), x -> new ArrayList<>(1))
+                .add(triple);
+        }
+
+        List<RdfTriple> get(final RdfValue firstValue, final RdfValue secondValue) {
+
+            final Map<RdfValue, List<RdfTriple>> values = index.get(firstValue);
+
+            if (values == null) {
+                return Collections.emptyList();
+            }
+
+            if (secondValue != null) {
+                return values.getOrDefault(secondValue, Collections.emptyList());
+            }
+
+            final List<RdfTriple> result = new ArrayList<>();
+            values.values().forEach(result::addAll);
+            return result;
+        }
+    }
 }
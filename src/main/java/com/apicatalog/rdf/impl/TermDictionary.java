@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.impl;
+
+import java.util.Arrays;
+
+import com.apicatalog.rdf.RdfValue;
+
+/**
+ * Encodes terms to consecutive integer identifiers. Each distinct term is kept
+ * once, identifiers are found by an open addressing hash table of primitive
+ * integers.
+ */
+final class TermDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private RdfValue[] terms;
+
+    private int size;
+
+    // identifiers increased by one, zero is an empty slot
+    private int[] table;
+
+    TermDictionary() {
+        this.terms = new RdfValue[INITIAL_CAPACITY];
+        this.size = 0;
+        this.table = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Returns an identifier of the given term, the term is added if not present.
+     *
+     * @param term to encode
+     * @return the term identifier
+     */
+    int encode(final RdfValue term) {
+
+        final int mask = table.length - 1;
+
+        int slot = hash(term) & mask;
+
+        while (table[slot] != 0) {
+
+            final int id = table[slot] - 1;
+
+            if (terms[id].equals(term)) {
+                return id;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == terms.length) {
+            terms = Arrays.copyOf(terms, size * 2);
+        }
+
+        terms[size] = term;
+        table[slot] = ++size;
+
+        // keep the load factor at most 0.5
+        if (size * 2 > table.length) {
+            rehash();
+        }
+
+        return size - 1;
+    }
+
+    /**
+     * Returns an identifier of the given term.
+     *
+     * @param term to find
+     * @return the term identifier or <code>-1</code> if the term is not present
+     */
+    int find(final RdfValue term) {
+
+        final int mask = table.length - 1;
+
+        int slot = hash(term) & mask;
+
+        while (table[slot] != 0) {
+
+            final int id = table[slot] - 1;
+
+            if (terms[id].equals(term)) {
+                return id;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    RdfValue decode(final int id) {
+        return terms[id];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash() {
+
+        final int[] newTable = new int[table.length * 2];
+
+        final int mask = newTable.length - 1;
+
+        for (int id = 0; id < size; id++) {
+
+            int slot = hash(terms[id]) & mask;
+
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            newTable[slot] = id + 1;
+        }
+
+        table = newTable;
+    }
+
+    private static final int hash(final RdfValue term) {
+        final int hash = term.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
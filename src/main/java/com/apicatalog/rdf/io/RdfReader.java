@@ -16,12 +16,57 @@
 package com.apicatalog.rdf.io;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
 import com.apicatalog.rdf.io.error.RdfReaderException;
 
 public interface RdfReader {
 
     RdfDataset readDataset() throws IOException, RdfReaderException;
 
-}
\ No newline at end of file
+    /**
+     * Read statements one by one and pass them to the given consumer as they are
+     * read. Unlike {@link #readDataset()}, a reader supporting streaming does not
+     * keep the statements and duplicates are not removed.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @throws IOException
+     * @throws RdfReaderException
+     *
+     * @since 1.4.1
+     */
+    default void read(Consumer<RdfNQuad> consumer) throws IOException, RdfReaderException {
+        readDataset().toList().forEach(consumer);
+    }
+
+    /**
+     * Read statements one by one and pass them to the given consumer as they are
+     * read. Deduplication keeps all distinct statements in memory.
+     *
+     * @param consumer receiving <code>N-Quads</code>
+     * @param deduplicate if <code>true</code> then each <code>N-Quad</code> is passed at most once
+     * @throws IOException
+     * @throws RdfReaderException
+     *
+     * @since 1.4.1
+     */
+    default void read(Consumer<RdfNQuad> consumer, boolean deduplicate) throws IOException, RdfReaderException {
+
+        if (!deduplicate) {
+            read(consumer);
+            return;
+        }
+
+        final Set<RdfNQuad> nquads = new HashSet<>();
+
+        read(nquad -> {
+            if (nquads.add(nquad)) {
+                consumer.accept(nquad);
+            }
+        });
+    }
+}
@@ -17,6 +17,7 @@ package com.apicatalog.rdf.io.nquad;
 
 import java.io.Reader;
 import java.util.Arrays;
+import java.util.function.Consumer;
 
 import com.apicatalog.jsonld.uri.UriUtils;
 import com.apicatalog.rdf.Rdf;
@@ -53,7 +54,26 @@ public final class NQuadsReader implements RdfReader {
             return dataset;
         }
 
-        dataset = Rdf.createDataset();
+        final RdfDataset result = Rdf.createDataset();
+
+        read(result::add);
+
+        dataset = result;
+
+        return dataset;
+    }
+
+    /**
+     * Read statements one by one and pass them to the given consumer as they are
+     * read. Only one statement is kept in memory at a time.
+     */
+    @Override
+    public void read(final Consumer<RdfNQuad> consumer) throws RdfReaderException {
+
+        if (dataset != null) {
+            dataset.toList().forEach(consumer);
+            return;
+        }
 
         while (tokenizer.hasNext()) {
 
@@ -66,10 +86,8 @@ public final class NQuadsReader implements RdfReader {
                 continue;
             }
 
-            dataset.add(reaStatement());
+            consumer.accept(reaStatement());
         }
-
-        return dataset;
     }
 
     private RdfNQuad reaStatement() throws RdfReaderException {
@@ -15,8 +15,13 @@
  */
 package com.apicatalog.rdf.io.nquad;
 
+import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Optional;
 
 import com.apicatalog.rdf.RdfDataset;
@@ -28,11 +33,17 @@ import com.apicatalog.rdf.io.RdfWriter;
 import com.apicatalog.rdf.lang.XsdConstants;
 
 /**
+ * Writes <code>N-Quads</code>. A dataset written by {@link #write(RdfDataset)}
+ * is flushed, <code>N-Quads</code> written one by one by
+ * {@link #write(RdfNQuad)} are buffered until {@link #flush()} or
+ * {@link #close()} is called.
  *
  * @see <a href="https://www.w3.org/TR/n-quads/">RDF 1.1. N-Quads</a>
  *
  */
-public class NQuadsWriter implements RdfWriter {
+public class NQuadsWriter implements RdfWriter, Flushable, Closeable {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
     private final Writer writer;
 
@@ -40,6 +51,30 @@ public class NQuadsWriter implements RdfWriter {
         this.writer = writer;
     }
 
+    /**
+     * Creates a new writer encoding <code>N-Quads</code> as UTF-8 directly into
+     * a reusable byte buffer which is written to the given stream.
+     *
+     * @param os an output stream
+     *
+     * @since 1.4.1
+     */
+    public NQuadsWriter(OutputStream os) {
+        this(new Utf8Writer(os));
+    }
+
+    /**
+     * Creates a new writer encoding <code>N-Quads</code> as UTF-8 directly into
+     * a reusable byte buffer which is written to the given channel.
+     *
+     * @param channel a writable channel
+     *
+     * @since 1.4.1
+     */
+    public NQuadsWriter(WritableByteChannel channel) {
+        this(new Utf8Writer(Channels.newOutputStream(channel)));
+    }
+
     @Override
     public void write(final RdfDataset dataset) throws IOException {
 
@@ -71,6 +106,28 @@ public class NQuadsWriter implements RdfWriter {
         writer.write(".\n");
     }
 
+    /**
+     * Writes buffered <code>N-Quads</code> to the underlying writer, stream or
+     * channel and flushes it.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Flushes buffered <code>N-Quads</code> and closes the underlying writer,
+     * stream or channel.
+     *
+     * @since 1.4.1
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
     public void writeValue(RdfValue object) throws IOException {
         if (object == null) {
             throw new IllegalArgumentException();
@@ -101,7 +158,7 @@ public class NQuadsWriter implements RdfWriter {
         }
 
         writer.write('"');
-        writer.write(escape(literal.getValue()));
+        writeEscaped(literal.getValue());
         writer.write('"');
 
         final Optional<String> language = literal.getLanguage();
@@ -124,41 +181,111 @@ public class NQuadsWriter implements RdfWriter {
 
     public static final String escape(String value) {
 
-        final StringBuilder escaped = new StringBuilder();
+        final int index = indexOfEscape(value, 0);
+
+        // nothing to escape
+        if (index == -1) {
+            return value;
+        }
+
+        final StringBuilder escaped = new StringBuilder(value.length() + 16);
+
+        int start = 0;
 
-        int[] codePoints = value.codePoints().toArray();
+        for (int i = index; i != -1; i = indexOfEscape(value, start)) {
 
-        for (int ch : codePoints) {
+            escaped.append(value, start, i);
 
-            if (ch == 0x9) {
-                escaped.append("\\t");
+            appendEscape(escaped, value.charAt(i));
+
+            start = i + 1;
+        }
+
+        escaped.append(value, start, value.length());
+
+        return escaped.toString();
+    }
 
-            } else if (ch == 0x8) {
-                escaped.append("\\b");
+    private void writeEscaped(final String value) throws IOException {
 
-            } else if (ch == 0xa) {
-                escaped.append("\\n");
+        int start = 0;
 
-            } else if (ch == 0xd) {
-                escaped.append("\\r");
+        for (int i = indexOfEscape(value, 0); i != -1; i = indexOfEscape(value, start)) {
 
-            } else if (ch == 0xc) {
-                escaped.append("\\f");
+            // copy characters not needing to be escaped at once
+            writer.write(value, start, i - start);
 
-            } else if (ch == '"') {
-                escaped.append("\\\"");
+            final char ch = value.charAt(i);
 
-            } else if (ch == '\\') {
-                escaped.append("\\\\");
+            final String escape = escape(ch);
 
-            } else if (ch >= 0x0 && ch <= 0x1f || ch == 0x7f) {
-                escaped.append(String.format("\\u%04x", ch));
+            if (escape != null) {
+                writer.write(escape);
 
             } else {
-                escaped.appendCodePoint(ch);
+                writer.write('\\');
+                writer.write('u');
+                writer.write(HEX[(ch >> 12) & 0xf]);
+                writer.write(HEX[(ch >> 8) & 0xf]);
+                writer.write(HEX[(ch >> 4) & 0xf]);
+                writer.write(HEX[ch & 0xf]);
             }
+
+            start = i + 1;
+        }
+
+        writer.write(value, start, value.length() - start);
+    }
+
+    private static final int indexOfEscape(final String value, final int from) {
+
+        for (int i = from; i < value.length(); i++) {
+
+            final char ch = value.charAt(i);
+
+            if (ch < 0x20 || ch == '"' || ch == '\\' || ch == 0x7f) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final void appendEscape(final StringBuilder builder, final char ch) {
+
+        final String escape = escape(ch);
+
+        if (escape != null) {
+            builder.append(escape);
+            return;
+        }
+
+        builder
+            .append("\\u")
+            .append(HEX[(ch >> 12) & 0xf])
+            .append(HEX[(ch >> 8) & 0xf])
+            .append(HEX[(ch >> 4) & 0xf])
+            .append(HEX[ch & 0xf]);
+    }
+
+    private static final String escape(final char ch) {
+        switch (ch) {
+        case 0x9:
+            return "\\t";
+        case 0x8:
+            return "\\b";
+        case 0xa:
+            return "\\n";
+        case 0xd:
+            return "\\r";
+        case 0xc:
+            return "\\f";
+        case '"':
+            return "\\\"";
+        case '\\':
+            return "\\\\";
+        default:
+            return null;
         }
-        return escaped.toString();
     }
 
     public void writeIri(String iri) throws IOException {
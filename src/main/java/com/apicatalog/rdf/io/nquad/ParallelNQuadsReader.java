@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.io.nquad;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.io.RdfReader;
+import com.apicatalog.rdf.io.error.RdfReaderException;
+
+/**
+ * Reads a local <code>N-Quads</code> file in parallel. The file is memory
+ * mapped and split into chunks at line boundaries, chunks are parsed
+ * concurrently on a {@link ForkJoinPool}.
+ * <p>
+ * Statements are passed to a consumer by the calling thread, so a consumer
+ * does not need to be thread-safe. The number of chunks being parsed at once is
+ * limited, keeping memory bounded regardless of the file size.
+ * </p>
+ *
+ * @see NQuadsReader
+ *
+ * @since 1.4.1
+ */
+public final class ParallelNQuadsReader implements RdfReader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    // a buffer used to find the end of a line
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final Path file;
+
+    private ForkJoinPool pool;
+    private int chunkSize;
+    private boolean ordered;
+
+    public ParallelNQuadsReader(final Path file) {
+        this.file = file;
+        this.pool = ForkJoinPool.commonPool();
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.ordered = true;
+    }
+
+    public ParallelNQuadsReader pool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * An approximate size of a chunk in bytes. A chunk is extended to the end of a
+     * line.
+     *
+     * @param chunkSize the size in bytes
+     * @return reader instance
+     */
+    public ParallelNQuadsReader chunkSize(int chunkSize) {
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be a positive number but was [" + chunkSize + "].");
+        }
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * If set to <code>true</code>, statements are provided in the order of the
+     * file, otherwise chunks are provided as soon as they are parsed. Enabled by
+     * default.
+     *
+     * @param ordered <code>true</code> to preserve the statements order
+     * @return reader instance
+     */
+    public ParallelNQuadsReader ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    @Override
+    public RdfDataset readDataset() throws IOException, RdfReaderException {
+
+        final RdfDataset dataset = Rdf.createDataset();
+
+        read(dataset::add);
+
+        return dataset;
+    }
+
+    @Override
+    public void read(final Consumer<RdfNQuad> consumer) throws IOException, RdfReaderException {
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            final CompletionService<List<RdfNQuad>> completion = new ExecutorCompletionService<>(pool);
+
+            final Deque<Future<List<RdfNQuad>>> running = new ArrayDeque<>();
+
+            final int maxRunning = pool.getParallelism() * 2;
+
+            final long size = channel.size();
+
+            long position = 0;
+
+            try {
+                while (position < size || !running.isEmpty()) {
+
+                    // submit chunks
+                    while (position < size && running.size() < maxRunning) {
+
+                        final long end = lineEnd(channel, Math.min(position + chunkSize, size), size);
+
+                        final MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+
+                        // chunks are taken in order of completion only if the order is not required
+                        running.add(ordered
+                                        ? pool.submit(() -> parse(chunk))
+                                        : completion.submit(() -> parse(chunk)));
+
+                        position = end;
+                    }
+
+                    // provide parsed chunks
+                    final Future<List<RdfNQuad>> done = ordered ? running.removeFirst() : completion.take();
+
+                    if (!ordered) {
+                        running.remove(done);
+                    }
+
+                    done.get().forEach(consumer);
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RdfReaderException(e);
+
+            } catch (ExecutionException e) {
+
+                if (e.getCause() instanceof RdfReaderException) {
+                    throw (RdfReaderException) e.getCause();
+                }
+                throw new RdfReaderException(e.getCause());
+
+            } finally {
+                running.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private static final List<RdfNQuad> parse(final ByteBuffer chunk) throws RdfReaderException {
+
+        final CharBuffer chars = StandardCharsets.UTF_8.decode(chunk);
+
+        final List<RdfNQuad> nquads = new ArrayList<>();
+
+        new NQuadsReader(new CharArrayReader(chars.array(), chars.arrayOffset(), chars.remaining())).read(nquads::add);
+
+        return nquads;
+    }
+
+    /**
+     * Returns a position following the first line feed at or after the given
+     * position. A line feed byte is never a part of a multi-byte UTF-8 sequence.
+     */
+    private static final long lineEnd(final FileChannel channel, long position, final long size) throws IOException {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+
+        while (position < size) {
+
+            buffer.clear();
+
+            final int count = channel.read(buffer, position);
+
+            if (count <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position += count;
+        }
+
+        return size;
+    }
+}
@@ -15,7 +15,6 @@
  */
 package com.apicatalog.rdf.io.nquad;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Arrays;
@@ -24,20 +23,41 @@ import com.apicatalog.rdf.io.error.RdfReaderException;
 import com.apicatalog.rdf.lang.RdfAlphabet;
 
 /**
+ * Reads tokens from a reusable character buffer. Token values are created
+ * directly from the buffer, a builder is used only when a value contains escape
+ * sequences.
  *
  * @see <a href="https://www.w3.org/TR/n-quads/#sec-grammar">N-Quads Grammar</a>
  *
  */
 final class Tokenizer {
 
-    private static final int BUFFER_SIZE = 8192*2;
+    private static final int BUFFER_SIZE = 8192*8;
 
     private final Reader reader;
 
+    private char[] buffer;
+
+    // the next character to read
+    private int position;
+
+    // the end of characters read into the buffer
+    private int limit;
+
+    private boolean eof;
+
+    // used to build values containing escape sequences
+    private final StringBuilder builder;
+
     private Token next;
 
     protected Tokenizer(Reader reader) {
-        this.reader = new BufferedReader(reader, BUFFER_SIZE);
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+        this.eof = false;
+        this.builder = new StringBuilder();
         this.next = null;
     }
 
@@ -66,63 +86,58 @@ final class Tokenizer {
 
     private Token doRead() throws RdfReaderException {
 
-        try {
-            int ch = reader.read();
+        int ch = read();
 
-            if (ch == -1) {
-                return Token.EOI;
-            }
+        if (ch == -1) {
+            return Token.EOI;
+        }
 
-            // WS
-            if (RdfAlphabet.WHITESPACE.test(ch)) {
-                return skipWhitespaces();
-            }
+        // WS
+        if (isWhitespace(ch)) {
+            return skipWhitespaces();
+        }
 
-            // Comment
-            if (ch == '#') {
-                return readComment();
-            }
+        // Comment
+        if (ch == '#') {
+            return skipComment();
+        }
 
-            if (ch == '<') {
-                return readIriRef();
-            }
+        if (ch == '<') {
+            return readIriRef();
+        }
 
-            if (ch == '"') {
-                return readString();
-            }
+        if (ch == '"') {
+            return readString();
+        }
 
-            if (ch == '.') {
-                return Token.EOS;
-            }
+        if (ch == '.') {
+            return Token.EOS;
+        }
 
-            if (RdfAlphabet.EOL.test(ch)) {
-                return skipEol();
-            }
+        if (isEol(ch)) {
+            return skipEol();
+        }
 
-            if (ch == '@') {
-                return readLangTag();
-            }
+        if (ch == '@') {
+            return readLangTag();
+        }
 
-            if (ch == '_') {
-                return readBlankNode();
-            }
+        if (ch == '_') {
+            return readBlankNode();
+        }
 
-            if (ch == '^') {
+        if (ch == '^') {
 
-                ch = reader.read();
+            ch = read();
 
-                if ('^' != ch) {
-                    unexpected(ch, "^");
-                }
-                return Token.LITERAL_DATA_TYPE;
+            if ('^' != ch) {
+                unexpected(ch, "^");
             }
-
-            unexpected(ch, "\\t", "\\n", "\\r", "^", "@", "SPACE", ".", "<", "_", "\"", "#");
-
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            return Token.LITERAL_DATA_TYPE;
         }
 
+        unexpected(ch, "\\t", "\\n", "\\r", "^", "@", "SPACE", ".", "<", "_", "\"", "#");
+
         throw new IllegalStateException();
     }
 
@@ -134,205 +149,248 @@ final class Tokenizer {
                             );
     }
 
-    private Token skipWhitespaces() throws RdfReaderException {
-
-        try {
-            reader.mark(1);
-            int ch = reader.read();
+    /**
+     * Returns the next character and moves the position.
+     *
+     * @return the next character or <code>-1</code> at the end of input
+     */
+    private int read() throws RdfReaderException {
 
-            while (RdfAlphabet.WHITESPACE.test(ch)) {
-                reader.mark(1);
-                ch = reader.read();
-            }
+        if (position == limit && !fill(1)) {
+            return -1;
+        }
 
-            reader.reset();
+        return buffer[position++];
+    }
 
-            return Token.WS;
+    /**
+     * Returns a character at the given offset from the current position without
+     * moving the position.
+     *
+     * @return a character or <code>-1</code> at the end of input
+     */
+    private int peek(int offset) throws RdfReaderException {
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+        if (position + offset >= limit && !fill(offset + 1)) {
+            return -1;
         }
+
+        return buffer[position + offset];
     }
 
-    private Token skipEol() throws RdfReaderException {
+    /**
+     * Ensures that at least <code>length</code> characters, starting at the
+     * current position, are in the buffer. Unread characters are moved to the
+     * beginning of the buffer, so a token being scanned is always kept in one
+     * piece. The buffer grows if a token is longer than the buffer.
+     *
+     * @return <code>false</code> if the end of input has been reached before
+     */
+    private boolean fill(int length) throws RdfReaderException {
+
+        while (limit - position < length) {
 
-        try {
-            reader.mark(1);
-            int ch = reader.read();
+            if (eof) {
+                return false;
+            }
+
+            if (length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(length, buffer.length * 2));
+            }
 
-            while (RdfAlphabet.EOL.test(ch)) {
-                reader.mark(1);
-                ch = reader.read();
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
             }
 
-            reader.reset();
+            try {
+                final int count = reader.read(buffer, limit, buffer.length - limit);
+
+                if (count == -1) {
+                    eof = true;
 
-            return Token.EOL;
+                } else {
+                    limit += count;
+                }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            } catch (IOException e) {
+                throw new RdfReaderException(e);
+            }
         }
+        return true;
     }
 
-    private Token readIriRef() throws RdfReaderException {
+    private Token skipWhitespaces() throws RdfReaderException {
 
-        try {
+        while (isWhitespace(peek(0))) {
+            position++;
+        }
 
-            StringBuilder value = new StringBuilder();
+        return Token.WS;
+    }
 
-            int ch = reader.read();
+    private Token skipEol() throws RdfReaderException {
 
-            while (ch != '>'  && ch != -1) {
+        while (isEol(peek(0))) {
+            position++;
+        }
 
-                if ((0x00 <= ch && ch <= 0x20)
-                     || ch == '<'
-                     || ch == '"'
-                     || ch == '{'
-                     || ch == '}'
-                     || ch == '|'
-                     || ch == '^'
-                     || ch == '`'
-                        ) {
-                    unexpected(ch, ">");
-                }
+        return Token.EOL;
+    }
 
-                if (ch == '\\') {
+    private Token readIriRef() throws RdfReaderException {
 
-                    readIriEscape(value);
+        int length = 0;
+        int ch = peek(length);
 
-                } else {
-                    value.append((char)ch);
-                }
-                ch = reader.read();
-            }
+        // fast path, no escape sequences
+        while (ch != '>' && ch != '\\') {
 
-            if (ch == -1) {
-                unexpected(ch);
+            if (isNotIriChar(ch)) {
+                unexpected(ch, ">");
             }
 
-            return new Token(TokenType.IRI_REF, value.toString());
-
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            ch = peek(++length);
         }
-    }
 
-    private Token readString() throws RdfReaderException {
-        try {
+        if (ch == '>') {
+            final String value = new String(buffer, position, length);
+            position += length + 1;
+            return new Token(TokenType.IRI_REF, value);
+        }
 
-            StringBuilder value = new StringBuilder();
+        builder.setLength(0);
+        builder.append(buffer, position, length);
+        position += length;
 
-            int ch = reader.read();
+        ch = read();
 
-            while (ch != '"' && ch != -1) {
+        while (ch != '>') {
 
-                if (ch == 0xa || ch == 0xd) {
-                    unexpected(ch);
-                }
+            if (ch == '\\') {
 
-                if (ch == '\\') {
+                readIriEscape();
 
-                    readEscape(value);
+            } else if (isNotIriChar(ch)) {
+                unexpected(ch, ">");
 
-                } else {
-                    value.appendCodePoint(ch);
-                }
-                ch = reader.read();
+            } else {
+                builder.append((char)ch);
             }
+            ch = read();
+        }
 
-            if (ch == -1) {
+        return new Token(TokenType.IRI_REF, builder.toString());
+    }
+
+    private Token readString() throws RdfReaderException {
+
+        int length = 0;
+        int ch = peek(length);
+
+        // fast path, no escape sequences
+        while (ch != '"' && ch != '\\') {
+
+            if (ch == 0xa || ch == 0xd || ch == -1) {
                 unexpected(ch);
             }
 
-            return new Token(TokenType.STRING_LITERAL_QUOTE, value.toString());
+            ch = peek(++length);
+        }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+        if (ch == '"') {
+            final String value = new String(buffer, position, length);
+            position += length + 1;
+            return new Token(TokenType.STRING_LITERAL_QUOTE, value);
         }
-    }
 
-    private Token readLangTag() throws RdfReaderException {
-        try {
+        builder.setLength(0);
+        builder.append(buffer, position, length);
+        position += length;
 
-            StringBuilder value = new StringBuilder();
+        ch = read();
 
-            int ch = reader.read();
+        while (ch != '"') {
 
-            if (!RdfAlphabet.ASCII_ALPHA.test(ch) || ch == -1) {
+            if (ch == 0xa || ch == 0xd || ch == -1) {
                 unexpected(ch);
             }
-            value.append((char)ch);
-
-            reader.mark(1);
-            ch = reader.read();
 
-            while (RdfAlphabet.ASCII_ALPHA.test(ch)) {
+            if (ch == '\\') {
 
-                value.append((char)ch);
+                readEscape();
 
-                reader.mark(1);
-                ch = reader.read();
+            } else {
+                builder.append((char)ch);
             }
+            ch = read();
+        }
 
-            if (ch == -1) {
-                unexpected(ch);
-            }
+        return new Token(TokenType.STRING_LITERAL_QUOTE, builder.toString());
+    }
 
-            boolean delim = false;
+    private Token readLangTag() throws RdfReaderException {
 
-            while (RdfAlphabet.ASCII_ALPHA_NUM.test(ch) || ch == '-') {
+        int ch = peek(0);
 
-                value.append((char)ch);
+        if (ch == -1 || !RdfAlphabet.ASCII_ALPHA.test(ch)) {
+            unexpected(ch);
+        }
 
-                reader.mark(1);
-                ch = reader.read();
+        int length = 1;
+        ch = peek(length);
 
-                delim = ch == '-';
-            }
+        while (RdfAlphabet.ASCII_ALPHA.test(ch)) {
+            ch = peek(++length);
+        }
 
-            if (ch == -1 || delim) {
-                unexpected(ch);
-            }
+        while (RdfAlphabet.ASCII_ALPHA_NUM.test(ch) || ch == '-') {
+            ch = peek(++length);
+        }
 
-            reader.reset();
+        if (ch == -1) {
+            unexpected(ch);
+        }
 
-            return new Token(TokenType.LANGTAG, value.toString());
+        final String value = new String(buffer, position, length);
+        position += length;
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }
+        return new Token(TokenType.LANGTAG, value);
     }
 
-    private void readIriEscape(final StringBuilder value) throws RdfReaderException, IOException {
-        int ch = reader.read();
+    private void readIriEscape() throws RdfReaderException {
+
+        final int ch = read();
 
         if (ch == 'u') {
 
-            value.append(readUnicode());
+            builder.appendCodePoint(readHex(4));
 
         } else if (ch == 'U') {
 
-            value.append(readUnicode64());
+            builder.appendCodePoint(readHex(8));
 
         } else {
             unexpected(ch);
         }
     }
 
-    private void readEscape(final StringBuilder value) throws RdfReaderException, IOException {
-        int ch = reader.read();
+    private void readEscape() throws RdfReaderException {
+
+        final int ch = read();
 
         if (ch == 't' || ch == 'b' || ch == 'n' || ch == 'r' || ch == 'f' || ch == '\'' || ch == '\\' || ch =='"') {
 
-            value.appendCodePoint(unescape(ch));
+            builder.append((char)unescape(ch));
 
         } else if (ch == 'u') {
 
-            value.append(readUnicode());
+            builder.appendCodePoint(readHex(4));
 
         } else if (ch == 'U') {
 
-            value.append(readUnicode64());
+            builder.appendCodePoint(readHex(8));
 
         } else {
             unexpected(ch);
@@ -341,95 +399,72 @@ final class Tokenizer {
 
     private Token readBlankNode() throws RdfReaderException {
 
-        try {
-
-            StringBuilder value = new StringBuilder();
+        int ch = read();
 
-            int ch = reader.read();
-
-            if (ch != ':') {
-                unexpected(ch);
-            }
+        if (ch != ':') {
+            unexpected(ch);
+        }
 
-            ch = reader.read();
+        ch = peek(0);
 
-            if (RdfAlphabet.PN_CHARS_U.negate().and(RdfAlphabet.ASCII_DIGIT.negate()).test(ch) || ch == -1) {
-                unexpected(ch);
-            }
+        if (ch == -1 || (!RdfAlphabet.PN_CHARS_U.test(ch) && !RdfAlphabet.ASCII_DIGIT.test(ch))) {
+            unexpected(ch);
+        }
 
-            value.append((char)ch);
+        int length = 1;
 
-            reader.mark(1);
-            ch = reader.read();
+        while (true) {
 
-            boolean delim = false;
+            ch = peek(length);
 
-            while (RdfAlphabet.PN_CHARS.test(ch) || ch == '.') {
+            if (RdfAlphabet.PN_CHARS.test(ch)) {
+                length++;
+                continue;
+            }
 
-                delim = ch == '.';
+            // a label cannot end with a dot
+            if (ch == '.') {
 
-                value.append((char)ch);
+                int dots = 1;
 
-                if (delim) {
-                    reader.reset();
-                    reader.mark(2);
-                    reader.skip(1);
-                } else {
-                    reader.mark(1);
+                while (peek(length + dots) == '.') {
+                    dots++;
                 }
 
-                ch = reader.read();
-
-            }
-
-            if (ch == -1) {
-                unexpected(ch);
-            }
-
-            reader.reset();
-
-            if (delim && value.length() > 0) {
-                value.setLength(value.length() - 1);
+                if (RdfAlphabet.PN_CHARS.test(peek(length + dots))) {
+                    length += dots;
+                    continue;
+                }
             }
-
-            return new Token(TokenType.BLANK_NODE_LABEL, value.toString());
-
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            break;
         }
-    }
-
-    private char[] readUnicode() throws RdfReaderException, IOException {
 
-        char[] code = new char[4];
+        if (ch == -1) {
+            unexpected(ch);
+        }
 
-        code[0] = readHex8();
-        code[1] = readHex8();
-        code[2] = readHex8();
-        code[3] = readHex8();
+        final String value = new String(buffer, position, length);
+        position += length;
 
-        return Character.toChars(Integer.parseInt(String.valueOf(code), 16));
+        return new Token(TokenType.BLANK_NODE_LABEL, value);
     }
 
-    private char readHex8()  throws IOException, RdfReaderException {
+    private int readHex(int digits) throws RdfReaderException {
 
-        int hex = reader.read();
+        int code = 0;
 
-        if (RdfAlphabet.HEX.negate().test(hex)) {
-            unexpected(hex, "0-9", "a-f", "A-F");
-        }
-        return (char)hex;
-    }
+        for (int i = 0; i < digits; i++) {
 
-    private char[] readUnicode64()  throws IOException, RdfReaderException {
+            final int hex = read();
 
-        char[] code = new char[8];
+            if (hex == -1 || !RdfAlphabet.HEX.test(hex)) {
+                unexpected(hex, "0-9", "a-f", "A-F");
+            }
 
-        for (int i=0; i < code.length; i++) {
-            code[i] = readHex8();
+            code = (code << 4) | Character.digit(hex, 16);
         }
 
-        return Character.toChars(Integer.parseInt(String.valueOf(code), 16));
+        return code;
     }
 
     private static final int unescape(int symbol) {
@@ -451,24 +486,35 @@ final class Tokenizer {
         return symbol;
     }
 
-    private Token readComment() throws RdfReaderException {
-        try {
+    private Token skipComment() throws RdfReaderException {
 
-            StringBuilder value = new StringBuilder();
+        int ch = peek(0);
 
-            int ch = reader.read();
+        while (ch != -1 && !isEol(ch)) {
+            position++;
+            ch = peek(0);
+        }
 
-            while (RdfAlphabet.EOL.negate().test(ch) && ch != -1) {
+        return Token.COMMENT;
+    }
 
-                value.appendCodePoint(ch);
-                ch = reader.read();
-            }
+    private static final boolean isWhitespace(int ch) {
+        return ch == 0x0009 || ch == 0x0020;
+    }
 
-            return new Token(TokenType.COMMENT, value.toString());
+    private static final boolean isEol(int ch) {
+        return ch == 0x0A || ch == 0x0D;
+    }
 
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }
+    private static final boolean isNotIriChar(int ch) {
+        return ch <= 0x20    // including end of input
+                || ch == '<'
+                || ch == '"'
+                || ch == '{'
+                || ch == '}'
+                || ch == '|'
+                || ch == '^'
+                || ch == '`';
     }
 
     public boolean hasNext() throws RdfReaderException {
@@ -484,6 +530,7 @@ final class Tokenizer {
         protected static final Token EOS = new Token(TokenType.END_OF_STATEMENT, null);
         protected static final Token EOL = new Token(TokenType.END_OF_LINE, null);
         protected static final Token WS = new Token(TokenType.WHITE_SPACE, null);
+        protected static final Token COMMENT = new Token(TokenType.COMMENT, null);
 
         protected static final Token LITERAL_DATA_TYPE = new Token(TokenType.LITERAL_DATA_TYPE, null);
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.io.nquad;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Encodes characters as UTF-8 into a reusable byte buffer written to an
+ * {@link OutputStream} when full or flushed. Malformed surrogates are replaced
+ * by <code>?</code>.
+ */
+final class Utf8Writer extends Writer {
+
+    private static final int BUFFER_SIZE = 8192*8;
+
+    private final OutputStream os;
+
+    private final byte[] buffer;
+
+    private int position;
+
+    // a high surrogate waiting for its pair, or zero
+    private char highSurrogate;
+
+    Utf8Writer(final OutputStream os) {
+        this.os = os;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.position = 0;
+        this.highSurrogate = 0;
+    }
+
+    @Override
+    public void write(int ch) throws IOException {
+        encode((char)ch);
+    }
+
+    @Override
+    public void write(final char[] chars, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            encode(chars[i]);
+        }
+    }
+
+    @Override
+    public void write(final String string, final int offset, final int length) throws IOException {
+
+        final int end = offset + length;
+
+        int index = offset;
+
+        while (index < end) {
+
+            // copy ASCII characters directly
+            if (highSurrogate == 0) {
+
+                final int limit = index + Math.min(end - index, buffer.length - position);
+
+                while (index < limit) {
+
+                    final char ch = string.charAt(index);
+
+                    if (ch >= 0x80) {
+                        break;
+                    }
+
+                    buffer[position++] = (byte) ch;
+                    index++;
+                }
+
+                if (index == end) {
+                    return;
+                }
+
+                if (index == limit) {
+                    flushBuffer();
+                    continue;
+                }
+            }
+
+            encode(string.charAt(index++));
+        }
+    }
+
+    @Override
+    public void write(final String string) throws IOException {
+        write(string, 0, string.length());
+    }
+
+    private void encode(final char ch) throws IOException {
+
+        // at most 4 bytes per character
+        if (position > buffer.length - 4) {
+            flushBuffer();
+        }
+
+        if (ch < 0x80 && highSurrogate == 0) {
+            buffer[position++] = (byte) ch;
+            return;
+        }
+
+        if (highSurrogate != 0) {
+
+            final char high = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(ch)) {
+
+                final int codePoint = Character.toCodePoint(high, ch);
+
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                return;
+            }
+
+            buffer[position++] = '?';
+            encode(ch);
+            return;
+        }
+
+        if (ch < 0x800) {
+            buffer[position++] = (byte) (0xc0 | (ch >> 6));
+            buffer[position++] = (byte) (0x80 | (ch & 0x3f));
+
+        } else if (Character.isHighSurrogate(ch)) {
+            highSurrogate = ch;
+
+        } else if (Character.isLowSurrogate(ch)) {
+            buffer[position++] = '?';
+
+        } else {
+            buffer[position++] = (byte) (0xe0 | (ch >> 12));
+            buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+            buffer[position++] = (byte) (0x80 | (ch & 0x3f));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            os.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        os.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            encode('?');
+        }
+
+        flush();
+        os.close();
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.apicatalog.jsonld.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -23,7 +24,11 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdErrorCode;
@@ -43,18 +48,14 @@ public final class DefaultHttpClient implements HttpClient {
     }
 
     public HttpResponse send(URI targetUri, String requestProfile) throws JsonLdError {
+        return send(targetUri, requestProfile, Collections.emptyMap());
+    }
 
-        HttpRequest.Builder request = HttpRequest.newBuilder()
-                .GET()
-                .uri(targetUri)
-                .header("Accept", requestProfile);
-
-        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
-            request = request.timeout(timeout);
-        }
+    @Override
+    public HttpResponse send(URI targetUri, String requestProfile, Map<String, String> headers) throws JsonLdError {
 
         try {
-            return new HttpResponseImpl(httpClient.send(request.build(), BodyHandlers.ofInputStream()));
+            return new HttpResponseImpl(httpClient.send(request(targetUri, requestProfile, headers), BodyHandlers.ofInputStream()));
 
         } catch (InterruptedException e) {
 
@@ -67,6 +68,40 @@ public final class DefaultHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(URI targetUri, String requestProfile) {
+        return sendAsync(targetUri, requestProfile, Collections.emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(URI targetUri, String requestProfile, Map<String, String> headers) {
+
+        // the body is received asynchronously as well, reading it does not block
+        return httpClient.sendAsync(request(targetUri, requestProfile, headers), BodyHandlers.ofByteArray())
+                .<HttpResponse>thenApply(response -> new HttpResponseImpl(response, new ByteArrayInputStream(response.body())))
+                .exceptionally(e -> {
+                    throw new CompletionException(new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e instanceof CompletionException ? e.getCause() : e));
+                });
+    }
+
+    private HttpRequest request(URI targetUri, String requestProfile, Map<String, String> headers) {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .GET()
+                .uri(targetUri)
+                .header("Accept", requestProfile);
+
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            request = request.header(header.getKey(), header.getValue());
+        }
+
+        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+            request = request.timeout(timeout);
+        }
+
+        return request.build();
+    }
+
     public static final HttpClient defaultInstance() {
         return INSTANCE;
     }
@@ -79,10 +114,17 @@ public final class DefaultHttpClient implements HttpClient {
 
     public static class HttpResponseImpl implements HttpResponse {
 
-        private final java.net.http.HttpResponse<InputStream> response;
+        private final java.net.http.HttpResponse<?> response;
+
+        private final InputStream body;
 
         HttpResponseImpl(java.net.http.HttpResponse<InputStream> response) {
+            this(response, response.body());
+        }
+
+        HttpResponseImpl(java.net.http.HttpResponse<?> response, InputStream body) {
             this.response = response;
+            this.body = body;
         }
 
         @Override
@@ -92,7 +134,7 @@ public final class DefaultHttpClient implements HttpClient {
 
         @Override
         public InputStream body() {
-            return response.body();
+            return body;
         }
 
         @Override
@@ -110,6 +152,11 @@ public final class DefaultHttpClient implements HttpClient {
             return response.headers().firstValue("location");
         }
 
+        @Override
+        public Optional<String> header(String name) {
+            return response.headers().firstValue(name);
+        }
+
         @Override
         public void close() {
             /* unused */ }
@@ -1,6 +1,7 @@
 package com.apicatalog.jsonld.loader;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,12 +33,25 @@ class DocumentResolver {
      * @throws JsonLdError
      */
     public DocumentReader<InputStream> getReader(MediaType contentType) throws JsonLdError {
-        return findReader(contentType)
+        return getReader(contentType, null, null);
+    }
+
+    /**
+     * Return a reader or throw {@link JsonLdError} if there is no reader nor fallbackContentType.
+     *
+     * @param contentType content type of the requested reader
+     * @param documentUrl URL of the document to read, an HTML reader extracts a script element identified by a fragment
+     * @param options options a document is requested with, an HTML reader selects script elements by
+     * @return a reader allowing to transform an input into {@link Document}
+     * @throws JsonLdError
+     */
+    public DocumentReader<InputStream> getReader(MediaType contentType, URI documentUrl, DocumentLoaderOptions options) throws JsonLdError {
+        return findReader(contentType, documentUrl, options)
                 .or(() -> {
 
                     if (fallbackContentType != null) {
                         LOGGER.log(Level.WARNING, "Content type [{0}] is not acceptable, trying again with [{1}].", new Object[] { contentType, fallbackContentType});
-                        return findReader(fallbackContentType);
+                        return findReader(fallbackContentType, documentUrl, options);
                     }
 
                     return Optional.empty();
@@ -47,6 +61,8 @@ class DocumentResolver {
                     + "'. Supported content types are ["
                     + MediaType.JSON_LD + ", "
                     + MediaType.JSON  + ", +json, "
+                    + MediaType.HTML + ", "
+                    + MediaType.XHTML + ", "
                     + (Rdf.canRead().stream().map(MediaType::toString).collect(Collectors.joining(", ")))
                     + "]"
                     ));
@@ -56,7 +72,7 @@ class DocumentResolver {
         this.fallbackContentType = fallbackContentType;
     }
 
-    private static final Optional<DocumentReader<InputStream>> findReader(final MediaType type) {
+    private static final Optional<DocumentReader<InputStream>> findReader(final MediaType type, final URI documentUrl, final DocumentLoaderOptions options) {
 
         if (type == null) {
             return Optional.empty();
@@ -70,6 +86,10 @@ class DocumentResolver {
             return Optional.of(is -> RdfDocument.of(type, is));
         }
 
+        if (HtmlDocumentReader.accepts(type)) {
+            return Optional.of(new HtmlDocumentReader(documentUrl, options));
+        }
+
         return Optional.empty();
     }
 }
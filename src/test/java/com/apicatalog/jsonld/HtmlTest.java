@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.loader.ZipResourceLoader;
+import com.apicatalog.jsonld.test.JsonLdManifestLoader;
+import com.apicatalog.jsonld.test.JsonLdTestCase;
+import com.apicatalog.jsonld.test.JsonLdTestRunnerJunit;
+
+class HtmlTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("data")
+    void testHtml(final JsonLdTestCase testCase) {
+
+        // skip, base option overrides HTML base element
+        assumeFalse(Arrays.asList("#te020", "#te021", "#tr020", "#tr021").contains(testCase.id));
+
+        // skip, a flattened single node is compacted without @graph
+        assumeFalse(Arrays.asList("#tf001", "#tf002").contains(testCase.id));
+
+        assertTrue(new JsonLdTestRunnerJunit(testCase).execute());
+    }
+
+    static final Stream<JsonLdTestCase> data() throws JsonLdError {
+        return JsonLdManifestLoader
+                    .load(JsonLdManifestLoader.JSON_LD_API_BASE, "html-manifest.jsonld", new ZipResourceLoader())
+                    .stream()
+                    .filter(JsonLdTestCase.IS_NOT_V1_0) // skip specVersion == 1.0
+                    ;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+
+class JsonLdEngineTest {
+
+    static final String CONTEXT_URI = "https://remote.example/context";
+
+    static final JsonStructure CONTEXT = parse("{\"@context\":{\"@vocab\":\"https://a.example/\",\"name\":\"https://a.example/name\",\"knows\":{\"@type\":\"@id\"}}}");
+
+    static class CountingLoader implements DocumentLoader {
+
+        final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+            requests.incrementAndGet();
+            final Document document = JsonDocument.of(CONTEXT);
+            document.setDocumentUrl(url);
+            return document;
+        }
+    }
+
+    @Test
+    void testConcurrentProcessing() throws Exception {
+
+        final CountingLoader loader = new CountingLoader();
+
+        final JsonLdEngine engine = JsonLdEngine.with(new JsonLdOptions(loader)).documentCache(10).build();
+
+        final Document document = JsonDocument.of(parse("{\"@context\":\"" + CONTEXT_URI + "\",\"@id\":\"https://a.example/x\",\"name\":\"test\",\"knows\":\"https://a.example/y\"}"));
+        final Document context = JsonDocument.of(parse("{\"@context\":\"" + CONTEXT_URI + "\"}"));
+
+        final JsonArray expanded = engine.expand(document);
+        final JsonObject compacted = engine.compact(document, context);
+
+        assertEquals(parse("[{\"@id\":\"https://a.example/x\",\"https://a.example/name\":[{\"@value\":\"test\"}],\"https://a.example/knows\":[{\"@id\":\"https://a.example/y\"}]}]"), expanded);
+        assertEquals(parse("{\"@context\":\"" + CONTEXT_URI + "\",\"@id\":\"https://a.example/x\",\"name\":\"test\",\"knows\":\"https://a.example/y\"}"), compacted);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final Collection<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        assertEquals(expanded, engine.expand(document));
+                        assertEquals(compacted, engine.compact(document, context));
+                        assertEquals(2, engine.toRdf(document).toList().size());
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, loader.requests.get());
+        assertTrue(engine.getOptions().getInverseContextCache().stats().hitCount() > 0);
+    }
+
+    @Test
+    void testOptionsSnapshot() throws JsonLdError {
+
+        final JsonLdOptions options = new JsonLdOptions();
+
+        final JsonLdEngine engine = JsonLdEngine.with(options).contextCache(0).build();
+
+        options.setOrdered(true);
+
+        assertEquals(false, engine.getOptions().isOrdered());
+        assertNull(engine.getOptions().getActiveContextCache());
+        assertNull(engine.getOptions().getInverseContextCache());
+
+        assertEquals(parse("[{\"https://a.example/name\":[{\"@value\":\"test\"}]}]"),
+                engine.expand(JsonDocument.of(parse("{\"https://a.example/name\":\"test\"}"))));
+    }
+
+    static final JsonStructure parse(String json) {
+        return JsonProvider.instance().createReader(new StringReader(json)).read();
+    }
+}
@@ -16,7 +16,6 @@
 package com.apicatalog.jsonld;
 
 import static org.junit.jupiter.api.Assertions.fail;
-import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 import java.util.stream.Stream;
 
@@ -56,9 +55,6 @@ class RemoteTest {
     @MethodSource("data")
     void testRemote(final JsonLdTestCase testCase) {
 
-        // skip, HTML extraction is not supported yet
-        assumeFalse("#t0013".equals(testCase.id));
-
         try {
 
             JsonLdMockServer server = new JsonLdMockServer(testCase, JsonLdTestCase.TESTS_BASE, JsonLdManifestLoader.JSON_LD_API_BASE, new ZipResourceLoader());
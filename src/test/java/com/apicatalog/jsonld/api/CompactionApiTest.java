@@ -73,4 +73,11 @@ class CompactionApiTest {
         assertNotNull(compacted);
         assertEquals(JsonValue.EMPTY_JSON_OBJECT, compacted);
     }
+
+    @Test
+    void testAsync() throws Exception {
+        JsonObject compacted = JsonLd.compact("\thttps://example.com  ", "https://ahoj.fk").loader(MOCK_LOADER).ordered().getAsync().get();
+        assertNotNull(compacted);
+        assertEquals(JsonValue.EMPTY_JSON_OBJECT, compacted);
+    }
 }
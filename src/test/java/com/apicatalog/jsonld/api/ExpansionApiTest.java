@@ -30,6 +30,7 @@ import com.apicatalog.jsonld.JsonLdVersion;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.http.media.MediaType;
 
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
 
@@ -79,6 +80,22 @@ class ExpansionApiTest {
         assertEquals(JsonValue.EMPTY_JSON_ARRAY, expanded);
     }
 
+    @Test
+    void testAsync() throws Exception {
+        JsonArray expanded = JsonLd.expand(URI.create("https://example.com")).loader(MOCK_LOADER).getAsync().get();
+        assertNotNull(expanded);
+        assertEquals(JsonValue.EMPTY_JSON_ARRAY, expanded);
+    }
+
+    @Test
+    void testAsyncDocument() throws Exception {
+        JsonArray expanded = JsonLd.expand(JsonDocument.of(Json.createObjectBuilder().add("https://example.com/name", "test").build())).getAsync().get();
+        assertEquals(Json.createArrayBuilder()
+                            .add(Json.createObjectBuilder()
+                                    .add("https://example.com/name", Json.createArrayBuilder().add(Json.createObjectBuilder().add("@value", "test"))))
+                            .build(), expanded);
+    }
+
     @Test
     void test7() throws JsonLdError {
         JsonArray expanded = JsonLd.expand("\thttps://example.com").context(JsonDocument.of(MediaType.JSON, new InputStreamReader(new ByteArrayInputStream(JsonValue.EMPTY_JSON_OBJECT.toString().getBytes())))).loader(MOCK_LOADER).ordered().get();
@@ -17,15 +17,22 @@ package com.apicatalog.jsonld.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringReader;
 import java.net.URI;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.Test;
 
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.document.RdfDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.io.error.UnsupportedContentException;
 
 import jakarta.json.JsonArray;
 
@@ -60,4 +67,26 @@ class FromRdfApiTest {
         assertNotNull(result);
         assertEquals(0, result.size());
     }
+
+    @Test
+    void testLazyDocument() throws JsonLdError, UnsupportedContentException {
+        JsonArray result = JsonLd.fromRdf(RdfDocument.of(MediaType.N_QUADS, Rdf.createReader(MediaType.N_QUADS, new StringReader("<http://example.org/a> <http://example.org/b> \"c\" .\n")))).get();
+        assertNotNull(result);
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testMalformedLazyDocument() throws UnsupportedContentException {
+        JsonLdError error = assertThrows(JsonLdError.class,
+                () -> JsonLd.fromRdf(RdfDocument.of(MediaType.N_QUADS, Rdf.createReader(MediaType.N_QUADS, new StringReader("<http://example.org/a> <http://example.org/b> .\n")))).get());
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+    }
+
+    @Test
+    void testMalformedLazyDocumentAsync() throws UnsupportedContentException {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> JsonLd.fromRdf(RdfDocument.of(MediaType.N_QUADS, Rdf.createReader(MediaType.N_QUADS, new StringReader("<http://example.org/a> <http://example.org/b> .\n")))).getAsync().get());
+        assertTrue(e.getCause() instanceof JsonLdError);
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, ((JsonLdError) e.getCause()).getCode());
+    }
 }
@@ -21,6 +21,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +32,7 @@ import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
 
 import jakarta.json.JsonValue;
 
@@ -112,4 +116,37 @@ class ToRdfApiTest {
         assertNotNull(result);
         assertEquals(0, result.size());
     }
+
+    @Test
+    void test12() throws JsonLdError {
+        JsonDocument document = JsonDocument.of(new ByteArrayInputStream("{\"@graph\":[{\"@id\":\"http://example.com/b\",\"http://example.com/p\":\"1\"},{\"@id\":\"http://example.com/a\",\"http://example.com/p\":\"2\"}]}".getBytes()));
+
+        RdfDataset unordered = JsonLd.toRdf(document).get();
+        assertEquals(2, unordered.size());
+        assertEquals("http://example.com/b", unordered.toList().get(0).getSubject().getValue());
+
+        RdfDataset ordered = JsonLd.toRdf(document).ordered().get();
+        assertEquals(2, ordered.size());
+        assertEquals("http://example.com/a", ordered.toList().get(0).getSubject().getValue());
+
+        assertEquals(new HashSet<>(ordered.toList()), new HashSet<>(unordered.toList()));
+    }
+
+    @Test
+    void test13() throws JsonLdError {
+        // rdf:type is stated twice, the list is converted to blank nodes
+        JsonDocument document = JsonDocument.of(new ByteArrayInputStream("{\"@id\":\"http://example.com/a\",\"@type\":\"http://example.com/T\",\"http://www.w3.org/1999/02/22-rdf-syntax-ns#type\":{\"@id\":\"http://example.com/T\"},\"http://example.com/p\":{\"@list\":[\"1\",\"2\"]}}".getBytes()));
+
+        RdfDataset dataset = JsonLd.toRdf(document).get();
+        assertEquals(6, dataset.size());
+
+        List<RdfNQuad> all = new ArrayList<>();
+        JsonLd.toRdf(document).provide(all::add);
+        assertEquals(7, all.size());
+
+        List<RdfNQuad> unique = new ArrayList<>();
+        JsonLd.toRdf(document).provide(unique::add, true);
+        assertEquals(6, unique.size());
+        assertEquals(new HashSet<>(dataset.toList()), new HashSet<>(unique));
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.processor.ProcessingRuntime;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+class ActiveContextCacheTest {
+
+    static final JsonStructure CONTEXT_A = parse("{\"@context\":{\"@vocab\":\"https://a.example/\",\"name\":\"https://a.example/name\"}}");
+    static final JsonStructure CONTEXT_B = parse("{\"@context\":{\"title\":\"name\"}}");
+
+    static class RecordLoader implements DocumentLoader {
+
+        final List<URI> requests = new ArrayList<>();
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+            requests.add(url);
+            final Document document = JsonDocument.of(url.toString().endsWith("/a") ? CONTEXT_A : CONTEXT_B);
+            document.setDocumentUrl(url);
+            return document;
+        }
+    }
+
+    @Test
+    void testRemoteContextProcessedOnce() throws JsonLdError {
+
+        final RecordLoader loader = new RecordLoader();
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+
+        final JsonArray expected = JsonLd.expand(document("[\"https://remote.example/a\", \"https://remote.example/b\"]", "title")).options(options).get();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected, JsonLd.expand(document("[\"https://remote.example/a\", \"https://remote.example/b\"]", "title")).options(options).get());
+        }
+
+        assertEquals(2, loader.requests.size());
+        assertEquals(parse("[{\"https://a.example/name\":[{\"@value\":\"test\"}]}]"), expected);
+    }
+
+    @Test
+    void testInlineContextNotCached() throws JsonLdError {
+
+        final RecordLoader loader = new RecordLoader();
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+
+        final JsonArray expected1 = JsonLd.expand(document("[\"https://remote.example/a\", {\"title\":\"https://c.example/title\"}, \"https://remote.example/b\"]", "title")).options(options).get();
+        final JsonArray expected2 = JsonLd.expand(document("[\"https://remote.example/a\", \"https://remote.example/b\"]", "title")).options(options).get();
+
+        assertEquals(parse("[{\"https://a.example/name\":[{\"@value\":\"test\"}]}]"), expected1);
+        assertEquals(expected1, expected2);
+
+        // the second context has been applied to a different context
+        assertEquals(3, loader.requests.size());
+    }
+
+    @Test
+    void testDisabledCache() throws JsonLdError {
+
+        final RecordLoader loader = new RecordLoader();
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+        options.setActiveContextCache(null);
+
+        JsonLd.expand(document("\"https://remote.example/a\"", "name")).options(options).get();
+        JsonLd.expand(document("\"https://remote.example/a\"", "name")).options(options).get();
+
+        assertEquals(2, loader.requests.size());
+    }
+
+    @Test
+    void testScopedContextMemoized() throws JsonLdError {
+
+        final ActiveContext context = new ActiveContext(ProcessingRuntime.of(new JsonLdOptions()))
+                .newContext()
+                .create(parse("{\"@vocab\":\"https://a.example/\",\"Person\":{\"@context\":{\"name\":\"https://b.example/name\"}}}"), null);
+
+        final JsonValue scopedContext = context.getTerm("Person").map(TermDefinition::getLocalContext).orElse(null);
+
+        final ActiveContext typeScoped = context.newContext().propagate(false).createScoped(scopedContext, null);
+
+        assertSame(typeScoped, context.newContext().propagate(false).createScoped(scopedContext, null));
+        assertEquals("https://b.example/name", typeScoped.getTerm("name").map(TermDefinition::getUriMapping).orElse(null));
+        assertSame(context, typeScoped.getPreviousContext());
+
+        final ActiveContext propertyScoped = context.newContext().overrideProtected(true).createScoped(scopedContext, null);
+
+        assertNotSame(typeScoped, propertyScoped);
+        assertNull(propertyScoped.getPreviousContext());
+    }
+
+    static final Document document(String context, String term) {
+        return JsonDocument.of(parse("{\"@context\":" + context + ",\"" + term + "\":\"test\"}"));
+    }
+
+    static final JsonStructure parse(String json) {
+        return JsonProvider.instance().createReader(new StringReader(json)).read();
+    }
+}
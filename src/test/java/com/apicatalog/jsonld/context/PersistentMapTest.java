@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PersistentMapTest {
+
+    @Test
+    void testRandomOperations() {
+
+        final Random random = new Random(26);
+
+        final Map<String, Integer> expected = new HashMap<>();
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+
+        for (int i = 0; i < 20000; i++) {
+
+            final String key = "term" + random.nextInt(2000);
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map);
+        assertEquals(expected.entrySet(), map.entrySet());
+    }
+
+    @Test
+    void testStructuralSharing() {
+
+        final PersistentMap<String, Integer> origin = PersistentMap.<String, Integer>empty().plus("a", 1).plus("b", 2);
+
+        final PersistentMap<String, Integer> derived = origin.plus("c", 3).minus("a");
+
+        assertEquals(2, origin.size());
+        assertEquals(Integer.valueOf(1), origin.get("a"));
+        assertFalse(origin.containsKey("c"));
+
+        assertEquals(2, derived.size());
+        assertNull(derived.get("a"));
+        assertEquals(Integer.valueOf(3), derived.get("c"));
+
+        assertSame(origin, origin.minus("x"));
+        assertSame(origin, origin.plus("a", origin.get("a")));
+    }
+
+    @Test
+    void testHashCollisions() {
+
+        // "Aa" and "BB" have the same hash code
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty()
+                .plus("Aa", 1)
+                .plus("BB", 2)
+                .plus("AaAa", 3)
+                .plus("BBBB", 4)
+                .plus("AaBB", 5);
+
+        assertEquals(5, map.size());
+        assertEquals(Integer.valueOf(2), map.get("BB"));
+        assertEquals(Integer.valueOf(5), map.get("AaBB"));
+
+        map = map.minus("Aa").minus("BBBB");
+
+        assertEquals(3, map.size());
+        assertFalse(map.containsKey("Aa"));
+        assertTrue(map.containsKey("BB"));
+        assertEquals(Integer.valueOf(3), map.get("AaAa"));
+
+        map = map.minus("BB").minus("AaAa").minus("AaBB");
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.processor.ProcessingRuntime;
+
+class PrefixIndexTest {
+
+    @Test
+    void testFind() throws JsonLdError {
+
+        final ActiveContext context = context("{\"ex\":\"http://ex.org/\",\"exa\":\"http://ex.org/a/\",\"alt\":\"http://ex.org/\",\"term\":\"http://ex.org/term\"}");
+
+        assertEquals(Arrays.asList("alt:a/b", "ex:a/b", "exa:b"), context.getPrefixIndex().find("http://ex.org/a/b"));
+        assertEquals(Arrays.asList("alt:a/", "ex:a/"), context.getPrefixIndex().find("http://ex.org/a/"));
+        assertTrue(context.getPrefixIndex().find("http://ex.org/").isEmpty());
+        assertTrue(context.getPrefixIndex().find("http://other.org/").isEmpty());
+    }
+
+    @Test
+    void testShortestCompactUri() throws JsonLdError {
+
+        final ActiveContext context = context("{\"ex\":\"http://ex.org/\",\"exa\":\"http://ex.org/a/\"}");
+
+        assertEquals("exa:b", context.uriCompaction().vocab(true).compact("http://ex.org/a/b"));
+        assertEquals("ex:c", context.uriCompaction().vocab(true).compact("http://ex.org/c"));
+    }
+
+    static final ActiveContext context(final String json) throws JsonLdError {
+        return new ActiveContext(ProcessingRuntime.of(new JsonLdOptions()))
+                .newContext()
+                .create(JsonProvider.instance().createReader(new StringReader(json)).read(), null);
+    }
+}
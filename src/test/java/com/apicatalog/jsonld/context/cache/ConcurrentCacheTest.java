@@ -0,0 +1,109 @@
+package com.apicatalog.jsonld.context.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+
+        final ConcurrentCache<String, String> cache = new ConcurrentCache<>(2);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        // touch a, b becomes the eldest
+        assertEquals("1", cache.get("a"));
+
+        cache.put("c", "3");
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+        assertEquals(2, cache.size());
+
+        assertNull(cache.get("b"));
+
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void testWeigher() {
+
+        final ConcurrentCache<String, String> cache = new ConcurrentCache<>(10, (key, value) -> value.length(), null);
+
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(2, cache.size());
+
+        cache.put("c", "12");
+        assertEquals(2, cache.size());
+        assertFalse(cache.containsKey("a"));
+
+        // heavier than the cache itself
+        cache.put("d", "12345678901");
+        assertFalse(cache.containsKey("d"));
+    }
+
+    @Test
+    void testExpiration() throws InterruptedException {
+
+        final ConcurrentCache<String, String> cache = new ConcurrentCache<>(10, null, Duration.ofMillis(1));
+
+        cache.put("a", "1");
+
+        Thread.sleep(10);
+
+        assertFalse(cache.containsKey("a"));
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+
+        final ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(1000);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final Collection<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        final Integer value = cache.get(i % 2000);
+                        if (value != null) {
+                            assertEquals(i % 2000, value.intValue());
+                        }
+                        cache.put(i % 2000, i % 2000);
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(cache.size() <= 1000);
+        assertEquals(80000, cache.stats().hitCount() + cache.stats().missCount());
+    }
+}
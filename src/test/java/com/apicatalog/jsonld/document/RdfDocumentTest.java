@@ -18,6 +18,7 @@ package com.apicatalog.jsonld.document;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,13 +26,19 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.http.media.MediaType;
 import com.apicatalog.rdf.Rdf;
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.io.error.UnsupportedContentException;
 
 import jakarta.json.JsonValue;
 
@@ -83,6 +90,49 @@ class RdfDocumentTest {
         assertEquals(1, document.getRdfContent().get().size());
     }
 
+    @Test
+    void test5() throws JsonLdError, UnsupportedContentException {
+        RdfDocument document = RdfDocument.of(MediaType.N_QUADS, Rdf.createReader(MediaType.N_QUADS, new StringReader(NQ_STATEMENT + "\n" + NQ_STATEMENT)));
+        assertNotNull(document);
+
+        List<RdfNQuad> nquads = new ArrayList<>();
+        document.read(nquads::add);
+        assertEquals(2, nquads.size());
+
+        // the reader has been consumed
+        assertThrows(JsonLdError.class, () -> document.read(nquads::add));
+        assertThrows(JsonLdError.class, () -> document.readRdfContent());
+        assertFalse(document.getRdfContent().isPresent());
+    }
+
+    @Test
+    void test6() throws JsonLdError, UnsupportedContentException {
+        RdfDocument document = RdfDocument.of(MediaType.N_QUADS, Rdf.createReader(MediaType.N_QUADS, new StringReader(NQ_STATEMENT + "\n" + NQ_STATEMENT)));
+        assertNotNull(document);
+        assertTrue(document.getRdfContent().isPresent());
+        assertEquals(1, document.getRdfContent().get().size());
+
+        // the content is read once
+        assertSame(document.getRdfContent().get(), document.getRdfContent().get());
+        assertSame(document.getRdfContent().get(), document.readRdfContent());
+
+        List<RdfNQuad> nquads = new ArrayList<>();
+        document.read(nquads::add);
+        assertEquals(1, nquads.size());
+    }
+
+    @Test
+    void test7() throws UnsupportedContentException {
+        RdfDocument document = RdfDocument.of(MediaType.N_QUADS, Rdf.createReader(MediaType.N_QUADS, new StringReader("<http://example/s> <http://example/p> .")));
+        assertNotNull(document);
+        assertFalse(document.getRdfContent().isPresent());
+
+        // a read failure is reported by subsequent reads
+        JsonLdError error = assertThrows(JsonLdError.class, () -> document.readRdfContent());
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+        assertSame(error, assertThrows(JsonLdError.class, () -> document.read(nquad -> { })));
+    }
+
     @Test
     void testi1() throws JsonLdError {
         assertThrows(IllegalArgumentException.class, () -> RdfDocument.of((InputStream)null));
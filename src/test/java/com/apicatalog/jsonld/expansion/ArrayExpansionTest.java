@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.expansion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+
+import jakarta.json.JsonArray;
+
+class ArrayExpansionTest {
+
+    static final String CONTEXT = "{\"@vocab\":\"https://v.example/\","
+                                    + "\"Person\":{\"@context\":{\"name\":\"https://w.example/name\"}},"
+                                    + "\"knows\":{\"@type\":\"@id\",\"@context\":{\"label\":\"https://w.example/label\"}},"
+                                    + "\"items\":{\"@container\":\"@list\"}}";
+
+    static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    static String input(final int nodes) {
+
+        final StringBuilder input = new StringBuilder("{\"@context\":").append(CONTEXT).append(",\"@graph\":[");
+
+        for (int i = 0; i < nodes; i++) {
+            if (i > 0) {
+                input.append(',');
+            }
+            input.append("{\"@id\":\"_:n").append(i).append("\",")
+                 .append(i % 2 == 0 ? "\"@type\":\"Person\"," : "")
+                 .append("\"name\":\"node ").append(i).append("\",")
+                 .append("\"knows\":{\"@id\":\"_:n").append((i + 1) % nodes).append("\",\"label\":\"").append(i).append("\"},")
+                 .append("\"items\":[").append(i).append(",{\"label\":\"x\"},[\"a\",\"b\"]]}");
+        }
+
+        return input.append("]}").toString();
+    }
+
+    @Test
+    void testParallel() throws JsonLdError {
+
+        final String input = input(2000);
+
+        final JsonArray expected = JsonLd.expand(JsonDocument.of(new StringReader(input))).get();
+
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setParallelThreshold(10);
+        options.setParallelPool(pool);
+
+        final JsonArray result = JsonLd.expand(JsonDocument.of(new StringReader(input))).options(options).get();
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void testParallelError() {
+
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setParallelThreshold(2);
+        options.setParallelPool(pool);
+
+        final JsonLdError error = assertThrows(JsonLdError.class,
+                () -> JsonLd.expand(JsonDocument.of(new StringReader("[{\"@id\":\"https://a.example/1\"},{\"@id\":5},{\"@id\":\"https://a.example/3\"}]"))).options(options).get());
+
+        assertEquals(JsonLdErrorCode.INVALID_KEYWORD_ID_VALUE, error.getCode());
+    }
+
+    @Test
+    void testInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonLdOptions().setParallelThreshold(-1));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.flattening;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.rdf.RdfDataset;
+
+import jakarta.json.JsonArray;
+
+class ParallelNodeMapBuilderTest {
+
+    static final String CONTEXT = "{\"@vocab\":\"https://v.example/\",\"knows\":{\"@type\":\"@id\"},\"items\":{\"@container\":\"@list\"},"
+                                    + "\"knownBy\":{\"@reverse\":\"knows\",\"@type\":\"@id\"}}";
+
+    static Stream<String> inputs() {
+        return Stream.of(
+                // blank nodes shared by partitions
+                "[{\"@id\":\"_:a\",\"knows\":\"_:b\"},{\"name\":\"x\"},{\"@id\":\"_:b\",\"knows\":\"_:a\"},{\"@id\":\"_:a\",\"name\":\"y\"}]",
+                // a subject spread across partitions
+                "[{\"@id\":\"https://a.example/1\",\"@type\":\"A\",\"name\":[\"x\",\"y\"]},{\"@id\":\"https://a.example/2\"},"
+                        + "{\"@id\":\"https://a.example/1\",\"@type\":[\"B\",\"A\"],\"name\":[\"y\",\"z\"],\"items\":[1,{\"name\":\"w\"}]},"
+                        + "{\"@id\":\"https://a.example/1\",\"items\":[1,{\"name\":\"w\"}]}]",
+                // named graphs and reverse properties
+                "[{\"@id\":\"_:g\",\"@graph\":[{\"@id\":\"_:a\",\"name\":\"x\"}]},{\"@id\":\"https://a.example/1\",\"knownBy\":[\"_:a\",\"_:c\"]},"
+                        + "{\"@id\":\"_:g\",\"@graph\":{\"@id\":\"_:a\",\"knows\":\"_:c\"}},{\"@id\":\"_:c\",\"@type\":\"_:t\"}]"
+                );
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void testBuild(final String input) throws JsonLdError {
+
+        final JsonArray expanded = expand(input);
+
+        final JsonArray expected = Flattening.with(NodeMapBuilder.with(expanded, new NodeMap()).build()).flatten();
+
+        for (int partitions = 2; partitions <= expanded.size(); partitions++) {
+            assertEquals(expected, Flattening.with(ParallelNodeMapBuilder.with(expanded, new NodeMap()).partitions(partitions).build()).flatten());
+        }
+    }
+
+    @Test
+    void testConflictingIndexes() throws JsonLdError {
+
+        final JsonArray expanded = expand("[{\"@id\":\"https://a.example/1\",\"@index\":\"a\"},{\"@id\":\"https://a.example/1\",\"@index\":\"b\"}]");
+
+        final JsonLdError error = assertThrows(JsonLdError.class, () -> ParallelNodeMapBuilder.with(expanded, new NodeMap()).partitions(2).build());
+
+        assertEquals(JsonLdErrorCode.CONFLICTING_INDEXES, error.getCode());
+    }
+
+    @Test
+    void testToRdf() throws JsonLdError {
+
+        final StringBuilder input = new StringBuilder("[");
+
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                input.append(',');
+            }
+            input.append("{\"@id\":\"_:n").append(i).append("\",\"knows\":\"_:n").append((i + 7) % 1000).append("\",\"items\":[").append(i).append("]}");
+        }
+
+        final String document = input.append("]").toString();
+
+        final RdfDataset expected = JsonLd.toRdf(JsonDocument.of(new StringReader(document))).context(JsonDocument.of(new StringReader(CONTEXT))).get();
+
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setParallelThreshold(10);
+        options.setExpandContext(JsonDocument.of(new StringReader(CONTEXT)));
+
+        final RdfDataset result = JsonLd.toRdf(JsonDocument.of(new StringReader(document))).options(options).get();
+
+        assertEquals(expected.toList(), result.toList());
+    }
+
+    static JsonArray expand(final String input) throws JsonLdError {
+        return JsonLd.expand(JsonDocument.of(new StringReader(input)))
+                    .context(JsonDocument.of(new StringReader(CONTEXT)))
+                    .get();
+    }
+}
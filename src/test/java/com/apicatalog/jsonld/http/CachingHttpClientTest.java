@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.HttpLoader;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import jakarta.json.Json;
+
+class CachingHttpClientTest {
+
+    static final String CONTEXT = "{\"@context\":{\"name\":\"https://a.example/name\"}}";
+
+    WireMockServer wireMockServer;
+
+    MutableClock clock;
+
+    @BeforeEach
+    void startWireMock() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        clock = new MutableClock();
+    }
+
+    @AfterEach
+    void stopWireMock() {
+        wireMockServer.stop();
+        wireMockServer = null;
+    }
+
+    @Test
+    void testMaxAge() throws JsonLdError {
+
+        stub("/context", "max-age=60", null, null);
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/context")));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/context")));
+    }
+
+    @Test
+    void testETagRevalidation() throws JsonLdError {
+
+        stub("/context", "no-cache", "\"v1\"", null);
+
+        wireMockServer.stubFor(get(urlEqualTo("/context"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", "\"v1\"")));
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/context")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/context")).withHeader("If-None-Match", equalTo("\"v1\"")));
+    }
+
+    @Test
+    void testLastModifiedRevalidation() throws JsonLdError {
+
+        final String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+        stub("/context", "max-age=10", null, lastModified);
+
+        wireMockServer.stubFor(get(urlEqualTo("/context"))
+                .withHeader("If-Modified-Since", equalTo(lastModified))
+                .willReturn(aResponse().withStatus(304).withHeader("Cache-Control", "max-age=100")));
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        clock.advance(Duration.ofSeconds(11));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        // fresh again as set by the revalidation response
+        clock.advance(Duration.ofSeconds(50));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/context")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/context")).withHeader("If-Modified-Since", equalTo(lastModified)));
+    }
+
+    @Test
+    void testNegativeCaching() {
+
+        wireMockServer.stubFor(get(urlEqualTo("/missing")).willReturn(aResponse().withStatus(404)));
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock).negativeTtl(Duration.ofSeconds(30)));
+
+        assertThrows(JsonLdError.class, () -> loader.loadDocument(uri("/missing"), new DocumentLoaderOptions()));
+        assertThrows(JsonLdError.class, () -> loader.loadDocument(uri("/missing"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/missing")));
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThrows(JsonLdError.class, () -> loader.loadDocument(uri("/missing"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/missing")));
+    }
+
+    @Test
+    void testNoStore() throws JsonLdError {
+
+        stub("/context", "no-store", "\"v1\"", null);
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/context")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/context")));
+    }
+
+    @Test
+    void testPersistence(@TempDir Path directory) throws Exception {
+
+        stub("/context", "max-age=60", null, null);
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock).directory(directory));
+
+        assertContext(loader.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+
+        // a new client, e.g. after a restart
+        final DocumentLoader restarted = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock).directory(directory));
+
+        assertContext(restarted.loadDocument(uri("/context"), new DocumentLoaderOptions()));
+        assertContext(new HttpLoader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock).directory(directory))
+                            .loadDocumentAsync(uri("/context"), new DocumentLoaderOptions())
+                            .get());
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/context")));
+    }
+
+    @Test
+    void testRedirectPersistence(@TempDir Path directory) throws Exception {
+
+        wireMockServer.stubFor(get(urlEqualTo("/old")).willReturn(aResponse().withStatus(301).withHeader("Location", "/context")));
+        stub("/context", "max-age=60", null, null);
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock).directory(directory));
+
+        assertContext(loader.loadDocument(uri("/old"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/old")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/context")));
+
+        wireMockServer.resetRequests();
+
+        // a new client, e.g. after a restart
+        final DocumentLoader restarted = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock).directory(directory));
+
+        assertContext(restarted.loadDocument(uri("/old"), new DocumentLoaderOptions()));
+
+        assertEquals(0, wireMockServer.getAllServeEvents().size());
+    }
+
+    @Test
+    void testTemporaryRedirect() throws Exception {
+
+        wireMockServer.stubFor(get(urlEqualTo("/temporary")).willReturn(aResponse().withStatus(302).withHeader("Location", "/context")));
+        wireMockServer.stubFor(get(urlEqualTo("/fresh")).willReturn(aResponse().withStatus(307).withHeader("Location", "/context").withHeader("Cache-Control", "max-age=60")));
+        stub("/context", "max-age=60", null, null);
+
+        final DocumentLoader loader = loader(new CachingHttpClient(DefaultHttpClient.defaultInstance(), clock));
+
+        assertContext(loader.loadDocument(uri("/temporary"), new DocumentLoaderOptions()));
+        assertContext(loader.loadDocument(uri("/temporary"), new DocumentLoaderOptions()));
+
+        assertContext(loader.loadDocument(uri("/fresh"), new DocumentLoaderOptions()));
+        assertContext(loader.loadDocument(uri("/fresh"), new DocumentLoaderOptions()));
+
+        // a temporary redirect is cached only if the freshness is set
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/temporary")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/fresh")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/context")));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertContext(loader.loadDocument(uri("/fresh"), new DocumentLoaderOptions()));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/fresh")));
+    }
+
+    void stub(String path, String cacheControl, String etag, String lastModified) {
+
+        final ResponseDefinitionBuilder response = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/ld+json")
+                .withHeader("Cache-Control", cacheControl)
+                .withBody(CONTEXT);
+
+        if (etag != null) {
+            response.withHeader("ETag", etag);
+        }
+        if (lastModified != null) {
+            response.withHeader("Last-Modified", lastModified);
+        }
+
+        wireMockServer.stubFor(get(urlEqualTo(path)).atPriority(10).willReturn(response));
+    }
+
+    URI uri(String path) {
+        return URI.create(wireMockServer.baseUrl() + path);
+    }
+
+    static DocumentLoader loader(HttpClient client) {
+        return new HttpLoader(client);
+    }
+
+    static void assertContext(Document document) {
+        assertEquals(Json.createReader(new StringReader(CONTEXT)).read(), document.getJsonContent().get());
+    }
+
+    static class MutableClock extends Clock {
+
+        Instant instant = Instant.parse("2020-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleFormatterTest {
+
+    @Test
+    void testXsdDoubleDecimals() {
+
+        final Random random = new Random(15);
+
+        for (int i = 0; i < 100000; i++) {
+
+            final BigDecimal number = randomDecimal(random, -300, 300);
+
+            // the previous DecimalFormat based output
+            final DecimalFormat format = new DecimalFormat("0.0##############E0", new DecimalFormatSymbols(Locale.ENGLISH));
+            format.setMinimumFractionDigits(1);
+
+            assertEquals(format.format(number), DoubleFormatter.toXsdDouble(number), number::toString);
+        }
+    }
+
+    @Test
+    void testXsdDoubleShortest() {
+
+        final Random random = new Random(15);
+
+        for (int i = 0; i < 100000; i++) {
+
+            final double value = randomDouble(random);
+
+            final String formatted = DoubleFormatter.toXsdDouble(new BigDecimal(value));
+
+            assertEquals(value, Double.parseDouble(formatted), formatted);
+            assertShortest(value, formatted.substring(0, formatted.indexOf('E')));
+        }
+    }
+
+    @Test
+    void testXsdDouble() {
+        assertEquals("0.0E0", DoubleFormatter.toXsdDouble(new BigDecimal("-0.0")));
+        assertEquals("1.0E21", DoubleFormatter.toXsdDouble(new BigDecimal("1E21")));
+        assertEquals("-5.3E-1", DoubleFormatter.toXsdDouble(new BigDecimal("-0.530")));
+        assertEquals("5.0E-324", DoubleFormatter.toXsdDouble(new BigDecimal(Double.MIN_VALUE)));
+        assertEquals("1.7976931348623157E308", DoubleFormatter.toXsdDouble(new BigDecimal(Double.MAX_VALUE)));
+        assertEquals("1.0E-1", DoubleFormatter.toXsdDouble(new BigDecimal("0.1000000000000000055511151231257827")));
+        assertEquals("1.0E400", DoubleFormatter.toXsdDouble(new BigDecimal("1E400")));
+    }
+
+    @Test
+    void testJcsDecimals() {
+
+        final Random random = new Random(15);
+
+        for (int i = 0; i < 100000; i++) {
+
+            final BigDecimal number = randomDecimal(random, -7, 20).abs();
+
+            // the previous DecimalFormat based output is correct for positive numbers
+            // with up to 7 fraction digits
+            if (number.scale() > 7 || number.compareTo(new BigDecimal("1E-6")) < 0 || number.compareTo(new BigDecimal("1E21")) >= 0) {
+                continue;
+            }
+
+            final DecimalFormat format = new DecimalFormat("0.#######", new DecimalFormatSymbols(Locale.ENGLISH));
+
+            assertEquals(format.format(number), DoubleFormatter.toJcs(number), number::toString);
+        }
+    }
+
+    @Test
+    void testJcsShortest() {
+
+        final Random random = new Random(15);
+
+        for (int i = 0; i < 100000; i++) {
+
+            final double value = randomDouble(random);
+
+            final String formatted = DoubleFormatter.toJcs(new BigDecimal(value));
+
+            assertEquals(value, Double.parseDouble(formatted), formatted);
+            assertEquals(DoubleFormatter.toXsdDouble(new BigDecimal(value)), DoubleFormatter.toXsdDouble(new BigDecimal(formatted)));
+        }
+    }
+
+    // RFC 8785, Appendix B
+    @Test
+    void testJcs() {
+        assertJcs("0", 0x0000000000000000L);
+        assertJcs("0", 0x8000000000000000L);
+        assertJcs("5e-324", 0x0000000000000001L);
+        assertJcs("-5e-324", 0x8000000000000001L);
+        assertJcs("1.7976931348623157e+308", 0x7fefffffffffffffL);
+        assertJcs("-1.7976931348623157e+308", 0xffefffffffffffffL);
+        assertJcs("9007199254740992", 0x4340000000000000L);
+        assertJcs("-9007199254740992", 0xc340000000000000L);
+        assertJcs("295147905179352830000", 0x4430000000000000L);
+        assertJcs("9.999999999999997e+22", 0x44b52d02c7e14af5L);
+        assertJcs("1e+23", 0x44b52d02c7e14af6L);
+        assertJcs("1.0000000000000001e+23", 0x44b52d02c7e14af7L);
+        assertJcs("999999999999999700000", 0x444b1ae4d6e2ef4eL);
+        assertJcs("999999999999999900000", 0x444b1ae4d6e2ef4fL);
+        assertJcs("1e+21", 0x444b1ae4d6e2ef50L);
+        assertJcs("9.999999999999997e-7", 0x3eb0c6f7a0b5ed8cL);
+        assertJcs("0.000001", 0x3eb0c6f7a0b5ed8dL);
+        assertJcs("333333333.3333332", 0x41b3de4355555553L);
+        assertJcs("333333333.33333325", 0x41b3de4355555554L);
+        assertJcs("333333333.3333333", 0x41b3de4355555555L);
+        assertJcs("333333333.3333334", 0x41b3de4355555556L);
+        assertJcs("333333333.33333343", 0x41b3de4355555557L);
+        assertJcs("-0.0000033333333333333333", 0xbecbf647612f3696L);
+        assertJcs("1424953923781206.2", 0x43143ff3c1cb0959L);
+    }
+
+    static final void assertJcs(final String expected, final long bits) {
+        assertEquals(expected, DoubleFormatter.toJcs(new BigDecimal(Double.longBitsToDouble(bits))));
+    }
+
+    // no decimal with less significant digits rounds to the same value
+    static final void assertShortest(final double value, final String significand) {
+
+        final BigDecimal digits = new BigDecimal(significand.replace(".", "")).stripTrailingZeros();
+
+        if (digits.precision() == 1) {
+            return;
+        }
+
+        final MathContext floor = new MathContext(digits.precision() - 1, RoundingMode.FLOOR);
+        final MathContext ceiling = new MathContext(digits.precision() - 1, RoundingMode.CEILING);
+
+        final BigDecimal exact = new BigDecimal(Math.abs(value));
+
+        assertNotEquals(Math.abs(value), exact.round(floor).doubleValue(), significand);
+        assertNotEquals(Math.abs(value), exact.round(ceiling).doubleValue(), significand);
+    }
+
+    // a decimal with up to 15 significant digits
+    static final BigDecimal randomDecimal(final Random random, final int minExponent, final int maxExponent) {
+
+        long unscaled = (long) (random.nextDouble() * Math.pow(10, 1 + random.nextInt(15)));
+
+        if (random.nextBoolean()) {
+            unscaled = -unscaled;
+        }
+
+        final int exponent = minExponent + random.nextInt(maxExponent - minExponent + 1);
+
+        return BigDecimal.valueOf(unscaled, random.nextInt(20) - exponent);
+    }
+
+    static final double randomDouble(final Random random) {
+
+        double value;
+
+        do {
+            value = Double.longBitsToDouble(random.nextLong());
+
+        } while (Double.isNaN(value) || Double.isInfinite(value) || value == 0);
+
+        return value;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.json.JsonProvider;
+
+import jakarta.json.JsonStructure;
+
+class BundledContextLoaderTest {
+
+    static final URI BUNDLED = URI.create("https://bundled.example/v1");
+
+    static class CountingLoader implements DocumentLoader {
+
+        final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+            requests.incrementAndGet();
+            final Document document = JsonDocument.of(parse("{\"@context\":{\"@vocab\":\"https://remote.example/\"}}"));
+            document.setDocumentUrl(url);
+            return document;
+        }
+    }
+
+    @Test
+    void testBundledContext() throws JsonLdError {
+
+        final CountingLoader fallback = new CountingLoader();
+        final BundledContextLoader loader = new BundledContextLoader(fallback);
+
+        assertTrue(loader.contexts().contains(BUNDLED.toString()));
+
+        final Document document = loader.loadDocument(BUNDLED, new DocumentLoaderOptions());
+
+        assertNotNull(document);
+        assertEquals(BUNDLED, document.getDocumentUrl());
+        assertTrue(document.getJsonContent().isPresent());
+        assertSame(document, loader.loadDocument(BUNDLED, new DocumentLoaderOptions()));
+        assertEquals(0, fallback.requests.get());
+    }
+
+    @Test
+    void testFallback() throws JsonLdError {
+
+        final CountingLoader fallback = new CountingLoader();
+        final BundledContextLoader loader = new BundledContextLoader(fallback);
+
+        assertNotNull(loader.loadDocument(URI.create("https://remote.example/context"), new DocumentLoaderOptions()));
+        assertEquals(1, fallback.requests.get());
+    }
+
+    @Test
+    void testNoFallback() {
+
+        final BundledContextLoader loader = new BundledContextLoader(null);
+
+        final JsonLdError error = assertThrows(JsonLdError.class,
+                () -> loader.loadDocument(URI.create("https://remote.example/context"), new DocumentLoaderOptions()));
+
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+    }
+
+    @Test
+    void testMissingResource() {
+
+        final BundledContextLoader loader = new BundledContextLoader(null)
+                .set("https://bundled.example/missing", "com/apicatalog/jsonld/loader/bundled/missing.jsonld");
+
+        final JsonLdError error = assertThrows(JsonLdError.class,
+                () -> loader.loadDocument(URI.create("https://bundled.example/missing"), new DocumentLoaderOptions()));
+
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+    }
+
+    @Test
+    void testPreload() throws JsonLdError {
+
+        final CountingLoader fallback = new CountingLoader();
+        final BundledContextLoader loader = new BundledContextLoader(fallback);
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+
+        loader.preload(options);
+
+        final long hits = options.getActiveContextCache().stats().hitCount();
+
+        assertEquals(
+                parse("[{\"@id\":\"https://a.example/x\",\"https://bundled.example/vocab#name\":[{\"@value\":\"test\"}],\"https://bundled.example/vocab#knows\":[{\"@id\":\"https://a.example/y\"}]}]"),
+                JsonLd.expand(JsonDocument.of(parse("{\"@context\":\"" + BUNDLED + "\",\"@id\":\"https://a.example/x\",\"name\":\"test\",\"knows\":\"https://a.example/y\"}")))
+                        .options(options)
+                        .get());
+
+        assertTrue(options.getActiveContextCache().stats().hitCount() > hits);
+        assertEquals(0, fallback.requests.get());
+    }
+
+    @Test
+    void testPreloadIndependentOfBase() throws JsonLdError {
+
+        final CountingLoader fallback = new CountingLoader();
+        final BundledContextLoader loader = new BundledContextLoader(fallback);
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+
+        loader.preload(options);
+
+        final long misses = options.getActiveContextCache().stats().missCount();
+
+        options.setBase(URI.create("https://base.example/"));
+
+        final JsonDocument document = JsonDocument.of(parse("{\"@context\":\"" + BUNDLED + "\",\"@id\":\"x\",\"name\":\"test\"}"));
+        document.setDocumentUrl(URI.create("https://document.example/"));
+
+        assertEquals(
+                parse("[{\"@id\":\"https://base.example/x\",\"https://bundled.example/vocab#name\":[{\"@value\":\"test\"}]}]"),
+                JsonLd.expand(document).options(options).get());
+
+        // the preloaded context is reused regardless of the base IRI
+        assertEquals(misses, options.getActiveContextCache().stats().missCount());
+    }
+
+    @Test
+    void testRelativeVocabulary() throws JsonLdError {
+
+        final BundledContextLoader loader = new BundledContextLoader(null)
+                .set("https://bundled.example/relative", "com/apicatalog/jsonld/loader/bundled/relative.jsonld");
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+
+        loader.preload(options);
+
+        // a context resolving @vocab against the base IRI is not shared
+        for (final String base : new String[] { "https://a.example/", "https://b.example/" }) {
+
+            options.setBase(URI.create(base));
+
+            assertEquals(
+                    parse("[{\"" + base + "vocab#name\":[{\"@value\":\"test\"}]}]"),
+                    JsonLd.expand(JsonDocument.of(parse("{\"@context\":\"https://bundled.example/relative\",\"name\":\"test\"}")))
+                            .options(options)
+                            .get());
+        }
+    }
+
+    static final JsonStructure parse(String json) {
+        return JsonProvider.instance().createReader(new StringReader(json)).read();
+    }
+}
@@ -53,7 +53,8 @@ class DocumentResolverTest {
 
     @Test
     void test5() throws JsonLdError {
-        assertThrows(JsonLdError.class, () -> (new DocumentResolver()).getReader(MediaType.HTML));
+        DocumentReader<InputStream> reader = (new DocumentResolver()).getReader(MediaType.HTML);
+        assertNotNull(reader);
     }
 
     @Test
@@ -67,7 +68,15 @@ class DocumentResolverTest {
     @Test
     void test7() throws JsonLdError {
         DocumentResolver resolver = new DocumentResolver();
-        resolver.setFallbackContentType(MediaType.XHTML);
+        resolver.setFallbackContentType(MediaType.N_QUADS);
+        DocumentReader<InputStream> reader = resolver.getReader(MediaType.of("text/plain"));
+        assertNotNull(reader);
+    }
+
+    @Test
+    void test10() throws JsonLdError {
+        DocumentResolver resolver = new DocumentResolver();
+        resolver.setFallbackContentType(MediaType.of("application/pdf"));
         assertThrows(JsonLdError.class, () -> resolver.getReader(MediaType.of("text/plain")));
     }
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.json.JsonProvider;
+
+import jakarta.json.JsonStructure;
+
+class HtmlDocumentReaderTest {
+
+    static final URI URL = URI.create("https://example.com/page.html");
+
+    @Test
+    void testRawText() throws JsonLdError {
+
+        final Document document = read(URL, new DocumentLoaderOptions(),
+                "<!DOCTYPE html><HTML><HEAD>"
+                + "<!-- <script type=\"application/ld+json\">{\"a\":1}</script> -->"
+                + "<style>p::after { content: \"<script>\" }</style>"
+                + "<SCRIPT TYPE='Application/LD+JSON; charset=utf-8'>{\"a\":\"</scr</b><SCRIPT>\"}</Script >"
+                + "</HEAD></HTML>");
+
+        assertEquals(parse("{\"a\":\"</scr</b><SCRIPT>\"}"), document.getJsonContent().get());
+        assertEquals(URL, document.getDocumentUrl());
+    }
+
+    @Test
+    void testProfile() throws JsonLdError {
+
+        final DocumentLoaderOptions options = new DocumentLoaderOptions();
+        options.setProfile("https://example.com/profile");
+
+        final String html = "<html><head>"
+                + "<script type=\"application/ld+json\">{\"a\":1}</script>"
+                + "<script type='application/ld+json;profile=\"https://example.com/other https://example.com/profile\"'>{\"a\":2}</script>"
+                + "</head></html>";
+
+        assertEquals(parse("{\"a\":2}"), read(URL, options, html).getJsonContent().get());
+
+        options.setProfile("https://example.com/unknown");
+
+        assertEquals(parse("{\"a\":1}"), read(URL, options, html).getJsonContent().get());
+    }
+
+    @Test
+    void testBase() throws JsonLdError {
+
+        final Document document = read(URL, new DocumentLoaderOptions(),
+                "<html><head><base href=\"../docs/\" target=_blank><script type=application/ld+json>[]</script></head></html>");
+
+        assertEquals(URI.create("https://example.com/docs/"), document.getDocumentUrl());
+    }
+
+    @Test
+    void testStopsWhenFound() throws JsonLdError {
+
+        final InputStream html = new SequenceInputStream(
+                new ByteArrayInputStream("<html><head><script type=\"application/ld+json\">{\"a\":1}</script></head><body>".getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Read after the script element.");
+                    }
+                });
+
+        assertEquals(parse("{\"a\":1}"), new HtmlDocumentReader(URL, new DocumentLoaderOptions()).read(html).getJsonContent().get());
+    }
+
+    @Test
+    void testNotJsonLdFragment() {
+
+        final JsonLdError error = assertThrows(JsonLdError.class, () -> read(URI.create(URL + "#data"), new DocumentLoaderOptions(),
+                "<html><head><script id=data type=\"application/json\">{}</script></head></html>"));
+
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+    }
+
+    @Test
+    void testInvalidScript() {
+
+        final DocumentLoaderOptions options = new DocumentLoaderOptions();
+        options.setExtractAllScripts(true);
+
+        final JsonLdError error = assertThrows(JsonLdError.class, () -> read(URL, options,
+                "<html><head><script type=\"application/ld+json\">{}</script><script type=\"application/ld+json\">{</script></head></html>"));
+
+        assertEquals(JsonLdErrorCode.INVALID_SCRIPT_ELEMENT, error.getCode());
+    }
+
+    static final Document read(URI url, DocumentLoaderOptions options, String html) throws JsonLdError {
+        return new HtmlDocumentReader(url, options).read(new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static final JsonStructure parse(String json) {
+        return JsonProvider.instance().createReader(new StringReader(json)).read();
+    }
+}
@@ -15,10 +15,18 @@
  */
 package com.apicatalog.jsonld.loader;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +34,9 @@ import org.junit.jupiter.api.Test;
 
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.test.JsonLdManifestLoader;
 import com.apicatalog.jsonld.test.JsonLdMockServer;
@@ -35,6 +45,8 @@ import com.apicatalog.jsonld.test.JsonLdTestRunnerJunit;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 
+import jakarta.json.Json;
+
 class HttpLoaderTest {
 
     WireMockServer wireMockServer;
@@ -104,4 +116,37 @@ class HttpLoaderTest {
         }
     }
 
+    @Test
+    void testAsyncRedirect() throws Exception {
+
+        wireMockServer.stubFor(get(urlEqualTo("/start"))
+                .willReturn(aResponse().withStatus(302).withHeader("Location", "/target")));
+
+        wireMockServer.stubFor(get(urlEqualTo("/target"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/ld+json")
+                        .withBody("{\"@id\":\"urn:example:1\"}")));
+
+        final Document document = HttpLoader.defaultInstance()
+                .loadDocumentAsync(URI.create(wireMockServer.baseUrl() + "/start"), new DocumentLoaderOptions())
+                .get();
+
+        assertEquals(URI.create(wireMockServer.baseUrl() + "/target"), document.getDocumentUrl());
+        assertEquals(Json.createObjectBuilder().add("@id", "urn:example:1").build(), document.getJsonContent().get());
+    }
+
+    @Test
+    void testAsyncNotFound() {
+
+        wireMockServer.stubFor(get(urlEqualTo("/missing")).willReturn(aResponse().withStatus(404)));
+
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> HttpLoader.defaultInstance()
+                            .loadDocumentAsync(URI.create(wireMockServer.baseUrl() + "/missing"), new DocumentLoaderOptions())
+                            .get());
+
+        assertTrue(e.getCause() instanceof JsonLdError);
+        assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, ((JsonLdError) e.getCause()).getCode());
+    }
 }
@@ -1,6 +1,7 @@
 package com.apicatalog.jsonld.loader;
 
 import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import jakarta.json.JsonValue;
@@ -14,6 +15,13 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class LRUDocumentCacheTest {
 
@@ -168,5 +176,164 @@ public class LRUDocumentCacheTest {
         Assertions.assertEquals(2, loader.requests.size());
     }
 
+    static class SlowLoader implements DocumentLoader {
 
+        final AtomicInteger requests = new AtomicInteger();
+
+        final JsonLdError error;
+
+        SlowLoader(JsonLdError error) {
+            this.error = error;
+        }
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (error != null) {
+                throw error;
+            }
+            return JsonDocument.of(JsonValue.EMPTY_JSON_ARRAY);
+        }
+    }
+
+    @Test
+    void testConcurrentLoadsCoalesced() throws Exception {
+        SlowLoader loader = new SlowLoader(null);
+        LRUDocumentCache cachedLoader = new LRUDocumentCache(loader, 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Document>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> cachedLoader.loadDocument(URI.create("http://localhost/1"), new DocumentLoaderOptions())));
+            }
+
+            Document document = results.get(0).get();
+            Assertions.assertNotNull(document);
+
+            for (Future<Document> result : results) {
+                Assertions.assertSame(document, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(1, loader.requests.get());
+    }
+
+    @Test
+    void testConcurrentLoadsShareError() throws Exception {
+        JsonLdError error = new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
+        SlowLoader loader = new SlowLoader(error);
+        LRUDocumentCache cachedLoader = new LRUDocumentCache(loader, 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Document>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(executor.submit(() -> cachedLoader.loadDocument(URI.create("http://localhost/1"), new DocumentLoaderOptions())));
+            }
+
+            for (Future<Document> result : results) {
+                ExecutionException e = Assertions.assertThrows(ExecutionException.class, result::get);
+                Assertions.assertSame(error, e.getCause());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(1, loader.requests.get());
+
+        // errors are not cached
+        Assertions.assertThrows(JsonLdError.class, () -> cachedLoader.loadDocument(URI.create("http://localhost/1"), new DocumentLoaderOptions()));
+        Assertions.assertEquals(2, loader.requests.get());
+    }
+
+    @Test
+    void testAsyncLoadsCoalesced() throws Exception {
+        SlowLoader loader = new SlowLoader(null);
+        LRUDocumentCache cachedLoader = new LRUDocumentCache(loader, 2);
+
+        List<CompletableFuture<Document>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(cachedLoader.loadDocumentAsync(URI.create("http://localhost/1"), new DocumentLoaderOptions()));
+        }
+
+        Document document = results.get(0).get();
+        Assertions.assertNotNull(document);
+
+        for (CompletableFuture<Document> result : results) {
+            Assertions.assertSame(document, result.get());
+        }
+
+        // a cached document is returned immediately
+        Assertions.assertSame(document, cachedLoader.loadDocumentAsync(URI.create("http://localhost/1"), new DocumentLoaderOptions()).getNow(null));
+        Assertions.assertEquals(1, loader.requests.get());
+    }
+
+    @Test
+    void testAsyncLoadsShareError() throws Exception {
+        JsonLdError error = new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
+        SlowLoader loader = new SlowLoader(error);
+        LRUDocumentCache cachedLoader = new LRUDocumentCache(loader, 2);
+
+        List<CompletableFuture<Document>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(cachedLoader.loadDocumentAsync(URI.create("http://localhost/1"), new DocumentLoaderOptions()));
+        }
+
+        for (CompletableFuture<Document> result : results) {
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class, result::get);
+            Assertions.assertSame(error, e.getCause());
+        }
+
+        Assertions.assertEquals(1, loader.requests.get());
+    }
+
+    @Test
+    void testCancelledAsyncLoad() throws Exception {
+        SlowLoader loader = new SlowLoader(null);
+        LRUDocumentCache cachedLoader = new LRUDocumentCache(loader, 2);
+
+        CompletableFuture<Document> cancelled = cachedLoader.loadDocumentAsync(URI.create("http://localhost/1"), new DocumentLoaderOptions());
+        CompletableFuture<Document> shared = cachedLoader.loadDocumentAsync(URI.create("http://localhost/1"), new DocumentLoaderOptions());
+
+        Assertions.assertTrue(cancelled.cancel(false));
+
+        // other requests are not affected
+        Document document = shared.get();
+        Assertions.assertNotNull(document);
+        Assertions.assertSame(document, cachedLoader.loadDocument(URI.create("http://localhost/1"), new DocumentLoaderOptions()));
+
+        Assertions.assertEquals(1, loader.requests.get());
+    }
+
+    @Test
+    void testAsyncLoadUsesExecutor() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        DocumentLoader loader = (url, options) -> {
+            thread.set(Thread.currentThread().getName());
+            return JsonDocument.of(JsonValue.EMPTY_JSON_ARRAY);
+        };
+
+        LRUDocumentCache cachedLoader = new LRUDocumentCache(new SchemeRouter().set("http", loader), 2);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "loader-executor"));
+
+        try {
+            Assertions.assertNotNull(cachedLoader.loadDocumentAsync(URI.create("http://localhost/1"), new DocumentLoaderOptions(), executor).get());
+
+            // a blocking loader behind the router is called by the given executor
+            Assertions.assertEquals("loader-executor", thread.get());
+
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
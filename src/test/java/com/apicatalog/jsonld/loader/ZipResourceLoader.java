@@ -79,6 +79,9 @@ public class ZipResourceLoader implements DocumentLoader, TestLoader {
             } else if (zipEntry.getName().endsWith(".jsonld")) {
                 reader = resolver.getReader(MediaType.JSON_LD);
 
+            } else if (zipEntry.getName().endsWith(".html")) {
+                reader = resolver.getReader(MediaType.HTML, url, options);
+
             } else {
                 return null;
             }
@@ -86,7 +89,10 @@ public class ZipResourceLoader implements DocumentLoader, TestLoader {
             try (final InputStream is = zip.getInputStream(zipEntry)) {
 
                 final Document document = reader.read(is);
-                document.setDocumentUrl(url);
+
+                if (document.getDocumentUrl() == null) {
+                    document.setDocumentUrl(url);
+                }
 
                 return document;
             }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.jsonld.JsonLd;
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.json.JsonProvider;
+import com.apicatalog.jsonld.loader.AsyncDocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonStructure;
+
+class ContextPrefetcherTest {
+
+    static final Map<String, String> CONTEXTS = new HashMap<>();
+
+    static {
+        CONTEXTS.put("https://a.example/c1", "{\"@context\":{\"@import\":\"c3\",\"knows\":{\"@id\":\"https://v.example/knows\",\"@type\":\"@id\"}}}");
+        CONTEXTS.put("https://a.example/c2", "{\"@context\":{\"Person\":{\"@id\":\"https://v.example/Person\",\"@context\":\"https://a.example/c4\"}}}");
+        CONTEXTS.put("https://a.example/c3", "{\"@context\":{\"name\":\"https://v.example/name\"}}");
+        CONTEXTS.put("https://a.example/c4", "{\"@context\":{\"label\":\"https://v.example/label\"}}");
+    }
+
+    static final String INPUT = "{\"@context\":[\"https://a.example/c1\",\"https://a.example/c2\"],"
+                                    + "\"@id\":\"https://a.example/x\",\"@type\":\"Person\",\"name\":\"x\",\"label\":\"y\",\"knows\":\"https://a.example/y\"}";
+
+    static class SlowLoader implements DocumentLoader {
+
+        final Map<URI, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+
+            requests.computeIfAbsent(url, u -> new AtomicInteger()).incrementAndGet();
+
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+
+            try {
+                Thread.sleep(100);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+            } finally {
+                active.decrementAndGet();
+            }
+
+            final String context = CONTEXTS.get(url.toString());
+
+            if (context == null) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED);
+            }
+
+            final Document document = JsonDocument.of(parse(context));
+            document.setDocumentUrl(url);
+            return document;
+        }
+    }
+
+    @Test
+    void testPrefetchedExpansion() throws JsonLdError {
+
+        final SlowLoader sequential = new SlowLoader();
+
+        final JsonArray expected = JsonLd.expand(JsonDocument.of(parse(INPUT))).loader(sequential).get();
+
+        assertEquals(1, sequential.maxActive.get());
+
+        final SlowLoader loader = new SlowLoader();
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+        options.setContextPrefetch(true);
+
+        assertEquals(expected, JsonLd.expand(JsonDocument.of(parse(INPUT))).options(options).get());
+
+        // top-level contexts are requested concurrently
+        assertTrue(loader.maxActive.get() > 1);
+
+        // each context is requested once
+        assertEquals(4, loader.requests.size());
+        loader.requests.values().forEach(count -> assertEquals(1, count.get()));
+    }
+
+    @Test
+    void testPrefetchedCompaction() throws JsonLdError {
+
+        final JsonLdOptions options = new JsonLdOptions(new SlowLoader());
+
+        final JsonStructure expected = JsonLd.compact(JsonDocument.of(parse(INPUT)), JsonDocument.of(parse(INPUT))).options(options).get();
+
+        final SlowLoader loader = new SlowLoader();
+
+        final JsonLdOptions prefetchOptions = new JsonLdOptions(loader);
+        prefetchOptions.setContextPrefetch(true);
+
+        assertEquals(expected, JsonLd.compact(JsonDocument.of(parse(INPUT)), JsonDocument.of(parse(INPUT))).options(prefetchOptions).get());
+
+        loader.requests.values().forEach(count -> assertEquals(1, count.get()));
+    }
+
+    @Test
+    void testFailedPrefetch() {
+
+        final JsonLdOptions options = new JsonLdOptions(new SlowLoader());
+        options.setContextPrefetch(true);
+
+        // an error is reported by the processing as if not prefetched
+        final JsonLdError error = assertThrows(JsonLdError.class,
+                () -> JsonLd.expand(JsonDocument.of(parse("{\"@context\":\"https://a.example/missing\",\"name\":\"x\"}"))).options(options).get());
+
+        assertEquals(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, error.getCode());
+    }
+
+    @Test
+    void testPrefetchedAsyncExpansion() throws JsonLdError {
+
+        final JsonArray expected = JsonLd.expand(JsonDocument.of(parse(INPUT))).loader(new SlowLoader()).get();
+
+        final AsyncLoader loader = new AsyncLoader();
+
+        final JsonLdOptions options = new JsonLdOptions(loader);
+        options.setContextPrefetch(true);
+
+        assertEquals(expected, JsonLd.expand(JsonDocument.of(parse(INPUT))).options(options).getAsync().join());
+
+        // all the contexts are loaded before the processing starts
+        assertEquals(0, loader.blocking.get());
+        assertEquals(4, loader.requests.size());
+        loader.requests.values().forEach(count -> assertEquals(1, count.get()));
+    }
+
+    @Test
+    void testAsyncExpansion() throws JsonLdError {
+
+        final JsonArray expected = JsonLd.expand(JsonDocument.of(parse(INPUT))).loader(new SlowLoader()).get();
+
+        final AsyncLoader loader = new AsyncLoader();
+
+        assertEquals(expected, JsonLd.expand(JsonDocument.of(parse(INPUT))).loader(loader).getAsync().join());
+
+        // contexts are loaded by the processing without a blocking call
+        assertEquals(0, loader.blocking.get());
+        assertEquals(4, loader.requests.size());
+    }
+
+    static class AsyncLoader implements AsyncDocumentLoader {
+
+        final SlowLoader loader = new SlowLoader();
+
+        final Map<URI, AtomicInteger> requests = loader.requests;
+
+        final AtomicInteger blocking = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<Document> loadDocumentAsync(URI url, DocumentLoaderOptions options) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loader.loadDocument(url, options);
+
+                } catch (JsonLdError e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+
+        @Override
+        public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+            blocking.incrementAndGet();
+            return AsyncDocumentLoader.super.loadDocument(url, options);
+        }
+    }
+
+    static final JsonStructure parse(String json) {
+        return JsonProvider.instance().createReader(new StringReader(json)).read();
+    }
+}
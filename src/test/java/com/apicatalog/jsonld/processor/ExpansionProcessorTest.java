@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.flattening.Flattening;
+import com.apicatalog.jsonld.flattening.NodeMap;
+import com.apicatalog.jsonld.flattening.NodeMapBuilder;
+import com.apicatalog.jsonld.lang.Keywords;
+
+class ExpansionProcessorTest {
+
+    static Stream<String> inputs() {
+        return Stream.of(
+                // a top-level array
+                "[{\"@id\":\"https://a.example/1\",\"https://v.example/p\":{\"https://v.example/q\":\"x\"}},"
+                        + "\"free-floating\",[{\"https://v.example/p\":[1,2]}],null]",
+                // a top-level @graph
+                "{\"@context\":{\"@vocab\":\"https://v.example/\"},\"@graph\":[{\"p\":{\"q\":\"x\"}},{\"@id\":\"_:b0\",\"p\":\"y\"},\"z\"]}",
+                // an aliased @graph
+                "{\"@context\":{\"@vocab\":\"https://v.example/\",\"data\":\"@graph\"},\"data\":[{\"p\":{\"q\":\"x\"}},{\"@type\":\"T\"}]}",
+                // a named graph, not unwrapped
+                "{\"@context\":{\"@vocab\":\"https://v.example/\"},\"@id\":\"https://a.example/g\",\"@graph\":[{\"p\":{\"q\":\"x\"}}]}",
+                // a single @graph object
+                "{\"@context\":{\"@vocab\":\"https://v.example/\"},\"@graph\":{\"p\":{\"q\":\"x\"}}}",
+                // a non-propagated context
+                "{\"@context\":{\"@vocab\":\"https://v.example/\",\"@propagate\":false,\"p\":{\"@context\":{\"q\":\"https://w.example/q\"}}},"
+                        + "\"@graph\":[{\"p\":{\"q\":\"x\",\"r\":{\"q\":\"y\"}}}]}",
+                // a top-level node
+                "{\"@id\":\"https://a.example/1\",\"https://v.example/p\":{\"@list\":[{\"https://v.example/q\":\"x\"}]}}",
+                // a top-level node with an inline context
+                "{\"@context\":{\"@vocab\":\"https://v.example/\",\"T\":{\"@context\":{\"p\":\"https://w.example/p\"}}},"
+                        + "\"@type\":\"T\",\"p\":{\"q\":\"x\"},\"r\":[\"y\"]}",
+                // a top-level node with a non-propagated context
+                "{\"@context\":{\"@vocab\":\"https://v.example/\",\"@propagate\":false},\"p\":{\"q\":\"x\"}}"
+                );
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void testExpandToNodeMap(final String input) throws JsonLdError {
+
+        final Document document = JsonDocument.of(new StringReader(input));
+
+        final JsonLdOptions options = new JsonLdOptions();
+        options.setOrdered(true);
+
+        final NodeMap expected = NodeMapBuilder.with(ExpansionProcessor.expand(document, options, false), new NodeMap()).build();
+
+        final NodeMap result = ExpansionProcessor.expandToNodeMap(document, options);
+
+        assertEquals(
+                Flattening.with(expected).ordered(true).flatten(),
+                Flattening.with(result).ordered(true).flatten());
+    }
+
+    @Test
+    void testInlineContextProcessedOnce() throws JsonLdError {
+
+        final AtomicInteger imports = new AtomicInteger();
+
+        final JsonLdOptions options = new JsonLdOptions((url, loaderOptions) -> {
+            imports.incrementAndGet();
+            return JsonDocument.of(new StringReader("{\"@context\":{\"@vocab\":\"https://v.example/\"}}"));
+        });
+        options.setContextPrefetch(false);
+
+        final Document document = JsonDocument.of(new StringReader("{\"@context\":{\"@import\":\"https://c.example/context\"},\"@id\":\"https://a.example/1\",\"p\":\"x\"}"));
+
+        final NodeMap result = ExpansionProcessor.expandToNodeMap(document, options);
+
+        assertEquals(1, imports.get());
+        assertEquals(1, result.subjects(Keywords.DEFAULT).size());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.jsonld.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.rdf.Rdf;
+import com.apicatalog.rdf.RdfComparison;
+import com.apicatalog.rdf.RdfDataset;
+
+class StreamingToRdfTest {
+
+    static Stream<String> inputs() {
+        return Stream.of(
+                // a top-level array
+                "[{\"@id\":\"https://a.example/1\",\"https://v.example/p\":{\"@id\":\"_:x\",\"https://v.example/q\":\"x\"}},"
+                        + "\"free-floating\",{\"@id\":\"_:x\",\"https://v.example/r\":[1,2]}]",
+                // a top-level @graph
+                "{\"@context\":{\"@vocab\":\"https://v.example/\"},\"@graph\":[{\"p\":{\"q\":\"x\"}},{\"@id\":\"_:b0\",\"p\":{\"@list\":[1,2]}}]}",
+                // an aliased @graph
+                "{\"@context\":{\"@vocab\":\"https://v.example/\",\"data\":\"@graph\"},\"data\":[{\"@id\":\"https://a.example/1\",\"@type\":\"T\"}]}",
+                // a named graph, not stream-safe
+                "{\"@context\":{\"@vocab\":\"https://v.example/\"},\"@id\":\"https://a.example/g\",\"@graph\":[{\"p\":{\"q\":\"x\"}}]}",
+                // a top-level node, not stream-safe
+                "{\"@id\":\"https://a.example/1\",\"https://v.example/p\":\"x\"}"
+                );
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void testToRdf(final String input) throws JsonLdError {
+
+        final RdfDataset expected = ToRdfProcessor.toRdf(JsonDocument.of(new StringReader(input)), new JsonLdOptions());
+
+        final RdfDataset result = Rdf.createDataset();
+
+        ToRdfProcessor.toRdf(new StringReader(input), new JsonLdOptions(), result::add, false);
+
+        assertTrue(RdfComparison.equals(expected, result));
+    }
+
+    @Test
+    void testEntryAfterGraph() {
+
+        final String input = "{\"@graph\":[{\"@id\":\"https://a.example/1\",\"https://v.example/p\":\"x\"}],\"@id\":\"https://a.example/g\"}";
+
+        final AtomicInteger count = new AtomicInteger();
+
+        final JsonLdError error = assertThrows(JsonLdError.class, () -> ToRdfProcessor.toRdf(new StringReader(input), new JsonLdOptions(), nquad -> count.incrementAndGet(), false));
+
+        assertEquals(JsonLdErrorCode.NOT_STREAM_SAFE_DOCUMENT, error.getCode());
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void testStreaming() throws JsonLdError {
+
+        final int nodes = 10000;
+
+        final StringBuilder input = new StringBuilder("{\"@context\":{\"@vocab\":\"https://v.example/\"},\"@graph\":[");
+
+        for (int i = 0; i < nodes; i++) {
+            if (i > 0) {
+                input.append(',');
+            }
+            input.append("{\"@id\":\"https://a.example/").append(i).append("\",\"p\":\"value ").append(i).append("\"}");
+        }
+        input.append("]}");
+
+        final AtomicBoolean eof = new AtomicBoolean();
+        final AtomicBoolean emittedBeforeEof = new AtomicBoolean();
+        final AtomicInteger count = new AtomicInteger();
+
+        final Reader reader = new StringReader(input.toString()) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                final int read = super.read(cbuf, off, len);
+                if (read == -1) {
+                    eof.set(true);
+                }
+                return read;
+            }
+        };
+
+        ToRdfProcessor.toRdf(reader, new JsonLdOptions(), nquad -> {
+            if (!eof.get()) {
+                emittedBeforeEof.set(true);
+            }
+            count.incrementAndGet();
+        }, false);
+
+        assertEquals(nodes, count.get());
+        assertTrue(emittedBeforeEof.get());
+    }
+}
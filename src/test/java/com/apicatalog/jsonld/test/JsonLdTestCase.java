@@ -217,6 +217,7 @@ public final class JsonLdTestCase {
         TO_RDF_TEST,
         FROM_RDF_TEST,
         FRAME_TEST,
+        HTML_TEST,
 
         POSITIVE_EVALUATION_TEST,
         NEGATIVE_EVALUATION_TEST,
@@ -242,6 +243,8 @@ public final class JsonLdTestCase {
                 return FROM_RDF_TEST;
             case "jld:FrameTest":
                 return FRAME_TEST;
+            case "jld:HtmlTest":
+                return HTML_TEST;
 
             case "jld:PositiveEvaluationTest":
                 return POSITIVE_EVALUATION_TEST;
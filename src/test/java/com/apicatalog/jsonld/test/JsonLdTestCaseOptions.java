@@ -40,6 +40,7 @@ public class JsonLdTestCaseOptions {
     public Boolean omitGraph;
     public Boolean numericId;
     public Boolean rdfStar;
+    public Boolean extractAllScripts;
 
     public static final JsonLdTestCaseOptions of(JsonObject o, String baseUri) {
 
@@ -94,6 +95,10 @@ public class JsonLdTestCaseOptions {
             options.rdfStar = o.getBoolean("rdfstar");
         }
 
+        if (o.containsKey("extractAllScripts")) {
+            options.extractAllScripts = o.getBoolean("extractAllScripts");
+        }
+
         return options;
     }
 
@@ -146,5 +151,9 @@ public class JsonLdTestCaseOptions {
         if (rdfStar != null) {
             options.setRdfStar(rdfStar);
         }
+
+        if (extractAllScripts != null) {
+            options.setExtractAllScripts(extractAllScripts);
+        }
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfResource;
+import com.apicatalog.rdf.RdfTriple;
+import com.apicatalog.rdf.RdfValue;
+
+class CompactRdfDatasetTest {
+
+    @Test
+    void testRandomStatements() {
+
+        final Random random = new Random(13);
+
+        final RdfDataset expected = DefaultRdfProvider.INSTANCE.createDataset();
+        final RdfDataset dataset = CompactRdfProvider.INSTANCE.createDataset();
+
+        for (int i = 0; i < 20000; i++) {
+
+            final RdfNQuad nquad = DefaultRdfProvider.INSTANCE.createNQuad(
+                                        resource(random),
+                                        DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p" + random.nextInt(5)),
+                                        value(random),
+                                        random.nextInt(3) == 0 ? null : resource(random)
+                                        );
+
+            expected.add(nquad);
+            dataset.add(nquad);
+
+            assertEquals(expected.size(), dataset.size());
+        }
+
+        assertEquals(expected.toList(), dataset.toList());
+        assertEquals(expected.getGraphNames(), dataset.getGraphNames());
+        assertEquals(expected.getDefaultGraph().toList(), dataset.getDefaultGraph().toList());
+
+        for (final RdfResource graphName : expected.getGraphNames()) {
+            assertEquals(expected.getGraph(graphName).get().toList(), dataset.getGraph(graphName).get().toList());
+        }
+
+        for (final RdfNQuad nquad : expected.toList()) {
+            assertTrue((nquad.getGraphName().isPresent()
+                            ? dataset.getGraph(nquad.getGraphName().get()).get()
+                            : dataset.getDefaultGraph()).contains(nquad));
+        }
+
+        assertFalse(dataset.getDefaultGraph().contains(DefaultRdfProvider.INSTANCE.createTriple(
+                                DefaultRdfProvider.INSTANCE.createIRI("http://example.com/unknown"),
+                                DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p1"),
+                                DefaultRdfProvider.INSTANCE.createIRI("http://example.com/s1"))));
+    }
+
+    @Test
+    void testMatch() {
+
+        final Random random = new Random(14);
+
+        final RdfDataset expected = DefaultRdfProvider.INSTANCE.createDataset();
+        final RdfDataset dataset = CompactRdfProvider.INSTANCE.createDataset();
+
+        for (int i = 0; i < 5000; i++) {
+
+            final RdfNQuad nquad = DefaultRdfProvider.INSTANCE.createNQuad(
+                                        resource(random),
+                                        DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p" + random.nextInt(5)),
+                                        value(random),
+                                        random.nextInt(3) == 0 ? null : DefaultRdfProvider.INSTANCE.createIRI("http://example.com/g" + random.nextInt(3))
+                                        );
+
+            expected.add(nquad);
+            dataset.add(nquad);
+
+            // indexes are rebuilt after additions
+            if (i % 1000 == 999) {
+
+                for (int j = 0; j < 200; j++) {
+
+                    final RdfResource subject = random.nextBoolean() ? resource(random) : null;
+                    final RdfResource predicate = random.nextBoolean() ? DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p" + random.nextInt(5)) : null;
+                    final RdfValue object = random.nextBoolean() ? value(random) : null;
+                    final RdfResource graphName = random.nextBoolean() ? DefaultRdfProvider.INSTANCE.createIRI("http://example.com/g" + random.nextInt(4)) : null;
+
+                    final List<RdfNQuad> scan = scan(expected.toList(), subject, predicate, object, graphName);
+
+                    assertEquals(new HashSet<>(scan), new HashSet<>(expected.match(subject, predicate, object, graphName)));
+                    assertEquals(new HashSet<>(scan), new HashSet<>(dataset.match(subject, predicate, object, graphName)));
+                    assertEquals(scan.size(), dataset.match(subject, predicate, object, graphName).size());
+
+                    final List<RdfTriple> defaultGraph = expected.getDefaultGraph().toList().stream()
+                                    .filter(triple -> (subject == null || subject.equals(triple.getSubject()))
+                                                        && (predicate == null || predicate.equals(triple.getPredicate()))
+                                                        && (object == null || object.equals(triple.getObject())))
+                                    .collect(Collectors.toList());
+
+                    assertEquals(new HashSet<>(defaultGraph), new HashSet<>(expected.getDefaultGraph().match(subject, predicate, object)));
+                    assertEquals(new HashSet<>(defaultGraph), new HashSet<>(dataset.getDefaultGraph().match(subject, predicate, object)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testInterleavedMatch() {
+
+        final Random random = new Random(15);
+
+        final RdfDataset expected = DefaultRdfProvider.INSTANCE.createDataset();
+        final RdfDataset dataset = CompactRdfProvider.INSTANCE.createDataset();
+
+        for (int i = 0; i < 20000; i++) {
+
+            final RdfNQuad nquad = DefaultRdfProvider.INSTANCE.createNQuad(
+                                        resource(random),
+                                        DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p" + random.nextInt(5)),
+                                        value(random),
+                                        random.nextInt(3) == 0 ? null : DefaultRdfProvider.INSTANCE.createIRI("http://example.com/g" + random.nextInt(3))
+                                        );
+
+            expected.add(nquad);
+            dataset.add(nquad);
+
+            // indexes are updated after each addition
+            assertTrue(dataset.match(nquad.getSubject(), null, null, null).contains(nquad));
+            assertTrue(dataset.match(null, nquad.getPredicate(), nquad.getObject(), null).contains(nquad));
+            assertTrue(dataset.match(null, null, nquad.getObject(), null).contains(nquad));
+
+            if (i % 2000 == 1999) {
+
+                final RdfResource subject = resource(random);
+                final RdfResource predicate = DefaultRdfProvider.INSTANCE.createIRI("http://example.com/p" + random.nextInt(5));
+                final RdfValue object = value(random);
+
+                assertEquals(new HashSet<>(scan(expected.toList(), subject, predicate, null, null)), new HashSet<>(dataset.match(subject, predicate, null, null)));
+                assertEquals(new HashSet<>(scan(expected.toList(), null, predicate, object, null)), new HashSet<>(dataset.match(null, predicate, object, null)));
+                assertEquals(new HashSet<>(scan(expected.toList(), null, null, object, null)), new HashSet<>(dataset.match(null, null, object, null)));
+            }
+        }
+    }
+
+    private static final List<RdfNQuad> scan(final List<RdfNQuad> nquads, final RdfResource subject, final RdfResource predicate, final RdfValue object, final RdfResource graphName) {
+        return nquads.stream()
+                .filter(nquad -> (subject == null || subject.equals(nquad.getSubject()))
+                                    && (predicate == null || predicate.equals(nquad.getPredicate()))
+                                    && (object == null || object.equals(nquad.getObject()))
+                                    && (graphName == null || graphName.equals(nquad.getGraphName().orElse(null))))
+                .collect(Collectors.toList());
+    }
+
+    private static final RdfResource resource(final Random random) {
+        return random.nextBoolean()
+                    ? DefaultRdfProvider.INSTANCE.createIRI("http://example.com/s" + random.nextInt(50))
+                    : DefaultRdfProvider.INSTANCE.createBlankNode("_:b" + random.nextInt(50));
+    }
+
+    private static final RdfValue value(final Random random) {
+        switch (random.nextInt(3)) {
+        case 0:
+            return resource(random);
+        case 1:
+            return DefaultRdfProvider.INSTANCE.createLangString("v" + random.nextInt(50), "en");
+        default:
+            return DefaultRdfProvider.INSTANCE.createTypedString("v" + random.nextInt(50), "http://example.com/t");
+        }
+    }
+}
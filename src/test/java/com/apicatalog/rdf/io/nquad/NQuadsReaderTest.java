@@ -22,16 +22,22 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import com.apicatalog.rdf.RdfDataset;
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.RdfResource;
 import com.apicatalog.rdf.io.error.RdfReaderException;
 import com.apicatalog.rdf.io.nquad.reader.NQuadsReaderTestCase;
 import com.apicatalog.rdf.io.nquad.reader.NQuadsReaderTestCase.Type;
@@ -72,6 +78,60 @@ class NQuadsReaderTest {
         }
     }
 
+    @Test
+    void testBufferBoundaries() throws RdfReaderException {
+
+        final StringBuilder longIri = new StringBuilder("http://example.com/");
+
+        for (int i = 0; i < 100000; i++) {
+            longIri.append((char)('a' + (i % 26)));
+        }
+
+        final String input = "<" + longIri + "> <http://example.com/p> \"a\\tb\\u00E9\\U0001F600\"@en-US . # comment\n"
+                            + "_:b1.x <http://example.com/\\u0070> _:b2 _:g1.\r\n"
+                            + "<http://example.com/s> <http://example.com/p> \"1\"^^<http://www.w3.org/2001/XMLSchema#integer> .";
+
+        // a reader returning a single character at once
+        final Reader reader = new StringReader(input) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(1, len));
+            }
+        };
+
+        final List<RdfNQuad> nquads = (new NQuadsReader(reader)).readDataset().toList();
+
+        assertEquals(3, nquads.size());
+
+        assertEquals(longIri.toString(), nquads.get(0).getSubject().getValue());
+        assertEquals("a\tb\u00E9\uD83D\uDE00", nquads.get(0).getObject().getValue());
+        assertEquals("en-US", nquads.get(0).getObject().asLiteral().getLanguage().orElse(null));
+
+        assertEquals("_:b1.x", nquads.get(1).getSubject().getValue());
+        assertEquals("http://example.com/p", nquads.get(1).getPredicate().getValue());
+        assertEquals("_:b2", nquads.get(1).getObject().getValue());
+        assertEquals("_:g1", nquads.get(1).getGraphName().map(RdfResource::getValue).orElse(null));
+
+        assertEquals("http://www.w3.org/2001/XMLSchema#integer", nquads.get(2).getObject().asLiteral().getDatatype());
+    }
+
+    @Test
+    void testRead() throws IOException, RdfReaderException {
+
+        final String input = "<http://example.com/s> <http://example.com/p> \"1\" .\n"
+                            + "<http://example.com/s> <http://example.com/p> \"1\" .\n"
+                            + "<http://example.com/s> <http://example.com/p> \"2\" .\n";
+
+        final List<RdfNQuad> nquads = new ArrayList<>();
+        (new NQuadsReader(new StringReader(input))).read(nquads::add);
+        assertEquals(3, nquads.size());
+
+        final List<RdfNQuad> unique = new ArrayList<>();
+        (new NQuadsReader(new StringReader(input))).read(unique::add, true);
+        assertEquals(2, unique.size());
+        assertEquals("2", unique.get(1).getObject().getValue());
+    }
+
     static final Stream<NQuadsReaderTestCase> data() throws ZipException, IOException, URISyntaxException {
         return (new NQuadsReaderTestSuite(TEST_SUITE_NAME, TEST_CASE_BASE_PATH + "manifest.json")).load();
     }
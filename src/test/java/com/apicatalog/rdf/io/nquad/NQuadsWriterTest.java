@@ -16,17 +16,22 @@
 package com.apicatalog.rdf.io.nquad;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -103,6 +108,66 @@ class NQuadsWriterTest {
         }
     }
 
+    @Test
+    void testEscape() {
+        final String value = "no escapes \u00e9 \ud83d\ude00";
+        assertSame(value, NQuadsWriter.escape(value));
+        assertEquals("a\\tb\\\"c\\\\d\\u0001\\u007f\\n", NQuadsWriter.escape("a\tb\"c\\d\u0001\u007f\n"));
+    }
+
+    @Test
+    void testUtf8OutputStream() throws IOException {
+
+        final RdfDataset dataset = Rdf.createDataset();
+        dataset.add(Rdf.createNQuad(
+                        Rdf.createIRI("http://example.com/\u00e9"),
+                        Rdf.createIRI("http://example.com/p"),
+                        Rdf.createLangString("\u2603 \ud83d\ude00 \"x\"\n", "en"),
+                        Rdf.createBlankNode("_:g")));
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        new NQuadsWriter(new OutputStreamWriter(expected, StandardCharsets.UTF_8)).write(dataset);
+
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        new NQuadsWriter(result).write(dataset);
+
+        assertArrayEquals(expected.toByteArray(), result.toByteArray());
+    }
+
+    @Test
+    void testWriteNQuadsToStream() throws IOException {
+
+        final RdfNQuad[] nquads = new RdfNQuad[] {
+                Rdf.createNQuad(
+                        Rdf.createIRI("http://example.com/s"),
+                        Rdf.createIRI("http://example.com/p"),
+                        Rdf.createString("\u00e9"),
+                        null),
+                Rdf.createNQuad(
+                        Rdf.createBlankNode("_:b0"),
+                        Rdf.createIRI("http://example.com/p"),
+                        Rdf.createIRI("http://example.com/o"),
+                        Rdf.createIRI("http://example.com/g"))
+        };
+
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        try (final NQuadsWriter writer = new NQuadsWriter(os)) {
+
+            writer.write(nquads[0]);
+            writer.flush();
+
+            assertEquals("<http://example.com/s> <http://example.com/p> \"\u00e9\" .\n", new String(os.toByteArray(), StandardCharsets.UTF_8));
+
+            writer.write(nquads[1]);
+        }
+
+        assertArrayEquals(
+                ("<http://example.com/s> <http://example.com/p> \"\u00e9\" .\n"
+                        + "_:b0 <http://example.com/p> <http://example.com/o> <http://example.com/g> .\n").getBytes(StandardCharsets.UTF_8),
+                os.toByteArray());
+    }
+
     static final Stream<NQuadsWriterTestCase> data() throws IOException, URISyntaxException {
         return NQuadsWriterTestSuite.load();
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apicatalog.rdf.io.nquad;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.apicatalog.rdf.RdfNQuad;
+import com.apicatalog.rdf.io.error.RdfReaderException;
+
+class ParallelNQuadsReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testOrdered() throws IOException, RdfReaderException {
+
+        final String content = nquads(5000);
+
+        final Path file = write(content);
+
+        final List<RdfNQuad> expected = new ArrayList<>();
+        new NQuadsReader(new StringReader(content)).read(expected::add);
+
+        final List<RdfNQuad> nquads = new ArrayList<>();
+        new ParallelNQuadsReader(file).chunkSize(1000).read(nquads::add);
+
+        assertEquals(expected, nquads);
+    }
+
+    @Test
+    void testUnordered() throws IOException, RdfReaderException {
+
+        final String content = nquads(5000);
+
+        final Path file = write(content);
+
+        final List<RdfNQuad> expected = new ArrayList<>();
+        new NQuadsReader(new StringReader(content)).read(expected::add);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            final List<RdfNQuad> nquads = new ArrayList<>();
+            new ParallelNQuadsReader(file).pool(pool).chunkSize(777).ordered(false).read(nquads::add);
+
+            assertEquals(expected.size(), nquads.size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(nquads));
+
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDataset() throws IOException, RdfReaderException {
+        final Path file = write(nquads(100) + nquads(100));
+        assertEquals(100, new ParallelNQuadsReader(file).chunkSize(100).readDataset().size());
+    }
+
+    @Test
+    void testInvalid() throws IOException {
+        final Path file = write(nquads(1000) + "<http://example.com/s> <http://example.com/p> .\n" + nquads(1000));
+        assertThrows(RdfReaderException.class, () -> new ParallelNQuadsReader(file).chunkSize(500).readDataset());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(dir.resolve("test.nq"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final String nquads(int count) {
+
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            builder
+                .append("<http://example.com/s").append(i).append("> ")
+                .append("<http://example.com/p> ")
+                .append("\"été ☃ ").append(i).append("\"@fr ")
+                .append(i % 2 == 0 ? "_:g" + (i % 3) : "").append(" .\n");
+        }
+        return builder.toString();
+    }
+}